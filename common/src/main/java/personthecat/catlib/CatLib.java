@@ -20,6 +20,7 @@ import personthecat.catlib.event.player.CommonPlayerEvent;
 import personthecat.catlib.event.registry.DataRegistryEvent;
 import personthecat.catlib.event.registry.RegistryAccessEvent;
 import personthecat.catlib.event.registry.RegistryAddedEvent;
+import personthecat.catlib.event.registry.RegistrySnapshot;
 import personthecat.catlib.event.world.CommonWorldEvent;
 import personthecat.catlib.event.world.FeatureModificationEvent;
 import personthecat.catlib.exception.GenericFormattedException;
@@ -54,6 +55,7 @@ public abstract class CatLib {
             ctx.addLibCommands();
         }
         ctx.registerAll();
+        GameReadyEvent.COMMON.register(RegistrySnapshot::releaseShared);
         GameReadyEvent.COMMON.register(() -> {
             if (VERSION_TRACKER.isUpgraded()) {
                 log.info("Upgrade detected. Welcome to CatLib {}", VERSION);
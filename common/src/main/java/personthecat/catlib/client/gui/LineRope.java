@@ -0,0 +1,233 @@
+package personthecat.catlib.client.gui;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * A balanced sequence of lines backing {@link TextBuffer}.
+ *
+ * <p>Lines are stored in a randomized binary search tree keyed by position (a treap),
+ * where each node tracks the number of lines, characters, and the longest line in its
+ * subtree. This allows lines to be looked up, inserted, or removed in <code>O(log n)
+ * </code> expected time, the offset of any line to be computed without visiting the
+ * lines before it, and the widest line to be known without a full scan.
+ *
+ * <p>Lines returned by {@link #get} may be modified directly, but {@link #changed}
+ * must be called afterward so that the totals along its path can be updated.
+ */
+final class LineRope {
+    private final SplittableRandom random = new SplittableRandom();
+    private @Nullable Node root;
+
+    int size() {
+        return count(this.root);
+    }
+
+    /**
+     * @return The total number of characters, including line separators.
+     */
+    int length() {
+        final int size = this.size();
+        return size == 0 ? 0 : this.root.chars + size - 1;
+    }
+
+    int maxWidth() {
+        return this.root == null ? 0 : this.root.maxWidth;
+    }
+
+    StringBuilder get(int idx) {
+        this.checkIndex(idx, this.size());
+        Node n = this.root;
+        while (true) {
+            final int left = count(n.left);
+            if (idx < left) {
+                n = n.left;
+            } else if (idx > left) {
+                idx -= left + 1;
+                n = n.right;
+            } else {
+                return n.line;
+            }
+        }
+    }
+
+    /**
+     * @return The offset of the first character in this line, counting one character
+     *         for each line separator before it.
+     */
+    int lineStart(int idx) {
+        this.checkIndex(idx, this.size() + 1);
+        int offset = 0;
+        Node n = this.root;
+        while (n != null) {
+            final int left = count(n.left);
+            if (idx <= left) {
+                n = n.left;
+            } else {
+                offset += chars(n.left) + left + n.line.length() + 1;
+                idx -= left + 1;
+                n = n.right;
+            }
+        }
+        return offset;
+    }
+
+    void changed(int idx) {
+        this.checkIndex(idx, this.size());
+        refresh(this.root, idx);
+    }
+
+    void insert(int idx, StringBuilder line) {
+        this.insert(idx, Collections.singletonList(line));
+    }
+
+    void insert(int idx, List<StringBuilder> lines) {
+        this.checkIndex(idx, this.size() + 1);
+        Node added = null;
+        for (final StringBuilder line : lines) {
+            added = merge(added, new Node(line, this.random.nextInt()));
+        }
+        final Node[] parts = split(this.root, idx);
+        this.root = merge(merge(parts[0], added), parts[1]);
+    }
+
+    /**
+     * Removes every line in <code>[from, to)</code>.
+     */
+    void remove(int from, int to) {
+        this.checkIndex(from, to + 1);
+        this.checkIndex(to, this.size() + 1);
+        final Node[] head = split(this.root, from);
+        final Node[] tail = split(head[1], to - from);
+        this.root = merge(head[0], tail[1]);
+    }
+
+    StringBuilder remove(int idx) {
+        final StringBuilder line = this.get(idx);
+        this.remove(idx, idx + 1);
+        return line;
+    }
+
+    void clear() {
+        this.root = null;
+    }
+
+    List<String> toStrings() {
+        final List<String> strings = new ArrayList<>(this.size());
+        this.forEach(line -> strings.add(line.toString()));
+        return strings;
+    }
+
+    void appendTo(final StringBuilder sb) {
+        final boolean[] first = { true };
+        this.forEach(line -> {
+            if (!first[0]) sb.append('\n');
+            sb.append(line);
+            first[0] = false;
+        });
+    }
+
+    private void forEach(final Consumer<StringBuilder> fn) {
+        final ArrayDeque<Node> stack = new ArrayDeque<>();
+        Node n = this.root;
+        while (n != null || !stack.isEmpty()) {
+            while (n != null) {
+                stack.push(n);
+                n = n.left;
+            }
+            n = stack.pop();
+            fn.accept(n.line);
+            n = n.right;
+        }
+    }
+
+    private void checkIndex(int idx, int bound) {
+        if (idx < 0 || idx >= bound) {
+            throw new IndexOutOfBoundsException("Index " + idx + " out of bounds for length " + bound);
+        }
+    }
+
+    private static void refresh(final Node n, final int idx) {
+        final int left = count(n.left);
+        if (idx < left) {
+            refresh(n.left, idx);
+        } else if (idx > left) {
+            refresh(n.right, idx - left - 1);
+        }
+        n.update();
+    }
+
+    // left contains the first k lines
+    private static Node[] split(final @Nullable Node n, final int k) {
+        if (n == null) {
+            return new Node[] { null, null };
+        }
+        final int left = count(n.left);
+        if (k <= left) {
+            final Node[] parts = split(n.left, k);
+            n.left = parts[1];
+            n.update();
+            parts[1] = n;
+            return parts;
+        }
+        final Node[] parts = split(n.right, k - left - 1);
+        n.right = parts[0];
+        n.update();
+        parts[0] = n;
+        return parts;
+    }
+
+    private static @Nullable Node merge(final @Nullable Node a, final @Nullable Node b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        if (a.priority > b.priority) {
+            a.right = merge(a.right, b);
+            a.update();
+            return a;
+        }
+        b.left = merge(a, b.left);
+        b.update();
+        return b;
+    }
+
+    private static int count(final @Nullable Node n) {
+        return n == null ? 0 : n.count;
+    }
+
+    private static int chars(final @Nullable Node n) {
+        return n == null ? 0 : n.chars;
+    }
+
+    private static int maxWidth(final @Nullable Node n) {
+        return n == null ? 0 : n.maxWidth;
+    }
+
+    private static final class Node {
+        final StringBuilder line;
+        final int priority;
+        @Nullable Node left;
+        @Nullable Node right;
+        int count;
+        int chars;
+        int maxWidth;
+
+        Node(final StringBuilder line, final int priority) {
+            this.line = line;
+            this.priority = priority;
+            this.update();
+        }
+
+        void update() {
+            final int len = this.line.length();
+            this.count = count(this.left) + count(this.right) + 1;
+            this.chars = chars(this.left) + chars(this.right) + len;
+            this.maxWidth = Math.max(len, Math.max(maxWidth(this.left), maxWidth(this.right)));
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package personthecat.catlib.client.gui;
 
 import com.mojang.blaze3d.systems.RenderSystem;
+import net.minecraft.Util;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.components.AbstractWidget;
@@ -23,11 +24,15 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class MultilineTextBox extends AbstractWidget implements TickableWidget {
     private static final long LINT_DELAY_MS = 200;
     private static final int DRAG_THRESHOLD = 4; // px
     private static final int CURSOR_SCROLL_PAD = 1;
+    private static final int LINT_CONTEXT_LINES = 8;
+    private static final int MAX_INCREMENTAL_LINES = 256;
 
     private final TextBuffer buffer;
     private final List<FormattedCharSequence> lines;
@@ -51,6 +56,11 @@ public class MultilineTextBox extends AbstractWidget implements TickableWidget {
     private int mouseDownY;
     private Linter highlights;
     private @Nullable Linter details;
+    private @Nullable CompletableFuture<?> pendingLint;
+    private final AtomicReference<LintResult> lintResult = new AtomicReference<>();
+    private volatile int generation;
+    private int lintRequests;
+    private int appliedRequest;
 
     public MultilineTextBox(String text, Linter highlights, @Nullable Linter details) {
         super(0, 0, 0, 0, Component.empty());
@@ -112,6 +122,7 @@ public class MultilineTextBox extends AbstractWidget implements TickableWidget {
     }
 
     public void refreshLines() {
+        this.buffer.consumeDirtyRange();
         this.refreshLines(this.buffer.getText());
     }
 
@@ -127,12 +138,79 @@ public class MultilineTextBox extends AbstractWidget implements TickableWidget {
     }
 
     private void onBufferUpdated() {
-        this.refreshLines();
+        this.generation++;
+        if (!this.refreshDirtyLines()) {
+            this.lintInBackground(this.highlights);
+        }
         this.resetSelection();
         this.lastEdit = System.currentTimeMillis();
         this.dirty = true;
     }
 
+    // display lines map 1:1 to buffer lines while editing, so only the edited lines are
+    // linted and split again. A few lines of context around them are linted with them,
+    // but only the edited lines are replaced. Every other line keeps its previous style
+    // until the whole text is linted after LINT_DELAY_MS.
+    // Returns false if the edit was too large and the whole text must be linted now.
+    private boolean refreshDirtyLines() {
+        final var range = this.buffer.consumeDirtyRange();
+        if (range == null) return true;
+
+        if (!this.editable || this.lines.size() != this.buffer.lineCount() - range.delta()) {
+            this.refreshLines();
+            return true;
+        }
+        final var region = this.lines.subList(range.start(), range.previousEnd() + 1);
+        region.clear();
+        if (range.end() - range.start() < MAX_INCREMENTAL_LINES) {
+            final int from = Math.max(0, range.start() - LINT_CONTEXT_LINES);
+            final int to = Math.min(this.buffer.lineCount() - 1, range.end() + LINT_CONTEXT_LINES);
+            final var split = this.font.split(this.highlights.lint(this.getLines(from, to)), 10_000);
+            if (split.size() == to - from + 1) {
+                region.addAll(split.subList(range.start() - from, range.end() - from + 1));
+                return true;
+            }
+        }
+        for (int i = range.start(); i <= range.end(); i++) {
+            region.add(FormattedCharSequence.forward(this.buffer.getLine(i), Style.EMPTY));
+        }
+        return false;
+    }
+
+    private String getLines(int from, int to) {
+        final var sb = new StringBuilder(this.buffer.getLine(from));
+        for (int i = from + 1; i <= to; i++) {
+            sb.append('\n').append(this.buffer.getLine(i));
+        }
+        return sb.toString();
+    }
+
+    private void lintInBackground(Linter linter) {
+        if (this.pendingLint != null) {
+            this.pendingLint.cancel(false);
+        }
+        final int generation = this.generation;
+        final int request = ++this.lintRequests;
+        final var text = this.buffer.getText();
+        this.pendingLint = CompletableFuture.runAsync(() -> {
+            final var result = linter.lint(text);
+            if (generation == this.generation) {
+                this.lintResult.accumulateAndGet(new LintResult(generation, request, result), LintResult::latest);
+            }
+        }, Util.backgroundExecutor());
+    }
+
+    private void applyLintResult() {
+        final var result = this.lintResult.getAndSet(null);
+        if (result == null) return;
+
+        // stale results were computed for text which no longer exists
+        if (result.generation == this.generation && result.request > this.appliedRequest) {
+            this.appliedRequest = result.request;
+            this.refreshLines(result.text);
+        }
+    }
+
     private void resetSelection() {
         this.anchorRow = this.buffer.getCursorRow();
         this.anchorCol = this.buffer.getCursorCol();
@@ -202,16 +280,17 @@ public class MultilineTextBox extends AbstractWidget implements TickableWidget {
         int topRow = Math.min(this.selStartRow(), this.selEndRow());
         int bottomRow = Math.max(this.selStartRow(), this.selEndRow());
         for (int row = topRow; row <= bottomRow; row++) {
+            final String line = this.buffer.getLine(row);
             int selStart = (row == this.selStartRow()) ? this.selStartCol() : 0;
-            int selEnd = (row == this.selEndRow()) ? this.selEndCol() : this.buffer.getLines().get(row).length();
+            int selEnd = (row == this.selEndRow()) ? this.selEndCol() : line.length();
 
-            selStart = Math.max(0, Math.min(selStart, this.buffer.getLines().get(row).length()));
-            selEnd = Math.max(0, Math.min(selEnd, this.buffer.getLines().get(row).length()));
+            selStart = Math.max(0, Math.min(selStart, line.length()));
+            selEnd = Math.max(0, Math.min(selEnd, line.length()));
 
             if (selStart == selEnd) continue;
 
-            int x1 = drawX + this.font.width(this.buffer.getLines().get(row).substring(0, selStart));
-            int x2 = drawX + this.font.width(this.buffer.getLines().get(row).substring(0, selEnd));
+            int x1 = drawX + this.font.width(line.substring(0, selStart));
+            int x2 = drawX + this.font.width(line.substring(0, selEnd));
             int y = this.getY() + (row - this.scrollY) * this.lineHeight;
             graphics.fill(x1, y, x2, y + this.lineHeight, 0x803366FF); // semi-transparent highlight
         }
@@ -289,15 +368,16 @@ public class MultilineTextBox extends AbstractWidget implements TickableWidget {
 
     @Override
     public void tick() {
+        this.applyLintResult();
         this.updateDetails();
         this.updateBlink();
     }
 
+    // edits only restyle the lines around them, so the full text is linted once the
+    // user stops typing. This also corrects any style spanning beyond the context.
     private void updateDetails() {
-        if (this.details != null
-                && this.details != this.highlights
-                && this.lastEdit > 0 && System.currentTimeMillis() - this.lastEdit >= LINT_DELAY_MS) {
-            this.refreshLines(this.details.lint(this.buffer.getText()));
+        if (this.lastEdit > 0 && System.currentTimeMillis() - this.lastEdit >= LINT_DELAY_MS) {
+            this.lintInBackground(this.details != null ? this.details : this.highlights);
             this.lastEdit = 0;
         }
     }
@@ -567,4 +647,10 @@ public class MultilineTextBox extends AbstractWidget implements TickableWidget {
     public boolean isFocused() {
         return this.focused;
     }
+
+    private record LintResult(int generation, int request, Component text) {
+        static LintResult latest(@Nullable LintResult a, LintResult b) {
+            return a != null && a.request > b.request ? a : b;
+        }
+    }
 }
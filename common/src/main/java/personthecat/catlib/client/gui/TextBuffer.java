@@ -1,24 +1,38 @@
 package personthecat.catlib.client.gui;
 
+import org.jetbrains.annotations.Nullable;
+
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class TextBuffer {
-    private final List<StringBuilder> lines;
+    private final LineRope lines;
+    private @Nullable List<String> lineCache;
+    private @Nullable String textCache;
     private int cursorRow;
     private int cursorCol;
+    private int dirtyStart = -1;
+    private int dirtyEnd = -1;
+    private int dirtyDelta;
 
     public TextBuffer() {
-        this.lines = new ArrayList<>();
+        this.lines = new LineRope();
         this.cursorRow = 0;
         this.cursorCol = 0;
     }
 
     public List<String> getLines() {
-        return this.lines.stream().map(StringBuilder::toString).toList();
+        if (this.lineCache == null) {
+            this.lineCache = Collections.unmodifiableList(this.lines.toStrings());
+        }
+        return this.lineCache;
     }
 
     public String getLine(int idx) {
+        if (this.lineCache != null) {
+            return this.lineCache.get(idx);
+        }
         return this.lines.get(idx).toString();
     }
 
@@ -27,19 +41,88 @@ public class TextBuffer {
     }
 
     public int maxCharacterWidth() {
-        return this.lines.stream().mapToInt(StringBuilder::length).max().orElse(0);
+        return this.lines.maxWidth();
+    }
+
+    /**
+     * @return The number of characters in the buffer, including line separators.
+     */
+    public int length() {
+        return this.lines.length();
+    }
+
+    /**
+     * Gets the offset of the first character in the given line, as it would appear
+     * in {@link #getText}. This does not require the text to be built.
+     *
+     * @param row The index of the line.
+     * @return The offset of the line in the full text.
+     */
+    public int getLineStart(int row) {
+        return this.lines.lineStart(row);
     }
 
     public String getText() {
-        return String.join("\n", this.getLines());
+        if (this.textCache == null) {
+            final var sb = new StringBuilder(this.lines.length());
+            this.lines.appendTo(sb);
+            this.textCache = sb.toString();
+        }
+        return this.textCache;
     }
 
     public void setText(final String text) {
-        this.lines.clear();
+        final int oldEnd = this.lines.size() - 1;
+        final var added = new ArrayList<StringBuilder>();
         for (final var line : text.split("\r?\n")) {
-            this.lines.add(new StringBuilder(line));
+            added.add(new StringBuilder(line));
+        }
+        if (added.isEmpty()) added.add(new StringBuilder());
+        this.lines.clear();
+        this.lines.insert(0, added);
+        this.afterEdit(0, oldEnd, this.lines.size() - 1);
+    }
+
+    /**
+     * Returns the range of lines modified since the last call to this method and
+     * resets it. Consumers may use this range to update any state derived from
+     * specific lines without reprocessing the entire buffer.
+     *
+     * @return The dirty range, or else <code>null</code> if nothing was modified.
+     */
+    public @Nullable DirtyRange consumeDirtyRange() {
+        if (this.dirtyStart < 0) {
+            return null;
+        }
+        final var range = new DirtyRange(this.dirtyStart, this.dirtyEnd, this.dirtyDelta);
+        this.dirtyStart = -1;
+        this.dirtyEnd = -1;
+        this.dirtyDelta = 0;
+        return range;
+    }
+
+    // lines [start, oldEnd] before the edit were replaced by lines [start, newEnd].
+    // only the first and last of these may have been modified after being inserted.
+    private void afterEdit(int start, int oldEnd, int newEnd) {
+        this.lines.changed(start);
+        if (newEnd != start) this.lines.changed(newEnd);
+        this.lineCache = null;
+        this.textCache = null;
+        this.markDirty(start, oldEnd, newEnd);
+    }
+
+    private void markDirty(int start, int oldEnd, int newEnd) {
+        final int delta = newEnd - oldEnd;
+        if (this.dirtyStart < 0) {
+            this.dirtyStart = start;
+            this.dirtyEnd = newEnd;
+            this.dirtyDelta = delta;
+            return;
         }
-        if (this.lines.isEmpty()) this.lines.add(new StringBuilder());
+        final int shiftedEnd = this.dirtyEnd > oldEnd ? this.dirtyEnd + delta : newEnd;
+        this.dirtyStart = Math.min(this.dirtyStart, start);
+        this.dirtyEnd = Math.max(shiftedEnd, newEnd);
+        this.dirtyDelta += delta;
     }
 
     public void moveLeft() {
@@ -97,6 +180,7 @@ public class TextBuffer {
     public void deleteSection(int startRow, int endRow, int startCol, int endCol) {
         if (startRow == endRow) {
             this.lines.get(startRow).delete(startCol, endCol);
+            this.afterEdit(startRow, startRow, startRow);
             return;
         }
         final var first = this.lines.get(startRow);
@@ -107,9 +191,8 @@ public class TextBuffer {
         } else {
             last.delete(0, endCol);
         }
-        for (int i = startRow; i < endRow; i++) {
-            this.lines.remove(startRow + 1);
-        }
+        this.lines.remove(startRow + 1, endRow + 1);
+        this.afterEdit(startRow, endRow, startRow);
         this.cursorRow = startRow;
         this.cursorCol = startCol;
     }
@@ -120,10 +203,15 @@ public class TextBuffer {
         final var after = first.substring(this.cursorCol);
         first.setLength(this.cursorCol);
         first.append(split[0]);
-        for (int i = split.length - 1; i > 0; i--) {
-            this.lines.add(this.cursorRow + 1, new StringBuilder(split[i]));
+        if (split.length > 1) {
+            final var added = new ArrayList<StringBuilder>(split.length - 1);
+            for (int i = 1; i < split.length; i++) {
+                added.add(new StringBuilder(split[i]));
+            }
+            this.lines.insert(this.cursorRow + 1, added);
         }
         this.lines.get(this.cursorRow + split.length - 1).append(after);
+        this.afterEdit(this.cursorRow, this.cursorRow, this.cursorRow + split.length - 1);
         if (split.length == 1) {
             this.cursorCol += split[0].length();
         } else {
@@ -134,6 +222,7 @@ public class TextBuffer {
 
     public void insertChar(char c) {
         this.lines.get(this.cursorRow).insert(this.cursorCol, c);
+        this.afterEdit(this.cursorRow, this.cursorRow, this.cursorRow);
         this.cursorCol++;
     }
 
@@ -141,7 +230,8 @@ public class TextBuffer {
         final var current = this.lines.get(this.cursorRow);
         final var remainder = current.substring(this.cursorCol);
         current.delete(this.cursorCol, current.length());
-        this.lines.add(this.cursorRow + 1, new StringBuilder(remainder));
+        this.lines.insert(this.cursorRow + 1, new StringBuilder(remainder));
+        this.afterEdit(this.cursorRow, this.cursorRow, this.cursorRow + 1);
         this.cursorRow++;
         this.cursorCol = 0;
     }
@@ -149,6 +239,7 @@ public class TextBuffer {
     public void backspace() {
         if (this.cursorCol > 0) {
             this.lines.get(this.cursorRow).deleteCharAt(this.cursorCol - 1);
+            this.afterEdit(this.cursorRow, this.cursorRow, this.cursorRow);
             this.cursorCol--;
         } else if (this.cursorRow > 0) {
             final var prev = this.lines.get(this.cursorRow - 1);
@@ -156,6 +247,7 @@ public class TextBuffer {
             this.cursorRow--;
             this.cursorCol = prev.length();
             prev.append(current);
+            this.afterEdit(this.cursorRow, this.cursorRow + 1, this.cursorRow);
         }
     }
 
@@ -163,9 +255,11 @@ public class TextBuffer {
         final var line = this.lines.get(this.cursorRow);
         if (this.cursorCol < line.length()) {
             line.deleteCharAt(this.cursorCol);
+            this.afterEdit(this.cursorRow, this.cursorRow, this.cursorRow);
         } else if (this.cursorRow < this.lines.size() - 1) {
             final var next = this.lines.remove(this.cursorRow + 1);
             line.append(next);
+            this.afterEdit(this.cursorRow, this.cursorRow + 1, this.cursorRow);
         }
     }
 
@@ -181,4 +275,21 @@ public class TextBuffer {
         this.cursorRow = row;
         this.cursorCol = col;
     }
+
+    /**
+     * A range of lines modified by one or more edits.
+     *
+     * @param start The first modified line, inclusive.
+     * @param end   The last modified line after editing, inclusive.
+     * @param delta The number of lines added (or removed, if negative).
+     */
+    public record DirtyRange(int start, int end, int delta) {
+
+        /**
+         * @return The last modified line before editing, inclusive.
+         */
+        public int previousEnd() {
+            return this.end - this.delta;
+        }
+    }
 }
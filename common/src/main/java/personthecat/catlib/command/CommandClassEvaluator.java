@@ -36,6 +36,9 @@ import personthecat.catlib.util.unsafe.CachingReflectionHelper;
 
 import java.io.File;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.*;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -397,15 +400,37 @@ public class CommandClassEvaluator {
         }
     }
 
-    private CommandFunction createConsumer(Object instance, Method m) {
-        m.setAccessible(true);
+    // parameters are resolved and the method is bound once, so that executing the
+    // command involves neither reflection nor any lookups by type
+    private CommandFunction createConsumer(Object instance, Method m) throws CommandClassEvaluationException {
+        final MethodHandle invoker = this.createInvoker(instance, m);
         final Parameter[] params = removeImplicit(m.getParameters());
-        if (params.length == 0) {
-            return ctx -> m.invoke(instance);
-        } else if (params.length == 1 && params[0].getType().isAssignableFrom(CommandContextWrapper.class)) {
-            return ctx -> m.invoke(instance, ctx);
+        final ArgResolver[] resolvers = new ArgResolver[params.length];
+        for (int i = 0; i < params.length; i++) {
+            resolvers[i] = this.createResolver(params[i]);
         }
-        return ctx -> m.invoke(instance, getArgs(ctx, params));
+        return ctx -> {
+            final Object[] args = new Object[resolvers.length];
+            for (int i = 0; i < resolvers.length; i++) {
+                args[i] = resolvers[i].resolve(ctx);
+            }
+            final Object ignored = (Object) invoker.invokeExact(args);
+        };
+    }
+
+    private MethodHandle createInvoker(Object instance, Method m) throws CommandClassEvaluationException {
+        m.setAccessible(true);
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.lookup().unreflect(m).asFixedArity();
+        } catch (final IllegalAccessException ignored) {
+            throw new CommandClassEvaluationException(COULD_NOT_INVOKE, m);
+        }
+        if (!Modifier.isStatic(m.getModifiers())) {
+            handle = handle.bindTo(instance);
+        }
+        return handle.asSpreader(Object[].class, handle.type().parameterCount())
+            .asType(MethodType.methodType(Object.class, Object[].class));
     }
 
     private static Parameter[] removeImplicit(Parameter[] params) {
@@ -414,28 +439,26 @@ public class CommandClassEvaluator {
         return params;
     }
 
-    private Object[] getArgs(CommandContextWrapper ctx, Parameter[] params) throws CommandClassEvaluationException {
-        final Object[] args = new Object[params.length];
-        for (int i = 0; i < params.length; i++) {
-            final Parameter param = params[i];
-            final Class<?> type = param.getType();
-            final String name = this.getName(param);
-            if (type.isAssignableFrom(CommandContextWrapper.class)) {
-                args[i] = ctx;
-            } else if (type.isAssignableFrom(Optional.class)) {
-                args[i] = getOptional(ctx, name, getTypeArg(param));
-            } else if (type.isAssignableFrom(List.class)) {
-                args[i] = getList(ctx, name, getTypeArg(param));
-            } else if (type.isArray() || param.isVarArgs()) {
-                final Class<?> arg = type.getComponentType();
-                args[i] = toArray(arg, getList(ctx, name, arg));
-            } else if (isNullable(param)) {
-                args[i] = getOptional(ctx, name, type).orElse(null);
-            } else {
-                args[i] = get(ctx, name, type);
-            }
+    private ArgResolver createResolver(Parameter param) throws CommandClassEvaluationException {
+        final Class<?> type = param.getType();
+        if (type.isAssignableFrom(CommandContextWrapper.class)) {
+            return ctx -> ctx;
         }
-        return args;
+        final String name = this.getName(param);
+        if (type.isAssignableFrom(Optional.class)) {
+            return getOptional(name, getTypeArg(param));
+        } else if (type.isAssignableFrom(List.class)) {
+            return getList(name, getTypeArg(param));
+        } else if (type.isArray() || param.isVarArgs()) {
+            final Class<?> arg = type.getComponentType();
+            final ArgResolver list = getList(name, arg);
+            final Function<List<?>, Object> toArray = toArray(arg);
+            return ctx -> toArray.apply((List<?>) list.resolve(ctx));
+        } else if (isNullable(param)) {
+            final ArgResolver optional = getOptional(name, type);
+            return ctx -> ((Optional<?>) optional.resolve(ctx)).orElse(null);
+        }
+        return get(name, type);
     }
 
     private String getName(final Parameter param) throws CommandClassEvaluationException {
@@ -450,64 +473,79 @@ public class CommandClassEvaluator {
         return (Class<?>) ((ParameterizedType) param.getParameterizedType()).getActualTypeArguments()[0];
     }
 
-    @SuppressWarnings({"rawtypes", "unchecked"})
-    private static Object get(final CommandContextWrapper ctx, final String name, final Class<?> type) {
+    @Nullable
+    private static Mapping<?, ?> getMapping(final Class<?> type) {
         for (final Mapping<?, ?> mapping : AUTOMATIC_MAPPINGS) {
             if (type.isAssignableFrom(mapping.to)) {
-                final Optional<?> o = ctx.getOptional(name, mapping.from).map((Function) mapping.mapper);
-                if (o.isPresent()) return o.get();
-                break;
+                return mapping;
             }
         }
-        return ctx.get(name, type);
+        return null;
     }
 
     @SuppressWarnings({"rawtypes", "unchecked"})
-    private static Optional<?> getOptional(final CommandContextWrapper ctx, final String name, final Class<?> type) {
-        for (final Mapping<?, ?> mapping : AUTOMATIC_MAPPINGS) {
-            if (type.isAssignableFrom(mapping.to)) {
-                final Optional<?> o = ctx.getOptional(name, mapping.from).map((Function) mapping.mapper);
-                if (o.isPresent()) return o;
-                break;
-            }
-        }
-        return ctx.getOptional(name, type);
+    private static ArgResolver get(final String name, final Class<?> type) {
+        final Mapping<?, ?> mapping = getMapping(type);
+        if (mapping == null) {
+            return ctx -> ctx.get(name, type);
+        }
+        return ctx -> {
+            final Optional<?> o = ctx.getOptional(name, mapping.from).map((Function) mapping.mapper);
+            if (o.isPresent()) return o.get();
+            return ctx.get(name, type);
+        };
     }
 
     @SuppressWarnings({"rawtypes", "unchecked"})
-    private static List<?> getList(final CommandContextWrapper ctx, final String name, final Class<?> type) {
-        for (final Mapping<?, ?> mapping : AUTOMATIC_MAPPINGS) {
-            if (type.isAssignableFrom(mapping.to)) {
-                if (ctx.getOptional(name + "0", mapping.from).isPresent()) {
-                    return ((List) ctx.getList(name, mapping.from)).stream().map(mapping.mapper).toList();
-                }
-                break;
+    private static ArgResolver getOptional(final String name, final Class<?> type) {
+        final Mapping<?, ?> mapping = getMapping(type);
+        if (mapping == null) {
+            return ctx -> ctx.getOptional(name, type);
+        }
+        return ctx -> {
+            final Optional<?> o = ctx.getOptional(name, mapping.from).map((Function) mapping.mapper);
+            if (o.isPresent()) return o;
+            return ctx.getOptional(name, type);
+        };
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static ArgResolver getList(final String name, final Class<?> type) {
+        final Mapping<?, ?> mapping = getMapping(type);
+        if (mapping == null) {
+            return ctx -> ctx.getList(name, type);
+        }
+        final String first = name + "0";
+        return ctx -> {
+            if (ctx.getOptional(first, mapping.from).isPresent()) {
+                return ((List) ctx.getList(name, mapping.from)).stream().map(mapping.mapper).toList();
             }
-        }
-        return ctx.getList(name, type);
+            return ctx.getList(name, type);
+        };
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private static Object toArray(final Class<?> cmpType, final List<?> list) {
+    private static Function<List<?>, Object> toArray(final Class<?> cmpType) {
         if (!cmpType.isPrimitive()) {
-            return list.toArray();
+            final Object[] empty = (Object[]) Array.newInstance(cmpType, 0);
+            return list -> list.toArray(empty);
         }
         if (cmpType.isAssignableFrom(int.class)) {
-            return Ints.toArray((Collection) list);
+            return list -> Ints.toArray((Collection) list);
         } else if (cmpType.isAssignableFrom(double.class)) {
-            return Doubles.toArray((Collection) list);
+            return list -> Doubles.toArray((Collection) list);
         } else if (cmpType.isAssignableFrom(float.class)) {
-            return Floats.toArray((Collection) list);
+            return list -> Floats.toArray((Collection) list);
         } else if (cmpType.isAssignableFrom(boolean.class)) {
-            return Booleans.toArray((Collection) list);
+            return list -> Booleans.toArray((Collection) list);
         } else if (cmpType.isAssignableFrom(byte.class)) {
-            return Bytes.toArray((Collection) list);
+            return list -> Bytes.toArray((Collection) list);
         } else if (cmpType.isAssignableFrom(short.class)) {
-            return Shorts.toArray((Collection) list);
+            return list -> Shorts.toArray((Collection) list);
         } else if (cmpType.isAssignableFrom(long.class)) {
-            return Longs.toArray((Collection) list);
+            return list -> Longs.toArray((Collection) list);
         }
-        return list.toArray();
+        return List::toArray;
     }
 
     private static boolean isNullable(final Parameter param) {
@@ -531,6 +569,11 @@ public class CommandClassEvaluator {
 
     private record Mapping<T, R>(Class<T> from, Class<R> to, Function<T, R> mapper) {}
 
+    @FunctionalInterface
+    private interface ArgResolver {
+        Object resolve(CommandContextWrapper ctx);
+    }
+
     private class CommandClassEvaluationException extends FormattedException {
         final Method method;
 
@@ -1,5 +1,6 @@
 package personthecat.catlib.command;
 
+import com.google.common.collect.MapMaker;
 import com.mojang.brigadier.suggestion.SuggestionProvider;
 import com.mojang.brigadier.suggestion.Suggestions;
 import com.mojang.brigadier.suggestion.SuggestionsBuilder;
@@ -11,11 +12,14 @@ import personthecat.catlib.CatLib;
 import personthecat.catlib.command.arguments.JsonArgument;
 import personthecat.catlib.command.arguments.PathArgument;
 import personthecat.catlib.command.arguments.RegistryArgument;
+import personthecat.catlib.registry.DynamicRegistries;
 import personthecat.catlib.registry.RegistryHandle;
 import personthecat.catlib.serialization.json.JsonPath;
 import personthecat.catlib.util.LibUtil;
 import xjs.data.JsonValue;
 
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 public class LibSuggestions {
@@ -36,7 +40,7 @@ public class LibSuggestions {
             if (json == null) return suggestJson(builder);
             final JsonPath path = CommandUtils.getLastArg(ctx, PathArgument.class, JsonPath.class).orElse(null);
             if (path == null) return suggestJson(builder);
-            final JsonValue value = path.getValue(json.json.get()).orElse(null);
+            final JsonValue value = path.getValue(json.getSuggestionJson()).orElse(null);
             if (value == null) return suggestJson(builder);
 
             if (value.isObject()) return SharedSuggestionProvider.suggest(new String[] { "{ ... }" }, builder);
@@ -53,9 +57,27 @@ public class LibSuggestions {
             final Class<? extends RegistryArgument<?>> type = LibUtil.asParentType(RegistryArgument.class);
             final RegistryHandle<?> handle = CommandUtils.getLastArg(ctx, type, RegistryHandle.class).orElse(null);
             if (handle == null) return Suggestions.empty();
-            return SharedSuggestionProvider.suggest(handle.keySet().stream().map(Object::toString), builder);
+            return SharedSuggestionProvider.suggest(getIds(handle), builder);
         });
 
+    /**
+     * The formatted ids of each registry handle. Handles are compared by identity and the
+     * ids are rebuilt when a dynamic registry is reloaded or when the registry's size changes.
+     */
+    private static final Map<RegistryHandle<?>, RegistryIds> IDS = new MapMaker().weakKeys().makeMap();
+
+    static List<String> getIds(final RegistryHandle<?> handle) {
+        final int generation = DynamicRegistries.getGeneration(handle);
+        final int size = handle.size();
+        final RegistryIds cached = IDS.get(handle);
+        if (cached != null && cached.generation == generation && cached.size == size) {
+            return cached.ids;
+        }
+        final List<String> ids = handle.keySet().stream().map(Object::toString).toList();
+        IDS.put(handle, new RegistryIds(generation, size, ids));
+        return ids;
+    }
+
     private static CompletableFuture<Suggestions> suggestJson(final SuggestionsBuilder builder) {
         return SharedSuggestionProvider.suggest(new String[] { "[<json_data>]" }, builder);
     }
@@ -68,4 +90,6 @@ public class LibSuggestions {
         return SuggestionProviders.register(new ResourceLocation(CatLib.ID, name), provider);
     }
 
+    private record RegistryIds(int generation, int size, List<String> ids) {}
+
 }
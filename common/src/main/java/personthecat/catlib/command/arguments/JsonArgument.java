@@ -7,6 +7,7 @@ import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import com.mojang.brigadier.exceptions.DynamicCommandExceptionType;
 import com.mojang.brigadier.suggestion.Suggestions;
 import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+import com.mojang.datafixers.util.Either;
 import net.minecraft.commands.CommandBuildContext;
 import net.minecraft.commands.SharedSuggestionProvider;
 import net.minecraft.commands.synchronization.ArgumentTypeInfo;
@@ -21,6 +22,7 @@ import xjs.data.serialization.JsonContext;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
@@ -75,6 +77,28 @@ public class JsonArgument implements ArgumentType<JsonArgument.Result> {
             });
         }
 
+        /**
+         * Gets a read-only copy of this file's contents, which is shared with any other
+         * caller while the file remains unchanged. Intended for suggestion providers,
+         * which may run on every keystroke.
+         *
+         * @return The current contents of this file, which must not be modified.
+         */
+        public JsonObject getSuggestionJson() {
+            return JsonSuggestionCache.getJson(this.file);
+        }
+
+        /**
+         * Gets the paths adjacent to the given path in this file, as would be suggested
+         * by a {@link PathArgument}. These are cached until the file changes.
+         *
+         * @param path The current output of a {@link PathArgument}.
+         * @return An immutable list of all adjacent paths.
+         */
+        public List<String> getSuggestedPaths(final List<Either<String, Integer>> path) {
+            return JsonSuggestionCache.getPaths(this.file, path);
+        }
+
         public Stream<String> getNeighbors() {
             return PathUtils.getContents(this.root, this.file).map(PathUtils::noExtension);
         }
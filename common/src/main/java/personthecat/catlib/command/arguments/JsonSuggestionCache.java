@@ -0,0 +1,119 @@
+package personthecat.catlib.command.arguments;
+
+import com.mojang.datafixers.util.Either;
+import org.jetbrains.annotations.Nullable;
+import personthecat.catlib.serialization.json.JsonPath;
+import personthecat.catlib.serialization.json.XjsUtils;
+import xjs.data.JsonObject;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Remembers the JSON documents and path suggestions requested while a command is being
+ * typed, so that each keystroke does not read and parse the file again.
+ *
+ * <p>Documents are keyed by file and validated against the file's modification time and
+ * size on every lookup. Suggestions are keyed by the container path within each document
+ * and are discarded along with it. Both levels are bounded and evict the least recently
+ * used entry.
+ *
+ * <p>Cached documents are shared between lookups and must never be modified.
+ */
+final class JsonSuggestionCache {
+    static final int MAX_DOCUMENTS = 16;
+    static final int MAX_PATHS = 256;
+
+    private static final Map<Path, Document> DOCUMENTS = new Lru<>(MAX_DOCUMENTS);
+
+    private JsonSuggestionCache() {}
+
+    static JsonObject getJson(final Path file) {
+        return getDocument(file).json;
+    }
+
+    static List<String> getPaths(final Path file, final List<Either<String, Integer>> path) {
+        final Document document = getDocument(file);
+        final String key = JsonPath.serialize(path);
+        synchronized (document.paths) {
+            final List<String> paths = document.paths.get(key);
+            if (paths != null) {
+                return paths;
+            }
+        }
+        final List<String> paths = List.copyOf(XjsUtils.getPaths(document.json, path));
+        synchronized (document.paths) {
+            document.paths.put(key, paths);
+        }
+        return paths;
+    }
+
+    static void clear() {
+        synchronized (DOCUMENTS) {
+            DOCUMENTS.clear();
+        }
+    }
+
+    private static Document getDocument(final Path file) {
+        final Stamp stamp = Stamp.of(file);
+        if (stamp == null) {
+            // missing files are not cached; they may be created at any time
+            return new Document(null, new JsonObject());
+        }
+        final Path key = file.toAbsolutePath().normalize();
+        synchronized (DOCUMENTS) {
+            final Document document = DOCUMENTS.get(key);
+            if (document != null && stamp.equals(document.stamp)) {
+                return document;
+            }
+        }
+        final Document document = new Document(stamp, XjsUtils.readSuppressing(file).orElseGet(JsonObject::new));
+        synchronized (DOCUMENTS) {
+            DOCUMENTS.put(key, document);
+        }
+        return document;
+    }
+
+    private record Stamp(FileTime modified, long size) {
+        @Nullable
+        static Stamp of(final Path file) {
+            try {
+                final BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                return attributes.isRegularFile() ? new Stamp(attributes.lastModifiedTime(), attributes.size()) : null;
+            } catch (final IOException ignored) {
+                return null;
+            }
+        }
+    }
+
+    private static final class Document {
+        final @Nullable Stamp stamp;
+        final JsonObject json;
+        final Map<String, List<String>> paths = new Lru<>(MAX_PATHS);
+
+        Document(final @Nullable Stamp stamp, final JsonObject json) {
+            this.stamp = stamp;
+            this.json = json;
+        }
+    }
+
+    private static final class Lru<K, V> extends LinkedHashMap<K, V> {
+        private final int capacity;
+
+        Lru(final int capacity) {
+            super(16, 0.75F, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+            return this.size() > this.capacity;
+        }
+    }
+}
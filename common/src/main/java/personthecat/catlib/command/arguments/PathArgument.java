@@ -9,8 +9,6 @@ import com.mojang.brigadier.suggestion.SuggestionsBuilder;
 import net.minecraft.commands.SharedSuggestionProvider;
 import personthecat.catlib.command.CommandUtils;
 import personthecat.catlib.serialization.json.JsonPath;
-import personthecat.catlib.serialization.json.XjsUtils;
-import xjs.data.JsonObject;
 
 import java.util.Collections;
 import java.util.Optional;
@@ -20,14 +18,13 @@ public class PathArgument implements ArgumentType<JsonPath> {
 
     @Override
     public <S> CompletableFuture<Suggestions> listSuggestions(final CommandContext<S> ctx, final SuggestionsBuilder builder) {
-        final Optional<JsonObject> json = CommandUtils.getLastArg(ctx, JsonArgument.class, JsonArgument.Result.class)
-            .map(arg -> arg.json.get());
+        final Optional<JsonArgument.Result> json = CommandUtils.getLastArg(ctx, JsonArgument.class, JsonArgument.Result.class);
         if (json.isEmpty()) {
             return Suggestions.empty();
         }
         final JsonPath path = CommandUtils.getLastArg(ctx, PathArgument.class, JsonPath.class)
             .orElseGet(() -> new JsonPath(Collections.emptyList()));
-        return SharedSuggestionProvider.suggest(XjsUtils.getPaths(json.get(), path.asList()), builder);
+        return SharedSuggestionProvider.suggest(json.get().getSuggestedPaths(path.asList()), builder);
     }
 
     @Override
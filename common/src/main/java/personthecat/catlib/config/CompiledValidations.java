@@ -0,0 +1,216 @@
+package personthecat.catlib.config;
+
+import org.jetbrains.annotations.Nullable;
+import personthecat.catlib.config.Validation.DecimalRange;
+import personthecat.catlib.config.Validation.NotBlank;
+import personthecat.catlib.config.Validation.NotNull;
+import personthecat.catlib.config.Validation.Range;
+import personthecat.catlib.config.Validation.Regex;
+import personthecat.catlib.config.Validation.Typed;
+
+import java.util.Collection;
+import java.util.regex.Pattern;
+
+/**
+ * A flattened form of {@link Validations} which can be evaluated in a single pass
+ * over an array of checks.
+ *
+ * <p>Each built-in {@link Validation} is replaced with a check specialized for its
+ * rule, so that evaluating a value never needs to dispatch through the generic
+ * {@link Validation#isValidForType} and {@link Validation#test} pair. Checks are
+ * evaluated in the same order as {@link Validations#values()}, so the first
+ * failure is always reported with the same error as {@link Validation#validate}.
+ *
+ * <p>Note that compiled validations reflect their source at the time of compilation.
+ * Any validations taken from the source afterward will still be applied.
+ */
+final class CompiledValidations {
+    private final Validations source;
+    private final Check[] checks;
+    @Nullable private final Check[] entryChecks;
+
+    private CompiledValidations(Validations source, Check[] checks, @Nullable Check[] entryChecks) {
+        this.source = source;
+        this.checks = checks;
+        this.entryChecks = entryChecks;
+    }
+
+    static CompiledValidations compile(Validations validations) {
+        if (!ConfigUtil.isSupportedGenericType(validations.type())) {
+            return new CompiledValidations(validations, compile(validations.values()), null);
+        }
+        return new CompiledValidations(validations,
+            compile(validations.typeValidations()), compile(validations.entryValidations().values()));
+    }
+
+    private static Check[] compile(Collection<Validation<?>> validations) {
+        final Check[] checks = new Check[validations.size()];
+        int i = 0;
+        for (final Validation<?> v : validations) {
+            checks[i++] = compile(v);
+        }
+        return checks;
+    }
+
+    private static Check compile(Validation<?> v) {
+        // exact classes only; subclasses may change the behavior of the rule
+        if (v.getClass() == NotNull.class) {
+            return new NotNullCheck(v);
+        } else if (v.getClass() == Typed.class) {
+            return new TypeCheck(v, ((Typed) v).expected());
+        } else if (v.getClass() == Range.class) {
+            return new RangeCheck(v, ((Range) v).min(), ((Range) v).max());
+        } else if (v.getClass() == DecimalRange.class) {
+            return new DecimalRangeCheck(v, ((DecimalRange) v).min(), ((DecimalRange) v).max());
+        } else if (v.getClass() == Regex.class) {
+            return new RegexCheck(v, ((Regex) v).pattern());
+        } else if (v.getClass() == NotBlank.class) {
+            return new NotBlankCheck(v);
+        }
+        return new GenericCheck(v);
+    }
+
+    Validations source() {
+        return this.source;
+    }
+
+    void validate(String filename, ConfigValue value, @Nullable Object o) throws ValidationException {
+        final Check failed = test(this.checks, o);
+        if (failed != null) {
+            throw Validation.createException(failed.source, filename, value, o);
+        }
+        final Check[] entryChecks = this.entryChecks;
+        if (entryChecks != null) {
+            for (final Object e : ConfigUtil.getElements(o)) {
+                final Check entryFailed = test(entryChecks, e);
+                if (entryFailed != null) {
+                    throw Validation.createException(entryFailed.source, filename, value, e);
+                }
+            }
+        }
+    }
+
+    private static @Nullable Check test(Check[] checks, @Nullable Object o) {
+        for (final Check check : checks) {
+            if (!check.test(o)) {
+                return check;
+            }
+        }
+        return null;
+    }
+
+    private static abstract class Check {
+        final Validation<?> source;
+
+        Check(Validation<?> source) {
+            this.source = source;
+        }
+
+        abstract boolean test(@Nullable Object o);
+    }
+
+    private static final class NotNullCheck extends Check {
+        NotNullCheck(Validation<?> source) {
+            super(source);
+        }
+
+        @Override
+        boolean test(@Nullable Object o) {
+            return o != null;
+        }
+    }
+
+    private static final class TypeCheck extends Check {
+        final Class<?> expected;
+
+        TypeCheck(Validation<?> source, Class<?> expected) {
+            super(source);
+            this.expected = expected;
+        }
+
+        @Override
+        boolean test(@Nullable Object o) {
+            if (o == null) return true;
+            final Class<?> c = o.getClass();
+            return c == this.expected || this.expected.isAssignableFrom(c);
+        }
+    }
+
+    private static final class RangeCheck extends Check {
+        final long min;
+        final long max;
+
+        RangeCheck(Validation<?> source, long min, long max) {
+            super(source);
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        boolean test(@Nullable Object o) {
+            if (o == null) return false;
+            if (!(o instanceof Number n)) return true; // not applicable
+            final long l = n.longValue();
+            return l >= this.min && l <= this.max;
+        }
+    }
+
+    private static final class DecimalRangeCheck extends Check {
+        final double min;
+        final double max;
+
+        DecimalRangeCheck(Validation<?> source, double min, double max) {
+            super(source);
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        boolean test(@Nullable Object o) {
+            if (o == null) return false;
+            if (!(o instanceof Number n)) return true; // not applicable
+            final double d = n.doubleValue();
+            return d >= this.min && d <= this.max;
+        }
+    }
+
+    private static final class RegexCheck extends Check {
+        final Pattern pattern;
+
+        RegexCheck(Validation<?> source, Pattern pattern) {
+            super(source);
+            this.pattern = pattern;
+        }
+
+        @Override
+        boolean test(@Nullable Object o) {
+            if (o == null) return false;
+            return !(o instanceof String s) || this.pattern.matcher(s).matches();
+        }
+    }
+
+    private static final class NotBlankCheck extends Check {
+        NotBlankCheck(Validation<?> source) {
+            super(source);
+        }
+
+        @Override
+        boolean test(@Nullable Object o) {
+            if (o == null) return false;
+            return !(o instanceof String s) || !s.isBlank();
+        }
+    }
+
+    private static final class GenericCheck extends Check {
+        GenericCheck(Validation<?> source) {
+            super(source);
+        }
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        boolean test(@Nullable Object o) {
+            if (o != null && !this.source.isValidForType(o.getClass())) return true;
+            return ((Validation) this.source).test(o);
+        }
+    }
+}
@@ -6,7 +6,6 @@ import personthecat.catlib.data.ModDescriptor;
 import personthecat.catlib.util.unsafe.CachingReflectionHelper;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -33,15 +32,12 @@ public class ConfigEvaluator {
         register(mod, file, category);
     }
 
-    private static CategoryValue buildCategory(
+    static CategoryValue buildCategory(
             ConfigValue parent, Object instance, ModDescriptor mod, Class<?> clazz) {
         final List<ConfigValue> values = new ArrayList<>();
-        for (final Field f : clazz.getDeclaredFields()) {
-            final int m = f.getModifiers();
-            if (Modifier.isStatic(m) || Modifier.isTransient(m)) {
-                continue;
-            }
-            final FieldValue value = new FieldValue(mod, f, instance);
+        for (final FieldDescriptor descriptor : FieldDescriptor.forClass(clazz)) {
+            final Field f = descriptor.field();
+            final FieldValue value = new FieldValue(mod, descriptor, instance);
             if (ConfigUtil.isLiteralValue(f.getType())) {
                 values.add(value);
             } else {
@@ -0,0 +1,147 @@
+package personthecat.catlib.config;
+
+import lombok.extern.log4j.Log4j2;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches config files for changes on disk, notifying a listener once edits to
+ * each file have settled.
+ *
+ * <p>A single daemon thread waits on the {@link WatchService} for every directory
+ * containing a watched file. Events for each file are debounced, so that editors
+ * which write a file in several steps only trigger one reload. Listeners are
+ * called on a separate daemon thread and never on the main thread.
+ */
+@Log4j2
+public class ConfigFileWatcher implements AutoCloseable {
+    private static final long DEFAULT_DEBOUNCE_MS = 250;
+    private static @Nullable ConfigFileWatcher instance;
+
+    private final Map<Path, Runnable> listeners = new ConcurrentHashMap<>();
+    private final Map<Path, ScheduledFuture<?>> pending = new ConcurrentHashMap<>();
+    private final Map<Path, WatchKey> directories = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService executor;
+    private final WatchService service;
+    private final long debounceMs;
+
+    public ConfigFileWatcher(long debounceMs) throws IOException {
+        this.debounceMs = debounceMs;
+        this.service = FileSystems.getDefault().newWatchService();
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> daemon(r, "CatLib Config Reloader"));
+        daemon(this::poll, "CatLib Config Watcher").start();
+    }
+
+    /**
+     * Gets the shared watcher used for every config registered by this library.
+     *
+     * @return The shared watcher, or else <code>null</code> if watching is unsupported.
+     */
+    public static synchronized @Nullable ConfigFileWatcher getInstance() {
+        if (instance == null) {
+            try {
+                instance = new ConfigFileWatcher(DEFAULT_DEBOUNCE_MS);
+            } catch (final IOException | UnsupportedOperationException e) {
+                log.warn("Config hot reloading is unavailable", e);
+                return null;
+            }
+        }
+        return instance;
+    }
+
+    private static Thread daemon(Runnable r, String name) {
+        final Thread thread = new Thread(r, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Begins watching a single file. Any existing listener for this file is replaced.
+     *
+     * @param file      The file being watched.
+     * @param onChanged A callback to run after the file has been modified.
+     */
+    public void watch(Path file, Runnable onChanged) {
+        final Path normalized = file.toAbsolutePath().normalize();
+        final Path dir = normalized.getParent();
+        this.listeners.put(normalized, onChanged);
+        this.directories.computeIfAbsent(dir, d -> {
+            try {
+                return d.register(this.service,
+                    StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            } catch (final IOException e) {
+                log.warn("Unable to watch config directory: {}", d, e);
+                return null;
+            }
+        });
+    }
+
+    public void unwatch(Path file) {
+        final Path normalized = file.toAbsolutePath().normalize();
+        this.listeners.remove(normalized);
+        final ScheduledFuture<?> future = this.pending.remove(normalized);
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+
+    private void poll() {
+        try {
+            while (true) {
+                final WatchKey key = this.service.take();
+                final Path dir = (Path) key.watchable();
+                for (final WatchEvent<?> event : key.pollEvents()) {
+                    if (event.context() instanceof Path name) {
+                        this.schedule(dir.resolve(name));
+                    }
+                }
+                if (!key.reset()) {
+                    this.directories.remove(dir);
+                }
+            }
+        } catch (final InterruptedException | ClosedWatchServiceException ignored) {
+            // watcher was closed
+        }
+    }
+
+    private void schedule(Path file) {
+        final Runnable listener = this.listeners.get(file);
+        if (listener == null) {
+            return;
+        }
+        final ScheduledFuture<?> next = this.executor.schedule(() -> {
+            try {
+                listener.run();
+            } catch (final RuntimeException e) {
+                log.error("Error reloading config file: {}", file, e);
+            }
+        }, this.debounceMs, TimeUnit.MILLISECONDS);
+        final ScheduledFuture<?> previous = this.pending.put(file, next);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.service.close();
+        this.executor.shutdownNow();
+        this.listeners.clear();
+        this.pending.clear();
+        this.directories.clear();
+    }
+}
@@ -1,22 +1,27 @@
 package personthecat.catlib.config;
 
+import org.jetbrains.annotations.Nullable;
 import personthecat.catlib.data.ModDescriptor;
 import personthecat.catlib.event.error.LibErrorContext;
 import personthecat.catlib.exception.FormattedException;
 
-import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class ConfigGenerator {
     protected final ModDescriptor mod;
     protected final CategoryValue config;
     protected final Object instance;
     private final ValidationMap validations;
+    private final Map<ConfigValue, CompiledValidations> compiled;
 
     public ConfigGenerator(ModDescriptor mod, CategoryValue config) {
         this.mod = mod;
         this.config = config;
         this.instance = config.parent().get(mod, null);
         this.validations = new ValidationMap();
+        this.compiled = new ConcurrentHashMap<>();
     }
 
     public ModDescriptor getMod() {
@@ -32,18 +37,53 @@ public abstract class ConfigGenerator {
     }
 
     protected void setValue(ConfigValue value, Object instance, Object o) throws ValidationException {
+        final Change change = this.getChange(value, instance, o, false);
+        if (change != null) {
+            change.apply(this.mod);
+        }
+    }
+
+    /**
+     * Variant of {@link #setValue(ConfigValue, Object, Object)} which skips values
+     * that are already equal to the current value in the config.
+     *
+     * @return <code>true</code>, if the value was changed.
+     */
+    protected boolean setValueIfChanged(ConfigValue value, Object instance, Object o) throws ValidationException {
+        final Change change = this.getChange(value, instance, o);
+        if (change == null) {
+            return false;
+        }
+        change.apply(this.mod);
+        return true;
+    }
+
+    /**
+     * Remaps and validates a value without writing it to the config, so that a batch
+     * of changes may be validated before any of them is applied.
+     *
+     * @return The pending change, or else <code>null</code> if the value is unchanged.
+     */
+    protected @Nullable Change getChange(ConfigValue value, Object instance, Object o) throws ValidationException {
+        return this.getChange(value, instance, o, true);
+    }
+
+    private @Nullable Change getChange(ConfigValue value, Object instance, Object o, boolean skipUnchanged) throws ValidationException {
         final Validations validations = this.getValidations(value);
         if (validations == null) {
-            return;
+            return null;
         }
         try {
             o = ConfigUtil.remap(value.type(), validations.generics(), o);
         } catch (final RuntimeException e) {
             this.warn(value, e.getMessage());
-            return;
+            return null;
+        }
+        if (skipUnchanged && Objects.deepEquals(o, value.get(this.mod, instance))) {
+            return null;
         }
         this.validate(value, validations, o);
-        value.set(this.mod, instance, o);
+        return new Change(value, instance, o);
     }
 
     public Validations getValidations(ConfigValue value) {
@@ -72,15 +112,12 @@ public abstract class ConfigGenerator {
     }
 
     protected void validate(ConfigValue value, Validations validations, Object o) throws ValidationException {
-        if (!ConfigUtil.isSupportedGenericType(value.type())) {
-            Validation.validate(validations.values(), this.filename(), value, o);
-            return;
-        }
-        Validation.validate(validations.typeValidations(), this.filename(), value, o);
-        final Collection<Validation<?>> entryValidations = validations.entryValidations().values();
-        for (final Object e : ConfigUtil.getElements(o)) {
-            Validation.validate(entryValidations, this.filename(), value, e);
+        CompiledValidations compiled = this.compiled.get(value);
+        if (compiled == null || compiled.source() != validations) {
+            compiled = CompiledValidations.compile(validations);
+            this.compiled.put(value, compiled);
         }
+        compiled.validate(this.filename(), value, o);
     }
 
     public void fireOnConfigUpdated() {
@@ -93,6 +130,15 @@ public abstract class ConfigGenerator {
         }
     }
 
+    /**
+     * A value which has been read and validated, but not yet written to the config.
+     */
+    protected record Change(ConfigValue value, Object instance, @Nullable Object o) {
+        public void apply(ModDescriptor mod) {
+            this.value.set(mod, this.instance, this.o);
+        }
+    }
+
     public String filename() {
         return this.config.parent().name();
     }
@@ -14,6 +14,12 @@ public final class ConfigUtil {
     private static final List<Class<?>> PRIMITIVES = List.of(
         String.class, Byte.class, byte.class, Short.class, int.class, Integer.class, int.class, Long.class, long.class,
         Float.class, float.class, Double.class, double.class, Boolean.class, boolean.class, Collection.class, Map.class);
+    private static final ClassValue<Boolean> LITERALS = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> c) {
+            return computeIsLiteralValue(c);
+        }
+    };
 
     private ConfigUtil() {}
 
@@ -34,6 +40,10 @@ public final class ConfigUtil {
     }
 
     public static boolean isLiteralValue(Class<?> clazz) {
+        return LITERALS.get(clazz);
+    }
+
+    private static boolean computeIsLiteralValue(Class<?> clazz) {
         if (clazz.isArray() || clazz.isEnum()) {
             return true;
         }
@@ -0,0 +1,129 @@
+package personthecat.catlib.config;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Everything about a config field which can be resolved from its declaration
+ * alone. Descriptors are created once per class and shared by every {@link
+ * FieldValue}, so that loading a config never needs to read annotations and
+ * accessing a value never needs to go through reflection.
+ *
+ * @param field             The field being described.
+ * @param getter            A handle of type <code>(Object)Object</code>, or else
+ *                          <code>null</code> if the field cannot be read this way.
+ * @param setter            A handle of type <code>(Object,Object)void</code>, or
+ *                          else <code>null</code> if the field cannot be written this way.
+ * @param accessError       The reason the field could not be made accessible, if any.
+ * @param comment           The value of {@link Config.Comment}, if present.
+ * @param needsWorldRestart Whether {@link Config.NeedsWorldRestart} is present.
+ * @param canBeNull         Whether {@link Config.CanBeNull} is present.
+ * @param validations       Every validation declared by annotations on this field.
+ */
+record FieldDescriptor(
+        Field field,
+        @Nullable MethodHandle getter,
+        @Nullable MethodHandle setter,
+        @Nullable RuntimeException accessError,
+        @Nullable String comment,
+        boolean needsWorldRestart,
+        boolean canBeNull,
+        List<Validation<?>> validations) {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final ClassValue<List<FieldDescriptor>> DESCRIPTORS = new ClassValue<>() {
+        @Override
+        protected List<FieldDescriptor> computeValue(final Class<?> c) {
+            final List<FieldDescriptor> descriptors = new ArrayList<>();
+            for (final Field f : c.getDeclaredFields()) {
+                final int m = f.getModifiers();
+                if (!Modifier.isStatic(m) && !Modifier.isTransient(m)) {
+                    descriptors.add(create(f));
+                }
+            }
+            return List.copyOf(descriptors);
+        }
+    };
+
+    /**
+     * Gets descriptors for every non-static, non-transient field declared by the
+     * given class, in declaration order.
+     *
+     * @param c The class containing config fields.
+     * @return An immutable, cached list of descriptors.
+     */
+    static List<FieldDescriptor> forClass(final Class<?> c) {
+        return DESCRIPTORS.get(c);
+    }
+
+    static FieldDescriptor of(final Field f) {
+        for (final FieldDescriptor descriptor : forClass(f.getDeclaringClass())) {
+            if (descriptor.field.equals(f)) {
+                return descriptor;
+            }
+        }
+        return create(f);
+    }
+
+    private static FieldDescriptor create(final Field f) {
+        RuntimeException accessError = null;
+        try {
+            f.setAccessible(true);
+        } catch (final RuntimeException e) {
+            accessError = e;
+        }
+        final MethodHandle getter = accessError == null ? unreflect(f, false) : null;
+        final MethodHandle setter = accessError == null ? unreflect(f, true) : null;
+        final Config.Comment comment = f.getAnnotation(Config.Comment.class);
+        return new FieldDescriptor(
+            f,
+            getter,
+            setter,
+            accessError,
+            comment != null ? comment.value() : null,
+            f.isAnnotationPresent(Config.NeedsWorldRestart.class),
+            f.isAnnotationPresent(Config.CanBeNull.class),
+            loadValidations(f));
+    }
+
+    // null if a handle is not allowed, e.g. setters on records; Field will report the error
+    private static @Nullable MethodHandle unreflect(final Field f, final boolean setter) {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            return setter
+                ? lookup.unreflectSetter(f).asType(SETTER_TYPE)
+                : lookup.unreflectGetter(f).asType(GETTER_TYPE);
+        } catch (final IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static List<Validation<?>> loadValidations(final Field field) {
+        final List<Validation<?>> validations = new ArrayList<>();
+        addValidation(validations, field, Config.GenericType.class, Validation::from);
+        addValidation(validations, field, Config.Range.class, Validation::from);
+        addValidation(validations, field, Config.DecimalRange.class, Validation::from);
+        addValidation(validations, field, Config.Regex.class, Validation::from);
+        addValidation(validations, field, Config.NotBlank.class, Validation::from);
+        addValidation(validations, field, Config.NotNull.class, Validation::from);
+        return List.copyOf(validations);
+    }
+
+    private static <T extends Annotation, C extends Class<T>> void addValidation(
+            List<Validation<?>> validations, Field field, C c, Function<T, Validation<?>> f) {
+        final T annotation = field.getAnnotation(c);
+        if (annotation != null) {
+            validations.add(f.apply(annotation));
+        }
+    }
+}
@@ -7,46 +7,28 @@ import personthecat.catlib.data.ModDescriptor;
 import personthecat.catlib.event.error.LibErrorContext;
 import personthecat.catlib.exception.FormattedException;
 
-import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Function;
 
 public class FieldValue implements ConfigValue {
     private static final String CONFIG_CATEGORY = "catlib.errorMenu.config";
     private static final String GENERIC_ERROR = "catlib.errorText.configField";
+    private final FieldDescriptor descriptor;
     private final Field field;
     private final Object defaultValue;
-    private final List<Validation<?>> validations;
 
     public FieldValue(ModDescriptor mod, Field field, Object instance) {
-        this.field = field;
-
-        this.validations = new ArrayList<>();
-        try {
-            this.field.setAccessible(true);
-        } catch (final RuntimeException e) {
-            LibErrorContext.error(mod, new FieldException("Error setting accessible", e, this.field));
-        }
-        this.defaultValue = this.get(mod, instance);
-        loadValidations(this.validations, field);
-    }
-
-    private static void loadValidations(List<Validation<?>> validations, Field field) {
-        addValidation(validations, field, Config.GenericType.class, Validation::from);
-        addValidation(validations, field, Config.Range.class, Validation::from);
-        addValidation(validations, field, Config.DecimalRange.class, Validation::from);
-        addValidation(validations, field, Config.Regex.class, Validation::from);
-        addValidation(validations, field, Config.NotBlank.class, Validation::from);
-        addValidation(validations, field, Config.NotNull.class, Validation::from);
+        this(mod, FieldDescriptor.of(field), instance);
     }
 
-    private static <T extends Annotation, C extends Class<T>> void addValidation(
-            List<Validation<?>> validations, Field field, C c, Function<T, Validation<?>> f) {
-        if (field.isAnnotationPresent(c)) {
-            validations.add(f.apply(field.getAnnotation(c)));
+    FieldValue(ModDescriptor mod, FieldDescriptor descriptor, Object instance) {
+        this.descriptor = descriptor;
+        this.field = descriptor.field();
+        if (descriptor.accessError() != null) {
+            LibErrorContext.error(mod, new FieldException("Error setting accessible", descriptor.accessError(), this.field));
         }
+        this.defaultValue = this.get(mod, instance);
     }
 
     public Field getField() {
@@ -65,6 +47,24 @@ public class FieldValue implements ConfigValue {
 
     @Override
     public void set(ModDescriptor mod, Object instance, Object value) {
+        final MethodHandle setter = this.descriptor.setter();
+        if (setter == null) {
+            this.setReflectively(mod, instance, value);
+            return;
+        }
+        try {
+            setter.invokeExact(instance, value);
+        } catch (final ClassCastException | NullPointerException e) {
+            // match the contract of Field#set
+            throw new IllegalArgumentException("Cannot set " + this.field + " to " + value, e);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable t) {
+            LibErrorContext.error(mod, new FieldException("Error setting value: " + value, t, this.field));
+        }
+    }
+
+    private void setReflectively(ModDescriptor mod, Object instance, Object value) {
         try {
             this.field.set(instance, value);
         } catch (final ReflectiveOperationException e) {
@@ -74,6 +74,21 @@ public class FieldValue implements ConfigValue {
 
     @Override
     public Object get(ModDescriptor mod, Object instance) {
+        final MethodHandle getter = this.descriptor.getter();
+        if (getter == null) {
+            return this.getReflectively(mod, instance);
+        }
+        try {
+            return (Object) getter.invokeExact(instance);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable t) {
+            LibErrorContext.error(mod, new FieldException("Error getting value", t, this.field));
+            return null;
+        }
+    }
+
+    private Object getReflectively(ModDescriptor mod, Object instance) {
         try {
             return this.field.get(instance);
         } catch (final ReflectiveOperationException e) {
@@ -84,10 +99,7 @@ public class FieldValue implements ConfigValue {
 
     @Override
     public String comment() {
-        if (!this.field.isAnnotationPresent(Config.Comment.class)) {
-            return null;
-        }
-        return this.field.getAnnotation(Config.Comment.class).value();
+        return this.descriptor.comment();
     }
 
     @Override
@@ -97,17 +109,17 @@ public class FieldValue implements ConfigValue {
 
     @Override
     public List<Validation<?>> validations() {
-        return this.validations;
+        return this.descriptor.validations();
     }
 
     @Override
     public boolean needsWorldRestart() {
-        return this.field.isAnnotationPresent(Config.NeedsWorldRestart.class);
+        return this.descriptor.needsWorldRestart();
     }
 
     @Override
     public boolean canBeNull() {
-        return this.defaultValue == null || this.field.isAnnotationPresent(Config.CanBeNull.class);
+        return this.defaultValue == null || this.descriptor.canBeNull();
     }
 
     @Override
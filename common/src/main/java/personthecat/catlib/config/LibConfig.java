@@ -60,6 +60,10 @@ public class LibConfig implements Config.Listener {
         return INSTANCE.general.suppressDimensionLifecycleWarnings;
     }
 
+    public static boolean enableConfigHotReload() {
+        return INSTANCE.general.enableConfigHotReload;
+    }
+
     public static boolean wrapText() {
         return INSTANCE.commands.wrapText;
     }
@@ -95,6 +99,9 @@ public class LibConfig implements Config.Listener {
 
         @Comment("Whether to suppress warnings that occur due to custom dimensions")
         boolean suppressDimensionLifecycleWarnings = true;
+
+        @Comment("Whether to reload config files automatically when they are edited on disk.")
+        boolean enableConfigHotReload = true;
     }
 
     static class Commands {
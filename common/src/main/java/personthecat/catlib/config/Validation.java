@@ -90,13 +90,17 @@ public interface Validation<T> extends Predicate<T> {
             Iterable<Validation<?>> list, String filename, ConfigValue c, Object value) throws ValidationException {
         final Validation<?> failed = getValidationFailed(list, value);
         if (failed != null) {
-            final Object o = value != null ? value : "null";
-            final Component error = failed.getErrorText(c, o);
-            final Component details = failed.getDetailText(c, o);
-            throw new ValidationException(filename, c.name(), error, details);
+            throw createException(failed, filename, c, value);
         }
     }
 
+    static ValidationException createException(Validation<?> failed, String filename, ConfigValue c, Object value) {
+        final Object o = value != null ? value : "null";
+        final Component error = failed.getErrorText(c, o);
+        final Component details = failed.getDetailText(c, o);
+        return new ValidationException(filename, c.name(), error, details);
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     static @Nullable Validation<?> getValidationFailed(Iterable<Validation<?>> list, Object value) {
         for (final Validation<?> v : list) {
@@ -3,27 +3,25 @@ package personthecat.catlib.data;
 import com.google.common.collect.ImmutableList;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.DataResult;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ShortMaps;
 import net.minecraft.core.Holder;
 import net.minecraft.core.HolderSet;
 import net.minecraft.core.Registry;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.world.level.biome.Biome;
+import org.jetbrains.annotations.Nullable;
 import personthecat.catlib.data.IdMatcher.InvertibleEntry;
-import personthecat.catlib.data.collections.InvertibleSet;
-import personthecat.catlib.data.collections.MultiValueHashMap;
-import personthecat.catlib.data.collections.MultiValueMap;
 import personthecat.catlib.registry.DynamicRegistries;
 import personthecat.catlib.registry.RegistryHandle;
 import personthecat.catlib.util.LibUtil;
 
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 public class BiomePredicate extends IdList<Biome> {
 
@@ -65,40 +63,118 @@ public class BiomePredicate extends IdList<Biome> {
         if (this.format == Format.LIST) {
             return this;
         }
-        final InvertibleSet<Holder<Biome>> biomes = this.reconstruct();
-        final MultiValueMap<BiomeType, Holder<Biome>> categories = categorize(biomes.entries());
+        final BiomeIndex index = BiomeIndex.get();
+        final Reconstructed biomes = this.reconstruct(index);
         final List<InvertibleEntry<Biome>> entries = new ArrayList<>();
+        final BitSet named = new BitSet(index.size());
 
-        for (final Map.Entry<BiomeType, List<Holder<Biome>>> entry : categories.entrySet()) {
-            final var possible = entry.getKey().getTag();
-            if (possible.size() == entry.getValue().size()) {
-                entries.add(new InvertibleEntry<>(false, new TypeMatcher(entry.getKey())));
+        for (final BiomeType type : BiomeType.values()) {
+            final BitSet possible = index.typeBits(type);
+            if (!possible.intersects(biomes.bits())) {
+                continue;
+            }
+            final BitSet missing = (BitSet) possible.clone();
+            missing.andNot(biomes.bits());
+            if (missing.isEmpty()) {
+                entries.add(new InvertibleEntry<>(false, new TypeMatcher(type)));
             } else {
-                for (final Holder<Biome> biome : entry.getValue()) {
-                    entries.add(IdMatcher.id(false, DynamicRegistries.BIOME.keyOf(biome)));
+                final BitSet partial = (BitSet) possible.clone();
+                partial.and(biomes.bits());
+                partial.andNot(named);
+                for (int i = partial.nextSetBit(0); i >= 0; i = partial.nextSetBit(i + 1)) {
+                    entries.add(IdMatcher.id(false, index.keyAt(i)));
                 }
+                named.or(partial);
             }
         }
         return new BiomePredicate(Registries.BIOME, entries, biomes.blacklist(), Format.OBJECT);
     }
 
-    private InvertibleSet<Holder<Biome>> reconstruct() {
-        final HolderSet<Biome> compiled = this.compiled != null ? this.compiled : this.compile();
-        final Set<Holder<Biome>> all = new HashSet<>(DynamicRegistries.BIOME.holders());
-        if (compiled.size() > all.size() / 2) {
-            final Set<Holder<Biome>> inverted = new HashSet<>(all);
-            compiled.forEach(inverted::remove);
-            return new InvertibleSet<>(inverted, true);
+    private Reconstructed reconstruct(final BiomeIndex index) {
+        final BitSet bits = index.toBits(this.compile());
+        final int size = index.size();
+        if (bits.cardinality() > size / 2) {
+            bits.flip(0, size);
+            return new Reconstructed(bits, true);
         }
-        return new InvertibleSet<>(compiled.stream().collect(Collectors.toSet()), false);
+        return new Reconstructed(bits, false);
     }
 
-    private static MultiValueMap<BiomeType, Holder<Biome>> categorize(final Collection<Holder<Biome>> biomes) {
-        final MultiValueMap<BiomeType, Holder<Biome>> categories = new MultiValueHashMap<>();
-        for (final Holder<Biome> biome : biomes) {
-            BiomeType.getCategories(biome).forEach(t -> categories.add(t, biome));
+    private record Reconstructed(BitSet bits, boolean blacklist) {}
+
+    /**
+     * A snapshot of the biome registry in which every biome is assigned a stable
+     * index, so that sets of biomes can be represented as {@link BitSet bitsets}.
+     * Rebuilt lazily whenever the registry generation changes.
+     */
+    private static final class BiomeIndex {
+        private static final Object MUTEX = new Object();
+        private static volatile @Nullable BiomeIndex current;
+
+        private final int generation;
+        private final List<ResourceKey<Biome>> keys = new ArrayList<>();
+        private final Object2IntMap<ResourceKey<Biome>> indices = new Object2IntOpenHashMap<>();
+        private final BitSet[] types = new BitSet[BiomeType.values().length];
+
+        private BiomeIndex(final RegistryHandle<Biome> handle, final int generation) {
+            this.generation = generation;
+            this.indices.defaultReturnValue(-1);
+            for (final ResourceKey<Biome> key : handle.keySet()) {
+                this.indices.put(key, this.keys.size());
+                this.keys.add(key);
+            }
+            for (int i = 0; i < this.types.length; i++) {
+                this.types[i] = new BitSet(this.keys.size());
+            }
+            for (final var entry : Object2ShortMaps.fastIterable(BiomeType.getMasks())) {
+                final int index = this.indices.getInt(entry.getKey());
+                if (index < 0) continue;
+                final short mask = entry.getShortValue();
+                for (int t = 0; t < this.types.length; t++) {
+                    if ((mask & (1 << t)) != 0) {
+                        this.types[t].set(index);
+                    }
+                }
+            }
+        }
+
+        static BiomeIndex get() {
+            final int generation = DynamicRegistries.getGeneration(DynamicRegistries.BIOME);
+            BiomeIndex index = current;
+            if (index == null || index.generation != generation) {
+                synchronized (MUTEX) {
+                    index = current;
+                    if (index == null || index.generation != generation) {
+                        index = current = new BiomeIndex(DynamicRegistries.BIOME, generation);
+                    }
+                }
+            }
+            return index;
+        }
+
+        int size() {
+            return this.keys.size();
+        }
+
+        ResourceKey<Biome> keyAt(final int index) {
+            return this.keys.get(index);
+        }
+
+        BitSet typeBits(final BiomeType type) {
+            return this.types[type.ordinal()];
+        }
+
+        BitSet toBits(final HolderSet<Biome> biomes) {
+            final BitSet bits = new BitSet(this.keys.size());
+            for (final Holder<Biome> biome : biomes) {
+                final ResourceKey<Biome> key = biome.unwrapKey().orElse(null);
+                final int index = key != null ? this.indices.getInt(key) : -1;
+                if (index >= 0) {
+                    bits.set(index);
+                }
+            }
+            return bits;
         }
-        return categories;
     }
 
     public static class Builder extends IdList.Builder<Biome> {
@@ -166,7 +242,12 @@ public class BiomePredicate extends IdList<Biome> {
 
         @Override
         public void add(final RegistryHandle<Biome> handle, final Set<ResourceKey<Biome>> out) {
-            this.biomeType.getTag().forEach(holder -> out.add(handle.keyOf(holder)));
+            final short bit = this.biomeType.bit();
+            for (final var entry : Object2ShortMaps.fastIterable(BiomeType.getMasks())) {
+                if ((entry.getShortValue() & bit) != 0) {
+                    out.add(entry.getKey());
+                }
+            }
         }
 
         @Override
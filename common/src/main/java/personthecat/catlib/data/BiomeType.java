@@ -1,18 +1,21 @@
 package personthecat.catlib.data;
 
+import it.unimi.dsi.fastutil.objects.Object2ShortMap;
+import it.unimi.dsi.fastutil.objects.Object2ShortMaps;
+import it.unimi.dsi.fastutil.objects.Object2ShortOpenHashMap;
 import net.minecraft.core.Holder;
 import net.minecraft.core.HolderSet;
 import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.tags.TagKey;
 import net.minecraft.world.level.biome.Biome;
+import org.jetbrains.annotations.Nullable;
 import personthecat.catlib.registry.DynamicRegistries;
 
 import java.util.Collection;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.EnumSet;
+import java.util.Set;
 
 public enum BiomeType {
     BADLANDS,
@@ -30,24 +33,100 @@ public enum BiomeType {
     SAVANNA,
     TAIGA;
 
-    private static final Map<ResourceLocation, Collection<BiomeType>> TYPE_MAP = new ConcurrentHashMap<>();
-
-    static {
-        DynamicRegistries.listen(DynamicRegistries.BIOME, TYPE_MAP).accept(biomes -> TYPE_MAP.clear());
-    }
+    private static final BiomeType[] VALUES = values();
+    private static final Object MASK_MUTEX = new Object();
+    private static volatile @Nullable Masks masks;
 
     private final TagKey<Biome> key = TagKey.create(Registries.BIOME,
         new ResourceLocation("is_" + this.name().toLowerCase()));
 
+    /**
+     * Gets the bitmask of every type containing the given biome. Each type
+     * corresponds to the bit at its {@link #ordinal() ordinal}.
+     *
+     * <p>Masks for registered biomes are computed in a single pass over the type
+     * tags and cached until the biome registry is next updated.
+     *
+     * @param b The biome being categorized.
+     * @return A mask of each {@link #bit() bit} matching this biome.
+     */
+    public static short mask(final Holder<Biome> b) {
+        final ResourceKey<Biome> key = b.unwrapKey().orElse(null);
+        if (key == null) {
+            return computeMask(b);
+        }
+        return getMasks().getShort(key);
+    }
+
+    /**
+     * Gets the cached type masks for every biome in at least one type tag.
+     *
+     * @return An unmodifiable view of each biome key and its mask.
+     */
+    public static Object2ShortMap<ResourceKey<Biome>> getMasks() {
+        final int generation = DynamicRegistries.getGeneration(DynamicRegistries.BIOME);
+        Masks masks = BiomeType.masks;
+        if (masks == null || masks.generation != generation) {
+            synchronized (MASK_MUTEX) {
+                masks = BiomeType.masks;
+                if (masks == null || masks.generation != generation) {
+                    masks = BiomeType.masks = new Masks(generation, buildMasks());
+                }
+            }
+        }
+        return masks.map;
+    }
+
+    private static Object2ShortMap<ResourceKey<Biome>> buildMasks() {
+        final Object2ShortMap<ResourceKey<Biome>> masks = new Object2ShortOpenHashMap<>();
+        for (final BiomeType type : VALUES) {
+            final HolderSet.Named<Biome> tag = type.getTag();
+            if (tag == null) continue;
+            final short bit = type.bit();
+            for (final Holder<Biome> holder : tag) {
+                holder.unwrapKey().ifPresent(k -> masks.put(k, (short) (masks.getShort(k) | bit)));
+            }
+        }
+        return Object2ShortMaps.unmodifiable(masks);
+    }
+
+    private static short computeMask(final Holder<Biome> b) {
+        short mask = 0;
+        for (final BiomeType type : VALUES) {
+            final HolderSet.Named<Biome> tag = type.getTag();
+            if (tag != null && tag.contains(b)) {
+                mask |= type.bit();
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Expands a mask produced by {@link #mask(Holder)} into its respective types.
+     *
+     * @param mask The bitmask of biome types.
+     * @return A new set containing each type in the mask.
+     */
+    public static Set<BiomeType> fromMask(final short mask) {
+        final Set<BiomeType> types = EnumSet.noneOf(BiomeType.class);
+        for (final BiomeType type : VALUES) {
+            if ((mask & type.bit()) != 0) {
+                types.add(type);
+            }
+        }
+        return types;
+    }
+
     public static Collection<BiomeType> getCategories(final Holder<Biome> b) {
-        return TYPE_MAP.computeIfAbsent(DynamicRegistries.BIOME.idOf(b), id ->
-            Stream.of(values())
-                .filter(type -> type.matches(b))
-                .collect(Collectors.toSet()));
+        return fromMask(mask(b));
+    }
+
+    public short bit() {
+        return (short) (1 << this.ordinal());
     }
 
     public boolean matches(final Holder<Biome> b) {
-        return this.getTag().contains(b);
+        return (mask(b) & this.bit()) != 0;
     }
 
     public boolean matches(final Biome b) {
@@ -62,4 +141,6 @@ public enum BiomeType {
     public HolderSet.Named<Biome> getTag() {
         return DynamicRegistries.BIOME.getTags().get(this.key);
     }
+
+    private record Masks(int generation, Object2ShortMap<ResourceKey<Biome>> map) {}
 }
@@ -10,8 +10,10 @@ import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.level.dimension.DimensionType;
 import net.minecraft.world.level.dimension.LevelStem;
+import org.jetbrains.annotations.Nullable;
 import personthecat.catlib.data.IdMatcher.InvertibleEntry;
 import personthecat.catlib.registry.DynamicRegistries;
+import personthecat.catlib.registry.RegistryHandle;
 import personthecat.catlib.util.DimInjector;
 
 import java.util.List;
@@ -22,6 +24,9 @@ public class DimensionPredicate extends IdList<DimensionType> {
         codecFromTypes(Registries.DIMENSION_TYPE, IdMatcher.DEFAULT_TYPES, true, (Constructor<DimensionType, DimensionPredicate>) DimensionPredicate::new);
     public static final DimensionPredicate ALL_DIMENSIONS = builder().blacklist(true).build();
 
+    // chunks are almost always tested against the same type many times in a row
+    private volatile @Nullable LastResult last;
+
     protected DimensionPredicate(
             final ResourceKey<? extends Registry<DimensionType>> key,
             final List<InvertibleEntry<DimensionType>> entries,
@@ -50,11 +55,29 @@ public class DimensionPredicate extends IdList<DimensionType> {
         return this.isEmpty();
     }
 
+    @Override
+    public boolean test(final Holder<DimensionType> holder) {
+        this.checkGeneration();
+        final LastResult last = this.last;
+        if (last != null && last.type == holder) {
+            return last.result;
+        }
+        final boolean result = super.test(holder);
+        this.last = new LastResult(holder, result);
+        return result;
+    }
+
     public boolean test(final DimensionType type) {
         final Holder<DimensionType> holder = DynamicRegistries.DIMENSION_TYPE.getHolder(type);
         return holder != null && this.test(holder);
     }
 
+    @Override
+    protected void onRegistryUpdated(final RegistryHandle<DimensionType> actual) {
+        super.onRegistryUpdated(actual);
+        this.last = null;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -64,6 +87,8 @@ public class DimensionPredicate extends IdList<DimensionType> {
         return new DimensionPredicate(Registries.DIMENSION_TYPE, this.entries, blacklist, this.format);
     }
 
+    private record LastResult(Holder<DimensionType> type, boolean result) {}
+
     public static class Builder extends IdList.Builder<DimensionType> {
         public Builder() {
             super(Registries.DIMENSION_TYPE);
@@ -36,6 +36,7 @@ public class IdList<T> implements Predicate<Holder<T>> {
     protected final boolean blacklist;
     protected HolderSet<T> compiled;
     protected Predicate<Holder<T>> optimized;
+    private int generation;
 
     protected IdList(
             final ResourceKey<? extends Registry<T>> key,
@@ -46,8 +47,7 @@ public class IdList<T> implements Predicate<Holder<T>> {
         this.entries = entries;
         this.format = format;
         this.blacklist = blacklist;
-        DynamicRegistries.listen(this.handle, this)
-            .accept(this::onRegistryUpdated);
+        this.generation = DynamicRegistries.getGeneration(this.handle);
     }
 
     @Override
@@ -56,6 +56,7 @@ public class IdList<T> implements Predicate<Holder<T>> {
     }
 
     public Predicate<Holder<T>> optimize() {
+        this.checkGeneration();
         final var optimized = this.optimized;
         if (optimized != null) {
             return optimized;
@@ -68,7 +69,7 @@ public class IdList<T> implements Predicate<Holder<T>> {
             final HolderSet<T> compiled = this.compile();
             if (compiled.size() == 1) {
                 final Holder<T> entry = compiled.get(0);
-                return this.optimized = this.blacklist ? holder -> !entry.equals(handle) : entry::equals;
+                return this.optimized = entry::equals;
             }
             if (compiled.size() < (handle.size() / 2)) {
                 return this.optimized = compiled::contains;
@@ -79,6 +80,7 @@ public class IdList<T> implements Predicate<Holder<T>> {
     }
 
     public synchronized HolderSet<T> compile() {
+        this.checkGeneration();
         if (this.compiled != null) {
             return this.compiled;
         }
@@ -121,6 +123,40 @@ public class IdList<T> implements Predicate<Holder<T>> {
         return this.entries.isEmpty();
     }
 
+    /**
+     * Lazily discards any compiled state if the registry has been updated since it
+     * was last checked.
+     *
+     * <p>This costs a single read of the handle's generation. The generation of this
+     * list is only written while synchronized, and is checked again after acquiring
+     * the lock, so a stale read only costs an extra lock.
+     */
+    protected void checkGeneration() {
+        final int current = DynamicRegistries.getGeneration(this.handle);
+        if (this.generation != current) {
+            synchronized (this) {
+                if (this.generation != current) {
+                    this.onRegistryUpdated(this.handle);
+                    this.generation = current;
+                }
+            }
+        }
+    }
+
+    /**
+     * Called when the registry backing this list has been updated, so that any state
+     * derived from its previous contents can be discarded.
+     *
+     * <p>This hook is <b>not</b> called when the registry is reloaded. Instead, it is
+     * called by {@link #checkGeneration} the next time this list is used afterward,
+     * i.e. by {@link #test}, {@link #optimize}, or {@link #compile}, on the thread
+     * using it and while synchronized on this list. Multiple updates in between are
+     * reported once, and lists which are never used again are never notified.
+     * Subclasses with caches of their own must call {@link #checkGeneration} before
+     * reading them and should call <code>super</code> when overriding this method.
+     *
+     * @param actual The handle of the updated registry.
+     */
     protected void onRegistryUpdated(final RegistryHandle<T> actual) {
         this.compiled = null;
         this.optimized = null;
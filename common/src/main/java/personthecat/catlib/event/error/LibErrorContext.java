@@ -23,14 +23,26 @@ import personthecat.catlib.util.McUtils;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
+/**
+ * Collects errors reported by any mod, so they can be displayed after loading.
+ *
+ * <p>Errors may be reported from any thread. Each error is appended to a lock-free
+ * queue for its mod and indexed by its exact type, so that queries by type only
+ * visit matching errors. An error which repeats another error of the same severity,
+ * mod, type, and {@link FormattedException#getDedupeKey key} is dropped, so a broken
+ * data pack reporting the same failure many times does not grow the context.
+ */
 @Log4j2
 public class LibErrorContext {
 
-    private static final Map<ModDescriptor, List<FormattedException>> COMMON_ERRORS = new ConcurrentHashMap<>();
-    private static final Map<ModDescriptor, List<FormattedException>> FATAL_ERRORS = new ConcurrentHashMap<>();
+    private static final Map<ModDescriptor, Queue<FormattedException>> COMMON_ERRORS = new ConcurrentHashMap<>();
+    private static final Map<ModDescriptor, Queue<FormattedException>> FATAL_ERRORS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Queue<Reported>> BY_TYPE = new ConcurrentHashMap<>();
+    private static final Set<ErrorKey> REPORTED = ConcurrentHashMap.newKeySet();
     private static final Set<ModDescriptor> ERRED_MODS = ConcurrentHashMap.newKeySet();
     private static final AtomicLong LAST_BROADCAST = new AtomicLong(0L);
     private static final long BROADCAST_INTERVAL = 3000L;
@@ -48,17 +60,23 @@ public class LibErrorContext {
     }
 
     public static void register(final Severity level, final ModDescriptor mod, final FormattedException e) {
+        final Object key = e.getDedupeKey();
+        if (key != null && !REPORTED.add(new ErrorKey(level, mod, e.getClass(), key))) {
+            log.debug("Ignoring duplicate error for {}: {}", mod.modId(), e.getMessage());
+            return;
+        }
         e.onErrorReceived(level, mod, log);
 
         if (level == Severity.FATAL) {
-            FATAL_ERRORS.computeIfAbsent(mod, m -> Collections.synchronizedList(new ArrayList<>())).add(e);
+            FATAL_ERRORS.computeIfAbsent(mod, m -> new ConcurrentLinkedQueue<>()).add(e);
         } else if (level.isAtLeast(LibConfig.errorLevel())) {
-            COMMON_ERRORS.computeIfAbsent(mod, m -> Collections.synchronizedList(new ArrayList<>())).add(e);
+            COMMON_ERRORS.computeIfAbsent(mod, m -> new ConcurrentLinkedQueue<>()).add(e);
         } else {
             log.warn("Ignoring error at level: {}", level, e);
             e.onErrorIgnored(level, mod, log);
             return;
         }
+        BY_TYPE.computeIfAbsent(e.getClass(), c -> new ConcurrentLinkedQueue<>()).add(new Reported(mod, e));
         ERRED_MODS.add(mod);
 
         if (McUtils.isClientSide()) {
@@ -117,24 +135,21 @@ public class LibErrorContext {
 
     public static Collection<FormattedException> get(final Class<? extends FormattedException> type) {
         final Set<FormattedException> matching = new HashSet<>();
-        COMMON_ERRORS.forEach((mod, errors) -> errors.forEach(error -> {
-            if (type.isInstance(error)) matching.add(error);
-        }));
-        FATAL_ERRORS.forEach((mod, errors) -> errors.forEach(error -> {
-            if (type.isInstance(error)) matching.add(error);
-        }));
+        BY_TYPE.forEach((c, errors) -> {
+            if (type.isAssignableFrom(c)) errors.forEach(r -> matching.add(r.error()));
+        });
         return matching;
     }
 
     public static Collection<FormattedException> get(final ModDescriptor m, final Class<? extends FormattedException> type) {
         final Set<FormattedException> matching = new HashSet<>();
-        final List<FormattedException> common = COMMON_ERRORS.get(m);
+        final Queue<FormattedException> common = COMMON_ERRORS.get(m);
         if (common != null) {
             common.forEach(error -> {
                 if (type.isInstance(error)) matching.add(error);
             });
         }
-        final List<FormattedException> fatal = FATAL_ERRORS.get(m);
+        final Queue<FormattedException> fatal = FATAL_ERRORS.get(m);
         if (fatal != null) {
             fatal.forEach(error -> {
                 if (type.isInstance(error)) matching.add(error);
@@ -149,37 +164,48 @@ public class LibErrorContext {
         }
         COMMON_ERRORS.forEach((mod, errors) -> errors.removeIf(type::isInstance));
         FATAL_ERRORS.forEach((mod, errors) -> errors.removeIf(type::isInstance));
+        BY_TYPE.keySet().removeIf(type::isAssignableFrom);
+        REPORTED.removeIf(k -> type.isAssignableFrom(k.type()));
     }
 
     public static void clear(final ModDescriptor m, final Class<? extends FormattedException> type) {
-        COMMON_ERRORS.forEach((mod, errors) -> {
-            if (mod.equals(m)) errors.removeIf(type::isInstance);
-        });
-        FATAL_ERRORS.forEach((mod, errors) -> {
-            if (mod.equals(m)) errors.removeIf(type::isInstance);
+        final Queue<FormattedException> common = COMMON_ERRORS.get(m);
+        if (common != null) {
+            common.removeIf(type::isInstance);
+        }
+        final Queue<FormattedException> fatal = FATAL_ERRORS.get(m);
+        if (fatal != null) {
+            fatal.removeIf(type::isInstance);
+        }
+        BY_TYPE.forEach((c, errors) -> {
+            if (type.isAssignableFrom(c)) errors.removeIf(r -> r.mod().equals(m));
         });
+        REPORTED.removeIf(k -> k.mod().equals(m) && type.isAssignableFrom(k.type()));
     }
 
     public static MultiValueMap<ModDescriptor, FormattedException> getCommon() {
-        final MultiValueMap<ModDescriptor, FormattedException> common = new MultiValueHashMap<>();
-        common.putAll(COMMON_ERRORS);
-        return common;
+        return copy(COMMON_ERRORS);
     }
 
     public static MultiValueMap<ModDescriptor, FormattedException> getFatal() {
-        final MultiValueMap<ModDescriptor, FormattedException> fatal = new MultiValueHashMap<>();
-        fatal.putAll(FATAL_ERRORS);
-        return fatal;
+        return copy(FATAL_ERRORS);
+    }
+
+    private static MultiValueMap<ModDescriptor, FormattedException> copy(
+            final Map<ModDescriptor, Queue<FormattedException>> errors) {
+        final MultiValueMap<ModDescriptor, FormattedException> copy = new MultiValueHashMap<>();
+        errors.forEach((mod, queue) -> copy.put(mod, new ArrayList<>(queue)));
+        return copy;
     }
 
     @ApiStatus.Internal
     public static void outputServerErrors(final boolean notify) {
         if (hasErrors()) {
-            for (final Map.Entry<ModDescriptor, List<FormattedException>> entry : COMMON_ERRORS.entrySet()) {
+            for (final Map.Entry<ModDescriptor, Queue<FormattedException>> entry : COMMON_ERRORS.entrySet()) {
                 log.error("Encountered {} warnings for {}", entry.getValue().size(), entry.getKey().modId());
                 entry.getValue().forEach(log::warn);
             }
-            for (final Map.Entry<ModDescriptor, List<FormattedException>> entry : FATAL_ERRORS.entrySet()) {
+            for (final Map.Entry<ModDescriptor, Queue<FormattedException>> entry : FATAL_ERRORS.entrySet()) {
                 log.error("Encountered {} errors for {}", entry.getValue().size(), entry.getKey().modId());
                 entry.getValue().forEach(log::fatal);
             }
@@ -221,9 +247,15 @@ public class LibErrorContext {
     public static void dispose() {
         COMMON_ERRORS.clear();
         FATAL_ERRORS.clear();
+        BY_TYPE.clear();
+        REPORTED.clear();
         ERRED_MODS.clear();
     }
 
+    private record Reported(ModDescriptor mod, FormattedException error) {}
+
+    private record ErrorKey(Severity level, ModDescriptor mod, Class<?> type, Object key) {}
+
     @FunctionalInterface
     public interface ThrowingRunnable<E extends Throwable> {
         void run() throws E;
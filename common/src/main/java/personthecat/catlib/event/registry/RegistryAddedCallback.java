@@ -6,4 +6,27 @@ import personthecat.catlib.registry.RegistryHandle;
 
 public interface RegistryAddedCallback<T> {
     void onRegistryAdded(RegistryHandle<T> handle, ResourceKey<T> key, T t);
+
+    /**
+     * Variant of {@link RegistryAddedCallback} which receives every entry in a registry
+     * at once. This avoids the cost of dispatching each entry to each callback separately
+     * when an entire registry is being replayed.
+     *
+     * <p>Entries registered individually are delivered as a snapshot containing a
+     * single entry.
+     *
+     * @param <T> The type of object in the registry.
+     */
+    @FunctionalInterface
+    interface Batch<T> {
+        void onRegistryAdded(RegistrySnapshot<T> snapshot);
+
+        static <T> Batch<T> forEach(final RegistryAddedCallback<T> f) {
+            return snapshot -> snapshot.forEach(f);
+        }
+
+        default RegistryAddedCallback<T> perEntry() {
+            return (handle, key, t) -> this.onRegistryAdded(RegistrySnapshot.single(handle, key, t));
+        }
+    }
 }
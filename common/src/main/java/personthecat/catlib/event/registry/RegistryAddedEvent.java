@@ -60,6 +60,25 @@ public class RegistryAddedEvent {
         throw new MissingOverrideException();
     }
 
+    /**
+     * Variant of {@link #withRetroactive} which receives every object already in the
+     * registry in a single call. Callbacks registered back-to-back will share the same
+     * {@link RegistrySnapshot snapshot} of the registry, as long as nothing new has been
+     * registered in the meantime.
+     *
+     * <p>Any objects registered afterward will be delivered as a snapshot containing a
+     * single entry.
+     *
+     * @throws RegistryLookupException If no registry is found.
+     * @param key The key of the registry which this event corresponds to.
+     * @param f   The callback to fire with the contents of the registry.
+     * @param <T> The type of object in the registry.
+     */
+    @ExpectPlatform
+    public static <T> void withRetroactiveBatch(final ResourceKey<Registry<T>> key, final RegistryAddedCallback.Batch<T> f) {
+        throw new MissingOverrideException();
+    }
+
     /**
      * This method registers a {@link RegistryAddedCallback} for a registry of the given type.
      * Unlike {@link #get}, <b>this method will also fire the callback for every object in a
@@ -80,6 +99,21 @@ public class RegistryAddedEvent {
         throw new MissingOverrideException();
     }
 
+    /**
+     * Variant of {@link #withDynamic} which receives the entire contents of the dynamic
+     * registry in a single call every time the dynamic registries are loaded.
+     *
+     * @throws RegistryLookupException If no active registry is found.
+     * @throws IllegalStateException If a dynamic registry is not found on {@link RegistryAccessEvent}.
+     * @param key The key of the registry which this event corresponds to.
+     * @param f   The callback to fire with the contents of the registry.
+     * @param <T> The type of object in the registry.
+     */
+    @ExpectPlatform
+    public static <T> void withDynamicBatch(final ResourceKey<Registry<T>> key, final RegistryAddedCallback.Batch<T> f) {
+        throw new MissingOverrideException();
+    }
+
     /**
      * This method registers a {@link RegistryAddedCallback} for a registry of the given type.
      * Unlike {@link #get}, {@link #withRetroactive}, and {@link #withDynamic}, <b>this callback
@@ -96,6 +130,21 @@ public class RegistryAddedEvent {
         throw new MissingOverrideException();
     }
 
+    /**
+     * Variant of {@link #exhaustive} which receives the contents of each registry in a
+     * single call. See {@link #withRetroactiveBatch} and {@link #withDynamicBatch}.
+     *
+     * @throws RegistryLookupException If no active registry is found.
+     * @throws IllegalStateException If a dynamic registry is not found on {@link RegistryAccessEvent}.
+     * @param key The key of the registry which this event corresponds to.
+     * @param f   The callback to fire with the contents of the registry.
+     * @param <T> The type of object in the registry.
+     */
+    @ExpectPlatform
+    public static <T> void exhaustiveBatch(final ResourceKey<Registry<T>> key, final RegistryAddedCallback.Batch<T> f) {
+        throw new MissingOverrideException();
+    }
+
     /**
      * Runs any platform-specific setup required on {@link RegistryAccessEvent}.
      *
@@ -0,0 +1,163 @@
+package personthecat.catlib.event.registry;
+
+import net.minecraft.resources.ResourceKey;
+import org.jetbrains.annotations.ApiStatus;
+import personthecat.catlib.registry.RegistryHandle;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * An immutable copy of every entry in a registry at some point in time, stored as
+ * a pair of parallel arrays. This is the type of data received by batch callbacks.
+ * See {@link RegistryAddedCallback.Batch}.
+ *
+ * @param <T> The type of object in the registry.
+ */
+public final class RegistrySnapshot<T> {
+    private static final Map<ResourceKey<?>, Shared> SHARED = new ConcurrentHashMap<>();
+    private static final Map<ResourceKey<?>, Integer> GENERATIONS = new ConcurrentHashMap<>();
+
+    private final RegistryHandle<T> handle;
+    private final ResourceKey<T>[] keys;
+    private final Object[] values;
+
+    private RegistrySnapshot(final RegistryHandle<T> handle, final ResourceKey<T>[] keys, final Object[] values) {
+        this.handle = handle;
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /**
+     * Copies every entry currently in the given registry.
+     *
+     * @param handle The registry being copied.
+     * @param <T>    The type of object in the registry.
+     * @return A new snapshot of the registry.
+     */
+    public static <T> RegistrySnapshot<T> of(final RegistryHandle<T> handle) {
+        final Collector<T> collector = new Collector<>(handle.size());
+        handle.forEach(collector);
+        return collector.build(handle);
+    }
+
+    /**
+     * Variant of {@link #of(RegistryHandle)} which reuses the previous snapshot of
+     * the same registry if nothing has been registered to it in the meantime. This
+     * allows any number of callbacks registered back-to-back to share a single copy.
+     *
+     * <p>Shared snapshots are held until the registry is {@link #invalidate
+     * invalidated} or until the game is ready, at which point every shared snapshot
+     * is {@link #releaseShared released}. At most one snapshot per registry is ever
+     * retained.
+     *
+     * @param handle The registry being copied.
+     * @param <T>    The type of object in the registry.
+     * @return A snapshot of the registry, which may be shared.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> RegistrySnapshot<T> shared(final RegistryHandle<T> handle) {
+        final ResourceKey<?> key = handle.key();
+        final int generation = GENERATIONS.getOrDefault(key, 0);
+        final Shared cached = SHARED.get(key);
+        if (cached != null && cached.generation == generation && cached.snapshot.handle == handle) {
+            return (RegistrySnapshot<T>) cached.snapshot;
+        }
+        final RegistrySnapshot<T> snapshot = of(handle);
+        SHARED.put(key, new Shared(generation, snapshot));
+        return snapshot;
+    }
+
+    /**
+     * Indicates that an entry has been added to the given registry, so that any
+     * snapshot {@link #shared shared} before this point will not be reused.
+     *
+     * @param key The key of the registry which was modified.
+     */
+    @ApiStatus.Internal
+    public static void invalidate(final ResourceKey<?> key) {
+        GENERATIONS.merge(key, 1, Integer::sum);
+        SHARED.remove(key);
+    }
+
+    /**
+     * Releases every {@link #shared shared} snapshot, e.g. once the game is ready and
+     * no more callbacks are expected to be registered back-to-back.
+     */
+    @ApiStatus.Internal
+    public static void releaseShared() {
+        SHARED.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> RegistrySnapshot<T> single(final RegistryHandle<T> handle, final ResourceKey<T> key, final T t) {
+        return new RegistrySnapshot<>(handle, new ResourceKey[] { key }, new Object[] { t });
+    }
+
+    public RegistryHandle<T> handle() {
+        return this.handle;
+    }
+
+    public int size() {
+        return this.keys.length;
+    }
+
+    public ResourceKey<T> key(final int i) {
+        return this.keys[i];
+    }
+
+    @SuppressWarnings("unchecked")
+    public T value(final int i) {
+        return (T) this.values[i];
+    }
+
+    /**
+     * Fires a regular callback once for every entry in this snapshot.
+     *
+     * @param f The callback to fire for each entry.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(final RegistryAddedCallback<T> f) {
+        final RegistryHandle<T> handle = this.handle;
+        final ResourceKey<T>[] keys = this.keys;
+        final Object[] values = this.values;
+        for (int i = 0; i < keys.length; i++) {
+            f.onRegistryAdded(handle, keys[i], (T) values[i]);
+        }
+    }
+
+    // the generation is read before copying, so a concurrent registration is never missed
+    private record Shared(int generation, RegistrySnapshot<?> snapshot) {}
+
+    private static final class Collector<T> implements BiConsumer<ResourceKey<T>, T> {
+        ResourceKey<T>[] keys;
+        Object[] values;
+        int size;
+
+        @SuppressWarnings("unchecked")
+        Collector(final int expected) {
+            this.keys = new ResourceKey[expected];
+            this.values = new Object[expected];
+        }
+
+        @Override
+        public void accept(final ResourceKey<T> key, final T t) {
+            if (this.size == this.keys.length) { // registered during iteration
+                this.keys = Arrays.copyOf(this.keys, this.size * 2 + 1);
+                this.values = Arrays.copyOf(this.values, this.size * 2 + 1);
+            }
+            this.keys[this.size] = key;
+            this.values[this.size] = t;
+            this.size++;
+        }
+
+        RegistrySnapshot<T> build(final RegistryHandle<T> handle) {
+            if (this.size != this.keys.length) {
+                return new RegistrySnapshot<>(handle, Arrays.copyOf(this.keys, this.size), Arrays.copyOf(this.values, this.size));
+            }
+            return new RegistrySnapshot<>(handle, this.keys, this.values);
+        }
+    }
+}
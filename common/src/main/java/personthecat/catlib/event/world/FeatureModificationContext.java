@@ -26,7 +26,9 @@ import org.jetbrains.annotations.Nullable;
 import personthecat.catlib.util.SyncTracker;
 
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.Optional;
+import java.util.SequencedSet;
 import java.util.function.Predicate;
 
 public abstract class FeatureModificationContext {
@@ -130,7 +132,9 @@ public abstract class FeatureModificationContext {
     public boolean removeCarver(final ResourceKey<ConfiguredWorldCarver<?>> key) {
         boolean anyRemoved = false;
         for (final Carving step : Carving.values()) {
-            anyRemoved |= this.removeCarver(step, key);
+            if (containsKey(this.getCarvers(step), key)) {
+                anyRemoved |= this.removeCarver(step, key);
+            }
         }
         return anyRemoved;
     }
@@ -158,7 +162,9 @@ public abstract class FeatureModificationContext {
     public boolean removeFeature(final ResourceKey<PlacedFeature> id) {
         boolean anyRemoved = false;
         for (final Decoration step : Decoration.values()) {
-            anyRemoved |= this.removeFeature(step, id);
+            if (containsKey(this.getFeatures(step), id)) {
+                anyRemoved |= this.removeFeature(step, id);
+            }
         }
         return anyRemoved;
     }
@@ -187,6 +193,37 @@ public abstract class FeatureModificationContext {
         this.addFeature(step, getHolder(this.getFeatureRegistry(), feature));
     }
 
+    // skips steps which don't contain the key, since removal may copy the entire step
+    private static <T> boolean containsKey(final Iterable<Holder<T>> holders, final ResourceKey<T> key) {
+        for (final Holder<T> holder : holders) {
+            if (holder.is(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Collects the keys of every registered holder in a single step matching the given
+     * predicate. Platforms which can only remove entries by key may use this to locate
+     * matches without testing every entry in the registry.
+     *
+     * @param holders   The holders currently present in a single step.
+     * @param predicate The condition for removal.
+     * @param <T>       The type of holder, e.g. {@link PlacedFeature}.
+     * @return The keys of every matching holder, in order.
+     */
+    protected static <T> SequencedSet<ResourceKey<T>> collectMatching(
+            final Iterable<Holder<T>> holders, final Predicate<Holder<T>> predicate) {
+        final SequencedSet<ResourceKey<T>> matching = new LinkedHashSet<>();
+        for (final Holder<T> holder : holders) {
+            if (predicate.test(holder)) {
+                holder.unwrapKey().ifPresent(matching::add);
+            }
+        }
+        return matching;
+    }
+
     protected static <T> Holder<T> getHolder(final Registry<T> registry, final T value) {
         final var key = registry.getResourceKey(value);
         if (key.isPresent()) {
@@ -6,12 +6,18 @@ import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.tags.TagKey;
 import net.minecraft.world.level.biome.Biome;
-import org.apache.commons.lang3.mutable.MutableBoolean;
+import org.jetbrains.annotations.Nullable;
 import personthecat.catlib.data.BiomePredicate;
+import personthecat.catlib.data.IdList;
 import personthecat.catlib.data.IdMatcher;
 import personthecat.catlib.data.collections.ObserverSet;
 import personthecat.catlib.event.LibEvent;
+import personthecat.catlib.registry.DynamicRegistries;
+import personthecat.catlib.registry.RegistryHandle;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -37,7 +43,9 @@ public class FeatureModificationEvent {
     }
 
     private static void register(final Phase phase, final Listener listener) {
-        EVENTS.get(phase).register(listener);
+        final var event = EVENTS.get(phase);
+        event.register(listener);
+        ((Invoker) event.invoker()).invalidate();
     }
 
     public static LocalRegistrar forBiome(final ResourceLocation id) {
@@ -105,22 +113,91 @@ public class FeatureModificationEvent {
         }
     }
 
-    private record Invoker(ObserverSet<Listener> listeners) implements Listener {
+    /**
+     * Dispatches to every listener by biome. The listeners valid for each biome are
+     * resolved in bulk once per registry update and then reused for every biome in
+     * the phase, rather than testing each listener's filter for every biome.
+     */
+    private static class Invoker implements Listener {
+        private static final Listener[] NO_LISTENERS = new Listener[0];
+        private final ObserverSet<Listener> listeners;
+        private volatile @Nullable Map<ResourceKey<Biome>, Listener[]> dispatch;
+
+        private Invoker(final ObserverSet<Listener> listeners) {
+            this.listeners = listeners;
+            DynamicRegistries.listen(DynamicRegistries.BIOME, this).accept(biomes -> this.invalidate());
+        }
+
+        private void invalidate() {
+            this.dispatch = null;
+        }
 
         @Override
-        public boolean isValidForBiome(Holder<Biome> biome) {
-            final var anyValid = new MutableBoolean();
-            this.listeners.forEach(listener -> {
-                if (!anyValid.booleanValue() && listener.isValidForBiome(biome)) {
-                    anyValid.setTrue();
+        public boolean isValidForBiome(final Holder<Biome> biome) {
+            final var valid = this.getListeners(biome);
+            if (valid != null) {
+                return valid.length > 0;
+            }
+            for (final var listener : this.listeners.getUntracked()) {
+                if (listener.isValidForBiome(biome)) {
+                    return true;
                 }
-            });
-            return anyValid.booleanValue();
+            }
+            return false;
         }
 
         @Override
-        public void modifyBiome(FeatureModificationContext ctx) {
-            this.listeners.forEach(listener -> listener.modifyBiomeIfValid(ctx));
+        public void modifyBiome(final FeatureModificationContext ctx) {
+            final var valid = this.getListeners(ctx.getBiome());
+            if (valid == null) {
+                this.listeners.forEach(listener -> listener.modifyBiomeIfValid(ctx));
+                return;
+            }
+            for (final var listener : valid) {
+                listener.modifyBiome(ctx);
+            }
+        }
+
+        // null when the biome is not indexed, e.g. direct holders or out-of-sequence registries
+        private Listener @Nullable [] getListeners(final Holder<Biome> biome) {
+            final var key = biome.unwrapKey();
+            if (key.isEmpty()) {
+                return null;
+            }
+            var dispatch = this.dispatch;
+            if (dispatch == null) {
+                synchronized (this) {
+                    dispatch = this.dispatch;
+                    if (dispatch == null) {
+                        this.dispatch = dispatch = this.buildDispatch(DynamicRegistries.BIOME);
+                    }
+                }
+            }
+            return dispatch.get(key.get());
+        }
+
+        @SuppressWarnings("unchecked")
+        private Map<ResourceKey<Biome>, Listener[]> buildDispatch(final RegistryHandle<Biome> biomes) {
+            final Map<ResourceKey<Biome>, List<Listener>> matches = new HashMap<>();
+            biomes.forEachHolder((key, holder) -> matches.put(key, new ArrayList<>()));
+
+            for (final var listener : this.listeners.getUntracked()) {
+                // compileKeys() does not agree with test() for empty lists, which match all or nothing
+                if (listener instanceof ListenerRecord r && r.filter instanceof IdList<?> list && !list.isEmpty()) {
+                    for (final var key : ((IdList<Biome>) list).compileKeys()) {
+                        final var valid = matches.get(key);
+                        if (valid != null) valid.add(listener);
+                    }
+                } else {
+                    biomes.forEachHolder((key, holder) -> {
+                        if (listener.isValidForBiome(holder)) matches.get(key).add(listener);
+                    });
+                }
+            }
+            final Map<ResourceKey<Biome>, Listener[]> dispatch = new HashMap<>(matches.size());
+            matches.forEach((key, valid) ->
+                dispatch.put(key, valid.isEmpty() ? NO_LISTENERS : valid.toArray(Listener[]::new)));
+            return dispatch;
         }
     }
 
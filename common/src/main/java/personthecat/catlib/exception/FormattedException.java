@@ -15,6 +15,7 @@ import personthecat.catlib.linting.StackTraceLinter;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.Arrays;
 
 public abstract class FormattedException extends Exception {
 
@@ -61,6 +62,21 @@ public abstract class FormattedException extends Exception {
         return new ErrorDetailPage(parent, this.getTitleMessage(), this.getDetailMessage());
     }
 
+    /**
+     * Identifies this error when discarding repeated reports. If a mod reports two errors
+     * of the same type and severity with equal keys, only the first is kept.
+     *
+     * <p>By default, this is the category, title, display message, and raw message, which
+     * together should describe whichever data caused the error. Subclasses which store
+     * that data elsewhere should include it in the key, or else return <code>null</code>.
+     *
+     * @return A key identifying this error, or <code>null</code> to always keep it.
+     */
+    @Nullable
+    public Object getDedupeKey() {
+        return Arrays.asList(this.getCategory(), this.getTitleMessage(), this.getDisplayMessage(), this.getMessage());
+    }
+
     public void onErrorReceived(final Logger log) {}
 
     public void onErrorReceived(final Severity level, final ModDescriptor mod, final Logger log) {
@@ -4,6 +4,8 @@ import net.minecraft.network.chat.Component;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
+
 public class GenericFormattedException extends FormattedException {
     private final Component tooltip;
 
@@ -26,4 +28,19 @@ public class GenericFormattedException extends FormattedException {
     public @Nullable Component getTooltip() {
         return this.tooltip;
     }
+
+    /**
+     * The message of a generic error is derived from its cause, which is often not
+     * specific enough to identify it. The type of the cause and the location where it
+     * was thrown are included, so that unrelated errors with equal messages are kept.
+     */
+    @Override
+    public @Nullable Object getDedupeKey() {
+        final Throwable cause = this.getCause();
+        if (cause == null) {
+            return super.getDedupeKey();
+        }
+        final StackTraceElement[] trace = cause.getStackTrace();
+        return Arrays.asList(super.getDedupeKey(), cause.getClass(), trace.length > 0 ? trace[0] : null);
+    }
 }
@@ -0,0 +1,157 @@
+package personthecat.catlib.linting;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Compiles an ordered map of {@link Pattern patterns} into a single expression,
+ * such that one {@link Matcher} can report which of the patterns would have been
+ * found first when testing each one individually.
+ *
+ * <p>Each pattern is wrapped in a capturing group and joined into a plain alternation,
+ * <code>(p1)|(p2)|...</code>, so that a single {@link Matcher#find()} scans the input
+ * once for every pattern. This locates the leftmost match, preferring earlier patterns
+ * at the same position. Since the caller expects the first pattern in declaration order
+ * which matches <em>anywhere</em>, a match for a later pattern only proves that no
+ * earlier pattern matches at or before that position. The search then resumes after it
+ * using the alternation of the earlier patterns only, until none of them are found.
+ * Each step strictly narrows the candidates, and in the common case where the leftmost
+ * match also comes from the earliest pattern, only one scan is needed.
+ *
+ * <p>Patterns which cannot be safely embedded (e.g. those using numbered back
+ * references or flags with no inline equivalent) cause the alternation to fall
+ * back to testing each pattern sequentially.
+ *
+ * @param <T> The type of value associated with each pattern.
+ */
+final class PatternAlternation<T> {
+    private static final PatternAlternation<?> EMPTY = new PatternAlternation<>(null, new int[0], List.of(), List.of());
+    private static final Pattern UNSAFE_ESCAPE = Pattern.compile("\\\\(?:[1-9]|G)");
+    private static final int UNSUPPORTED_FLAGS = Pattern.LITERAL | Pattern.CANON_EQ | Pattern.COMMENTS | Pattern.UNICODE_CHARACTER_CLASS;
+
+    private final @Nullable Pattern[] prefixes;
+    private final int[] markers;
+    private final List<Pattern> patterns;
+    private final List<T> values;
+
+    // prefixes[k] is the alternation of the first k + 1 patterns
+    private PatternAlternation(@Nullable Pattern[] prefixes, int[] markers, List<Pattern> patterns, List<T> values) {
+        this.prefixes = prefixes;
+        this.markers = markers;
+        this.patterns = patterns;
+        this.values = values;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> PatternAlternation<T> empty() {
+        return (PatternAlternation<T>) EMPTY;
+    }
+
+    static <T> PatternAlternation<T> compile(final Map<Pattern, T> source) {
+        if (source.isEmpty()) {
+            return empty();
+        }
+        final var patterns = List.copyOf(source.keySet());
+        final var values = new ArrayList<T>(source.values());
+        if (patterns.size() == 1) {
+            return new PatternAlternation<>(null, new int[0], patterns, values);
+        }
+        final var markers = new int[patterns.size()];
+        final var prefixes = new Pattern[patterns.size()];
+        final var sb = new StringBuilder();
+        int group = 1;
+        try {
+            for (int i = 0; i < patterns.size(); i++) {
+                final var p = patterns.get(i);
+                final var flags = inlineFlags(p);
+                if (flags == null || UNSAFE_ESCAPE.matcher(p.pattern()).find()) {
+                    return new PatternAlternation<>(null, new int[0], patterns, values);
+                }
+                if (i > 0) sb.append('|');
+                sb.append("((?").append(flags).append(':').append(p.pattern()).append("))");
+                markers[i] = group;
+                group += p.matcher("").groupCount() + 1;
+                prefixes[i] = Pattern.compile(sb.toString());
+            }
+            return new PatternAlternation<>(prefixes, markers, patterns, values);
+        } catch (final PatternSyntaxException ignored) {
+            // e.g. duplicate group names between patterns
+            return new PatternAlternation<>(null, new int[0], patterns, values);
+        }
+    }
+
+    private static @Nullable String inlineFlags(final Pattern p) {
+        final int flags = p.flags();
+        if ((flags & UNSUPPORTED_FLAGS) != 0) {
+            return null;
+        }
+        final var sb = new StringBuilder();
+        if ((flags & Pattern.CASE_INSENSITIVE) != 0) sb.append('i');
+        if ((flags & Pattern.MULTILINE) != 0) sb.append('m');
+        if ((flags & Pattern.DOTALL) != 0) sb.append('s');
+        if ((flags & Pattern.UNICODE_CASE) != 0) sb.append('u');
+        if ((flags & Pattern.UNIX_LINES) != 0) sb.append('d');
+        return sb.toString();
+    }
+
+    boolean isEmpty() {
+        return this.values.isEmpty();
+    }
+
+    boolean isCombined() {
+        return this.prefixes != null;
+    }
+
+    /**
+     * Locates the value of the first pattern which can be found anywhere in the
+     * given text.
+     *
+     * @param s The text being matched against.
+     * @return The value of the first matching pattern, or else <code>null</code>.
+     */
+    @Nullable T find(final CharSequence s) {
+        if (this.prefixes != null) {
+            final int found = this.findCombined(s);
+            return found < 0 ? null : this.values.get(found);
+        }
+        for (int i = 0; i < this.patterns.size(); i++) {
+            if (this.patterns.get(i).matcher(s).find()) {
+                return this.values.get(i);
+            }
+        }
+        return null;
+    }
+
+    private int findCombined(final CharSequence s) {
+        Matcher matcher = this.prefixes[this.prefixes.length - 1].matcher(s);
+        if (!matcher.find()) {
+            return -1;
+        }
+        int found = this.getBranch(matcher, this.prefixes.length);
+        // earlier patterns may still match after this position
+        while (found > 0 && matcher.start() < s.length()) {
+            final int from = matcher.start() + 1;
+            matcher = this.prefixes[found - 1].matcher(s);
+            if (!matcher.find(from)) {
+                break;
+            }
+            found = this.getBranch(matcher, found);
+        }
+        return found;
+    }
+
+    private int getBranch(final Matcher matcher, final int count) {
+        for (int i = 0; i < count; i++) {
+            if (matcher.start(this.markers[i]) >= 0) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("No branch matched");
+    }
+}
@@ -21,6 +21,7 @@ import java.io.UncheckedIOException;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.regex.Pattern;
@@ -32,10 +33,10 @@ public class TokenHighlighter implements Highlighter {
     private final TokenizingFunction tokenizer;
     private final Map<TokenType, Linter> tokenLinters;
     private final Map<StringType, Linter> stringLinters;
-    private final Map<Pattern, Linter> stringPatternLinters;
+    private final PatternAlternation<Linter> stringPatternLinters;
     private final Map<CommentStyle, Linter> commentLinters;
-    private final Map<Pattern, Linter> commentPatternLinters;
-    private final Map<Pattern, Linter> wordLinters;
+    private final PatternAlternation<Linter> commentPatternLinters;
+    private final PatternAlternation<Linter> wordLinters;
     private final @Nullable Linter keyLinter;
 
     private TokenHighlighter(
@@ -50,10 +51,10 @@ public class TokenHighlighter implements Highlighter {
         this.tokenizer = tokenizer;
         this.tokenLinters = tokenLinters;
         this.stringLinters = stringLinters;
-        this.stringPatternLinters = stringPatternLinters;
+        this.stringPatternLinters = PatternAlternation.compile(stringPatternLinters);
         this.commentLinters = commentLinters;
-        this.commentPatternLinters = commentPatternLinters;
-        this.wordLinters = wordLinters;
+        this.commentPatternLinters = PatternAlternation.compile(commentPatternLinters);
+        this.wordLinters = PatternAlternation.compile(wordLinters);
         this.keyLinter = keyLinter;
     }
 
@@ -71,11 +72,9 @@ public class TokenHighlighter implements Highlighter {
         final var def = this.tokenLinters.get(type);
 
         if (type == TokenType.COMMENT) {
-            final var s = token.parsed();
-            for (final var e : this.commentPatternLinters.entrySet()) {
-                if (e.getKey().matcher(s).find()) {
-                    return e.getValue();
-                }
+            if (!this.commentPatternLinters.isEmpty()) {
+                final var l = this.commentPatternLinters.find(token.parsed());
+                if (l != null) return l;
             }
             return this.commentLinters.getOrDefault(token.commentStyle(), def);
         }
@@ -83,18 +82,13 @@ public class TokenHighlighter implements Highlighter {
             if (expectingKey && this.keyLinter != null) {
                 return this.keyLinter;
             }
-            final var s = token.parsed();
-            if (type == TokenType.WORD) {
-                for (final var e : this.wordLinters.entrySet()) {
-                    if (e.getKey().matcher(s).find()) {
-                        return e.getValue();
-                    }
-                }
+            if (type == TokenType.WORD && !this.wordLinters.isEmpty()) {
+                final var l = this.wordLinters.find(token.parsed());
+                if (l != null) return l;
             }
-            for (final var e : this.stringPatternLinters.entrySet()) {
-                if (e.getKey().matcher(s).find()) {
-                    return e.getValue();
-                }
+            if (!this.stringPatternLinters.isEmpty()) {
+                final var l = this.stringPatternLinters.find(token.parsed());
+                if (l != null) return l;
             }
             final var st = type == TokenType.WORD ? StringType.IMPLICIT : token.stringType();
             return this.stringLinters.getOrDefault(st, def);
@@ -106,10 +100,10 @@ public class TokenHighlighter implements Highlighter {
         private @NotNull TokenizingFunction tokenizer = JsonContext.getTokenizer("djs");
         private final Map<TokenType, Linter> tokenLinters = new HashMap<>();
         private final Map<StringType, Linter> stringLinters = new HashMap<>();
-        private final Map<Pattern, Linter> stringPatternLinters = new HashMap<>();
+        private final Map<Pattern, Linter> stringPatternLinters = new LinkedHashMap<>();
         private final Map<CommentStyle, Linter> commentLinters = new HashMap<>();
-        private final Map<Pattern, Linter> commentPatternLinters = new HashMap<>();
-        private final Map<Pattern, Linter> wordLinters = new HashMap<>();
+        private final Map<Pattern, Linter> commentPatternLinters = new LinkedHashMap<>();
+        private final Map<Pattern, Linter> wordLinters = new LinkedHashMap<>();
         private @Nullable Linter keyLinter;
 
         public Builder tokenizer(@NotNull TokenizingFunction tokenizer) {
@@ -1,9 +1,11 @@
 package personthecat.catlib.mixin;
 
+import net.minecraft.core.Holder;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.chunk.status.ChunkStatus;
 import net.minecraft.world.level.chunk.status.ToFullChunk;
 import net.minecraft.world.level.chunk.status.WorldGenContext;
+import net.minecraft.world.level.dimension.DimensionType;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
@@ -20,6 +22,9 @@ public class ChunkStatusMixin {
     public void injectDims(
             WorldGenContext ctx, Executor e, ToFullChunk toFullChunk,
             List<ChunkAccess> chunks, CallbackInfoReturnable<?> cir) {
-        chunks.forEach(chunk -> DimInjector.setType(chunk, ctx.level().dimensionTypeRegistration()));
+        final Holder<DimensionType> type = ctx.level().dimensionTypeRegistration();
+        for (final ChunkAccess chunk : chunks) {
+            DimInjector.setType(chunk, type);
+        }
     }
 }
@@ -1,5 +1,6 @@
 package personthecat.catlib.mixin;
 
+import it.unimi.dsi.fastutil.objects.ObjectList;
 import net.minecraft.core.Holder;
 import net.minecraft.core.HolderSet;
 import net.minecraft.core.MappedRegistry;
@@ -18,4 +19,10 @@ public interface MappedRegistryAccessor<T> {
 
     @Accessor("tags")
     Map<TagKey<T>, HolderSet.Named<T>> getTagsDirectly();
+
+    @Accessor("byId")
+    ObjectList<Holder.Reference<T>> getHoldersById();
+
+    @Accessor("frozen")
+    boolean isFrozen();
 }
@@ -114,6 +114,13 @@ public class DynamicRegistries {
         return get(RegistryUtils.getByType(type).key());
     }
 
+    public static int getGeneration(final RegistryHandle<?> handle) {
+        if (handle instanceof DynamicRegistryHandle<?> dynamic) {
+            return dynamic.getGeneration();
+        }
+        return 0;
+    }
+
     public static <T> Consumer<Consumer<RegistryHandle<T>>> listen(final RegistryHandle<T> handle, final Object mutex) {
         if (handle instanceof DynamicRegistryHandle) {
             return consumer -> ((DynamicRegistryHandle<T>) handle).listen(mutex, consumer);
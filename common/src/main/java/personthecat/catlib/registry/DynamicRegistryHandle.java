@@ -5,6 +5,7 @@ import net.minecraft.core.Holder;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.core.HolderSet;
 import net.minecraft.core.Registry;
+import net.minecraft.core.RegistryCodecs;
 import net.minecraft.resources.RegistryFileCodec;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
@@ -14,19 +15,29 @@ import org.jetbrains.annotations.Nullable;
 import personthecat.catlib.event.registry.DataRegistryEvent;
 import personthecat.catlib.serialization.codec.CodecUtils;
 
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
-import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
 import java.util.stream.Stream;
 
 public class DynamicRegistryHandle<T> implements RegistryHandle<T> {
 
-    private final Map<Object, BiConsumer<Object, RegistryHandle<T>>> synchronizer = new WeakHashMap<>();
+    private static final int STRIPES = 8;
+    private static final Listener<?>[] NO_LISTENERS = new Listener<?>[0];
+
+    private final AtomicReferenceArray<Listener<T>[]> listeners = newStripes();
     private volatile RegistryHandle<T> wrapped;
+    private volatile int generation;
+    private volatile @Nullable Codec<Holder<T>> holderCodec;
+    private volatile @Nullable Codec<HolderSet<T>> holderSetCodec;
+    private volatile @Nullable Codec<T> codec;
 
     private DynamicRegistryHandle(final RegistryHandle<T> wrapped) {
         this.wrapped = wrapped;
@@ -36,19 +47,103 @@ public class DynamicRegistryHandle<T> implements RegistryHandle<T> {
         return new DynamicRegistryHandle<>(RegistryUtils.tryGetHandle(key).orElseGet(() -> new DummyRegistryHandle<>(key)));
     }
 
+    @SuppressWarnings("unchecked")
+    private static <T> AtomicReferenceArray<Listener<T>[]> newStripes() {
+        final AtomicReferenceArray<Listener<T>[]> stripes = new AtomicReferenceArray<>(STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes.set(i, (Listener<T>[]) NO_LISTENERS);
+        }
+        return stripes;
+    }
+
     public synchronized void updateRegistry(final RegistryHandle<T> updated) {
         this.wrapped = updated;
-        this.synchronizer.forEach((mutex, listener) -> listener.accept(mutex, updated));
+        this.holderCodec = null;
+        this.holderSetCodec = null;
+        this.codec = null;
+        this.generation++;
+        for (int i = 0; i < STRIPES; i++) {
+            final Listener<T>[] stripe = this.listeners.get(i);
+            for (final Listener<T> listener : stripe) {
+                listener.accept(updated);
+            }
+            this.expunge(i, stripe);
+        }
     }
 
-    @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
-    public synchronized void listen(final Object mutex, final Consumer<RegistryHandle<T>> listener) {
-        this.synchronizer.put(mutex, (m, handle) -> {
-            // Prevent this lambda from strongly referencing the mutex.
-            synchronized (m) {
-                listener.accept(handle);
+    /**
+     * Gets the number of times this handle has been {@link #updateRegistry updated}.
+     * Caches derived from the registry may store this value and compare it lazily
+     * instead of {@link #listen listening} for updates.
+     *
+     * @return The current generation of this handle.
+     */
+    public int getGeneration() {
+        return this.generation;
+    }
+
+    /**
+     * Registers a listener to be called whenever the registry is updated. The
+     * listener is only retained for as long as <code>mutex</code> is reachable,
+     * and is always called while synchronized on it.
+     *
+     * @param mutex    The owner of this listener.
+     * @param listener The callback accepting the updated registry.
+     */
+    public void listen(final Object mutex, final Consumer<RegistryHandle<T>> listener) {
+        final int i = System.identityHashCode(mutex) & (STRIPES - 1);
+        final Listener<T> entry = new Listener<>(new WeakReference<>(mutex), listener);
+        Listener<T>[] current;
+        Listener<T>[] next;
+        do {
+            current = this.listeners.get(i);
+            next = withEntry(current, entry, mutex);
+        } while (!this.listeners.compareAndSet(i, current, next));
+    }
+
+    // replaces any listener for the same mutex and drops every collected listener
+    private static <T> Listener<T>[] withEntry(final Listener<T>[] current, final Listener<T> entry, final Object mutex) {
+        final Listener<T>[] next = Arrays.copyOf(current, current.length + 1);
+        int size = 0;
+        for (final Listener<T> listener : current) {
+            final Object m = listener.mutex.get();
+            if (m != null && m != mutex) {
+                next[size++] = listener;
             }
-        });
+        }
+        next[size++] = entry;
+        return size == next.length ? next : Arrays.copyOf(next, size);
+    }
+
+    // drops collected listeners, unless the stripe was concurrently modified
+    private void expunge(final int i, final Listener<T>[] stripe) {
+        int live = 0;
+        for (final Listener<T> listener : stripe) {
+            if (listener.mutex.get() != null) live++;
+        }
+        if (live == stripe.length) {
+            return;
+        }
+        final Listener<T>[] next = Arrays.copyOf(stripe, live);
+        int size = 0;
+        for (final Listener<T> listener : stripe) {
+            if (size < live && listener.mutex.get() != null) {
+                next[size++] = listener;
+            }
+        }
+        if (size == live) {
+            this.listeners.compareAndSet(i, stripe, next);
+        }
+    }
+
+    int countListeners() {
+        int count = 0;
+        for (int i = 0; i < STRIPES; i++) {
+            for (final Listener<T> listener : this.listeners.get(i)) {
+                if (listener.mutex.get() != null) count++;
+            }
+        }
+        return count;
     }
 
     public RegistryHandle<T> getWrapped() {
@@ -112,6 +207,11 @@ public class DynamicRegistryHandle<T> implements RegistryHandle<T> {
         this.wrapped.forEachHolder(f);
     }
 
+    @Override
+    public void forEachId(final ObjIntConsumer<Holder<T>> f) {
+        this.wrapped.forEachId(f);
+    }
+
     @Override
     public boolean isRegistered(final ResourceKey<T> key) {
         return this.wrapped.isRegistered(key);
@@ -180,12 +280,38 @@ public class DynamicRegistryHandle<T> implements RegistryHandle<T> {
 
     @Override
     public Codec<Holder<T>> holderCodec() {
-        return RegistryFileCodec.create(this.key(), CodecUtils.neverCodec(), false);
+        Codec<Holder<T>> codec = this.holderCodec;
+        if (codec == null) {
+            codec = RegistryFileCodec.create(this.key(), CodecUtils.neverCodec(), false);
+            this.holderCodec = codec;
+        }
+        return codec;
+    }
+
+    /**
+     * Gets a codec for any {@link HolderSet} of this registry's values, i.e. a tag or
+     * a list of ids. Like {@link #holderCodec()}, this instance is shared until the
+     * registry is next updated.
+     *
+     * @return The holder set codec for this registry.
+     */
+    public Codec<HolderSet<T>> holderSetCodec() {
+        Codec<HolderSet<T>> codec = this.holderSetCodec;
+        if (codec == null) {
+            codec = RegistryCodecs.homogeneousList(this.key());
+            this.holderSetCodec = codec;
+        }
+        return codec;
     }
 
     @Override
     public Codec<T> codec() {
-        return this.holderCodec().flatComapMap(Holder::value, this::tryGetHolder);
+        Codec<T> codec = this.codec;
+        if (codec == null) {
+            codec = this.holderCodec().flatComapMap(Holder::value, this::tryGetHolder);
+            this.codec = codec;
+        }
+        return codec;
     }
 
     @Override
@@ -202,4 +328,16 @@ public class DynamicRegistryHandle<T> implements RegistryHandle<T> {
     public int getId() {
         return this.wrapped.getId();
     }
+
+    private record Listener<T>(WeakReference<Object> mutex, Consumer<RegistryHandle<T>> listener) {
+        @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
+        void accept(final RegistryHandle<T> handle) {
+            final Object m = this.mutex.get();
+            if (m != null) {
+                synchronized (m) {
+                    this.listener.accept(handle);
+                }
+            }
+        }
+    }
 }
@@ -16,12 +16,15 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import personthecat.catlib.mixin.MappedRegistryAccessor;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.ObjIntConsumer;
 import java.util.stream.Stream;
 
 public class MojangRegistryHandle<T> implements RegistryHandle<T> {
@@ -69,19 +72,68 @@ public class MojangRegistryHandle<T> implements RegistryHandle<T> {
 
     @Override
     public void forEach(final BiConsumer<ResourceKey<T>, T> f) {
-        for (final Map.Entry<ResourceKey<T>, T> entry : new HashSet<>(this.registry.entrySet())) {
-            f.accept(entry.getKey(), entry.getValue());
+        final List<Holder.Reference<T>> holders = this.holdersById();
+        if (holders == null) {
+            for (final Map.Entry<ResourceKey<T>, T> entry : new ArrayList<>(this.registry.entrySet())) {
+                f.accept(entry.getKey(), entry.getValue());
+            }
+            return;
+        }
+        for (int i = 0; i < holders.size(); i++) {
+            final Holder.Reference<T> holder = holders.get(i);
+            if (holder != null) {
+                f.accept(holder.key(), holder.value());
+            }
         }
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public void forEachHolder(final BiConsumer<ResourceKey<T>, Holder<T>> f) {
-        if (this.registry instanceof MappedRegistry<T> mapped) {
-            ((MappedRegistryAccessor<T>) mapped).getHolderMap().forEach(f);
+        final List<Holder.Reference<T>> holders = this.holdersById();
+        if (holders == null) {
+            throw new UnsupportedOperationException("Unsupported registry in handle: " + this.registry.getClass());
+        }
+        for (int i = 0; i < holders.size(); i++) {
+            final Holder.Reference<T> holder = holders.get(i);
+            if (holder != null) {
+                f.accept(holder.key(), holder);
+            }
+        }
+    }
+
+    @Override
+    public void forEachId(final ObjIntConsumer<Holder<T>> f) {
+        final List<Holder.Reference<T>> holders = this.holdersById();
+        if (holders == null) {
+            RegistryHandle.super.forEachId(f);
             return;
         }
-        throw new UnsupportedOperationException("Unsupported registry in handle: " + this.registry.getClass());
+        for (int i = 0; i < holders.size(); i++) {
+            final Holder.Reference<T> holder = holders.get(i);
+            if (holder != null) {
+                f.accept(holder, i);
+            }
+        }
+    }
+
+    /**
+     * Gets the backing list of holders, indexed by raw id. The list is returned
+     * directly when the registry is frozen. Otherwise, it is copied, so that
+     * callers may safely register new values while iterating.
+     *
+     * <p>Note that this list may contain <code>null</code> slots where a platform
+     * has registered a value with an explicit id beyond the end of the list.
+     *
+     * @return The holders in id order, or else <code>null</code> if unsupported.
+     */
+    @SuppressWarnings("unchecked")
+    private @Nullable List<Holder.Reference<T>> holdersById() {
+        if (this.registry instanceof MappedRegistry<T> mapped) {
+            final MappedRegistryAccessor<T> accessor = (MappedRegistryAccessor<T>) mapped;
+            final List<Holder.Reference<T>> holders = accessor.getHoldersById();
+            return accessor.isFrozen() ? holders : new ArrayList<>(holders);
+        }
+        return null;
     }
 
     @Override
@@ -128,7 +180,8 @@ public class MojangRegistryHandle<T> implements RegistryHandle<T> {
     @SuppressWarnings("unchecked")
     public Collection<Holder<T>> holders() {
         if (this.registry instanceof MappedRegistry<T> mapped) {
-            return ((MappedRegistryAccessor<T>) mapped).getHolderMap().values();
+            // not byId, which may contain empty slots
+            return Collections.unmodifiableCollection(((MappedRegistryAccessor<T>) mapped).getHolderMap().values());
         }
         throw new UnsupportedOperationException("Unsupported registry in handle: " + this.registry.getClass());
     }
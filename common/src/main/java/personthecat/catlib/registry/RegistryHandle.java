@@ -22,6 +22,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.ObjIntConsumer;
 import java.util.stream.Stream;
 
 public interface RegistryHandle<T> extends Iterable<T> {
@@ -148,6 +149,10 @@ public interface RegistryHandle<T> extends Iterable<T> {
         throw new UnsupportedOperationException("Not a Mojang registry: " + this);
     }
 
+    default void forEachId(final ObjIntConsumer<Holder<T>> f) {
+        this.forEachHolder((key, holder) -> f.accept(holder, this.asRegistry().getId(holder.value())));
+    }
+
     default boolean isEmpty() {
         return this.size() == 0;
     }
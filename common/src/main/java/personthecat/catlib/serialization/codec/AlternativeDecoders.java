@@ -0,0 +1,222 @@
+package personthecat.catlib.serialization.codec;
+
+import com.mojang.datafixers.util.Pair;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.Decoder;
+import com.mojang.serialization.DynamicOps;
+import com.mojang.serialization.MapLike;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * A list of decoders which are attempted in turn until one succeeds, shared by
+ * {@link SimpleAnyCodec} and {@link SimpleEitherCodec}.
+ *
+ * <p>By default, decoders are attempted in declaration order. Two optional strategies
+ * may reduce the number of attempts:
+ *
+ * <ul>
+ *   <li>
+ *     When each decoder declares the {@link InputShape shapes} it accepts, only the
+ *     decoders accepting the shape of the input are attempted.
+ *   </li>
+ *   <li>
+ *     When <em>adaptive</em>, decoders are reordered by how often they succeed on
+ *     inputs of each shape. Maps are further grouped by their set of keys. This is
+ *     only appropriate when no two decoders accept the same input, as otherwise the
+ *     result may depend on which inputs were decoded previously.
+ *   </li>
+ * </ul>
+ *
+ * <p>In either case, errors are always reported in declaration order and include a
+ * message from every decoder, exactly as if each decoder had been attempted.
+ */
+final class AlternativeDecoders<A> {
+    private static final int MAX_KEY_SETS = 64;
+
+    private final List<Decoder<? extends A>> decoders;
+    private final String suffix;
+    @Nullable private final List<Set<InputShape>> shapes;
+    @Nullable private final Order[] byShape;
+    private final boolean adaptive;
+    private final Map<Integer, Order> byKeySet = new ConcurrentHashMap<>();
+
+    private AlternativeDecoders(
+            final List<Decoder<? extends A>> decoders,
+            final String suffix,
+            final @Nullable List<Set<InputShape>> shapes,
+            final boolean adaptive) {
+        this.decoders = decoders;
+        this.suffix = suffix;
+        this.shapes = shapes;
+        this.adaptive = adaptive;
+        this.byShape = shapes != null || adaptive ? this.createOrders() : null;
+    }
+
+    static <A> AlternativeDecoders<A> of(final List<Decoder<? extends A>> decoders, final String suffix) {
+        return new AlternativeDecoders<>(decoders, suffix, null, false);
+    }
+
+    List<Decoder<? extends A>> decoders() {
+        return this.decoders;
+    }
+
+    AlternativeDecoders<A> withShapes(final List<Set<InputShape>> shapes) {
+        if (shapes.size() != this.decoders.size()) {
+            throw new IllegalArgumentException(
+                "Expected shapes for " + this.decoders.size() + " decoders, got " + shapes.size());
+        }
+        return new AlternativeDecoders<>(this.decoders, this.suffix, List.copyOf(shapes), this.adaptive);
+    }
+
+    AlternativeDecoders<A> adaptive() {
+        return new AlternativeDecoders<>(this.decoders, this.suffix, this.shapes, true);
+    }
+
+    private Order[] createOrders() {
+        final Order[] orders = new Order[InputShape.VALUES.length];
+        for (final InputShape shape : InputShape.VALUES) {
+            orders[shape.ordinal()] = new Order(this.getCandidates(shape), this.decoders.size());
+        }
+        return orders;
+    }
+
+    private int[] getCandidates(final InputShape shape) {
+        final List<Set<InputShape>> shapes = this.shapes;
+        if (shapes == null || shape == InputShape.OTHER) {
+            // unknown inputs may be accepted by anything
+            final int[] all = new int[this.decoders.size()];
+            for (int i = 0; i < all.length; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+        int count = 0;
+        final int[] candidates = new int[shapes.size()];
+        for (int i = 0; i < shapes.size(); i++) {
+            if (shapes.get(i).contains(shape)) {
+                candidates[count++] = i;
+            }
+        }
+        final int[] trimmed = new int[count];
+        System.arraycopy(candidates, 0, trimmed, 0, count);
+        return trimmed;
+    }
+
+    <T> DataResult<Pair<A, T>> decode(final DynamicOps<T> ops, final T input) {
+        final Order[] byShape = this.byShape;
+        if (byShape == null || ops.compressMaps()) {
+            return this.decodeInOrder(ops, input);
+        }
+        final InputShape shape = InputShape.of(ops, input);
+        final Order order = this.adaptive && shape == InputShape.MAP
+            ? this.getKeySetOrder(ops, input, byShape[shape.ordinal()])
+            : byShape[shape.ordinal()];
+        final int[] indices = order.indices;
+        Supplier<String>[] errors = null;
+        for (final int i : indices) {
+            final DataResult<Pair<A, T>> result = downcast(this.decoders.get(i).decode(ops, input));
+            if (result.result().isPresent()) {
+                if (this.adaptive) {
+                    order.hit(i);
+                }
+                return result;
+            }
+            if (errors == null) {
+                errors = newErrors(this.decoders.size());
+            }
+            errors[i] = result.error().orElseThrow().messageSupplier();
+        }
+        return this.error(ops, input, errors);
+    }
+
+    private <T> DataResult<Pair<A, T>> decodeInOrder(final DynamicOps<T> ops, final T input) {
+        final Supplier<String>[] errors = newErrors(this.decoders.size());
+        for (int i = 0; i < errors.length; i++) {
+            final DataResult<Pair<A, T>> result = downcast(this.decoders.get(i).decode(ops, input));
+            if (result.result().isPresent()) {
+                return result;
+            }
+            errors[i] = result.error().orElseThrow().messageSupplier();
+        }
+        return this.error(ops, input, errors);
+    }
+
+    private <T> Order getKeySetOrder(final DynamicOps<T> ops, final T input, final Order fallback) {
+        final MapLike<T> map = ops.getMap(input).getOrThrow();
+        final int[] hash = { 0 };
+        map.entries().forEach(e -> hash[0] += e.getFirst().hashCode()); // order-independent
+        final Order order = this.byKeySet.get(hash[0]);
+        if (order != null) {
+            return order;
+        } else if (this.byKeySet.size() >= MAX_KEY_SETS) {
+            return fallback;
+        }
+        return this.byKeySet.computeIfAbsent(hash[0], h -> new Order(fallback.indices, this.decoders.size()));
+    }
+
+    private <T> DataResult<Pair<A, T>> error(
+            final DynamicOps<T> ops, final T input, final @Nullable Supplier<String>[] errors) {
+        return DataResult.error(() -> {
+            final StringBuilder message = new StringBuilder();
+            for (int i = 0; i < this.decoders.size(); i++) {
+                if (i > 0) {
+                    message.append("; ");
+                }
+                final Supplier<String> error = errors != null ? errors[i] : null;
+                message.append(error != null ? error.get() : this.getSkippedError(i, ops, input));
+            }
+            return message.append(this.suffix).toString();
+        });
+    }
+
+    // decoders excluded by shape are only evaluated when the message is needed
+    private <T> String getSkippedError(final int i, final DynamicOps<T> ops, final T input) {
+        return this.decoders.get(i).decode(ops, input).error()
+            .map(DataResult.Error::message)
+            .orElse("Unexpected input shape: " + input);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<String>[] newErrors(final int size) {
+        return (Supplier<String>[]) new Supplier<?>[size];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A, B extends A, T> DataResult<Pair<A, T>> downcast(final DataResult<Pair<B, T>> pair) {
+        return (DataResult<Pair<A, T>>) (Object) pair;
+    }
+
+    private static final class Order {
+        final AtomicLongArray hits;
+        volatile int[] indices;
+
+        Order(final int[] indices, final int size) {
+            this.hits = new AtomicLongArray(size);
+            this.indices = indices;
+        }
+
+        // moves the decoder one step toward the front whenever it overtakes its predecessor
+        void hit(final int index) {
+            final long count = this.hits.incrementAndGet(index);
+            final int[] current = this.indices;
+            for (int p = 1; p < current.length; p++) {
+                if (current[p] == index) {
+                    if (count > this.hits.get(current[p - 1])) {
+                        final int[] updated = current.clone();
+                        updated[p] = updated[p - 1];
+                        updated[p - 1] = index;
+                        this.indices = updated;
+                    }
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.mojang.datafixers.util.Pair;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.DataResult;
 import com.mojang.serialization.DynamicOps;
+import com.mojang.serialization.MapCodec;
 import com.mojang.serialization.MapDecoder;
 import com.mojang.serialization.MapEncoder;
 import com.mojang.serialization.MapLike;
@@ -14,6 +15,8 @@ import java.util.function.BiPredicate;
 public class DefaultTypeCodec<A> implements Codec<A> {
     private final String typeKey;
     private final Codec<A> dispatcher;
+    private final MapCodec<A> dispatcherMap;
+    private final boolean isMapDispatcher;
     private final BiFunction<DynamicOps<?>, MapLike<?>, DataResult<? extends MapDecoder<? extends A>>> defaultDecoder;
     private final BiFunction<DynamicOps<?>, ? super A, DataResult<? extends MapEncoder<? extends A>>> defaultEncoder;
 
@@ -24,6 +27,8 @@ public class DefaultTypeCodec<A> implements Codec<A> {
             final BiFunction<DynamicOps<?>, ? super A, DataResult<? extends MapEncoder<? extends A>>> defaultEncoder) {
         this.typeKey = typeKey;
         this.dispatcher = dispatcher;
+        this.dispatcherMap = CodecUtils.asMapCodec(dispatcher);
+        this.isMapDispatcher = dispatcher instanceof MapCodec.MapCodecCodec<A>;
         this.defaultDecoder = defaultDecoder;
         this.defaultEncoder = defaultEncoder;
     }
@@ -47,13 +52,16 @@ public class DefaultTypeCodec<A> implements Codec<A> {
 
     private <T> DataResult<? extends A> decodeMap(final DynamicOps<T> ops, final MapLike<T> map, final T input) {
         if (map.get(this.typeKey) != null) {
-            return CodecUtils.asMapCodec(this.dispatcher).decode(ops, map);
+            return this.dispatcherMap.decode(ops, map);
         }
         final var defaultResult = this.defaultDecoder.apply(ops, map).flatMap(codec -> codec.decode(ops, map));
         if (defaultResult.resultOrPartial().isPresent()) {
             return defaultResult;
         }
-        final var dispatcherResult = this.dispatcher.decode(ops, input).map(Pair::getFirst);
+        // map dispatchers can reuse the map we already have instead of reading it again
+        final DataResult<? extends A> dispatcherResult = this.isMapDispatcher
+            ? this.dispatcherMap.decode(ops, map)
+            : this.dispatcher.decode(ops, input).map(Pair::getFirst);
         if (dispatcherResult.resultOrPartial().isPresent()) {
             return dispatcherResult;
         }
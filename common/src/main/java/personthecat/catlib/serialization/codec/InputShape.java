@@ -0,0 +1,42 @@
+package personthecat.catlib.serialization.codec;
+
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.DynamicOps;
+
+/**
+ * The general shape of an encoded value, used to select between alternative decoders
+ * without attempting each of them.
+ *
+ * <p>Note that some formats do not distinguish between every shape. For example, a
+ * format storing booleans as bytes will report every boolean as a {@link #NUMBER}.
+ */
+public enum InputShape {
+    MAP,
+    LIST,
+    STRING,
+    NUMBER,
+    BOOLEAN,
+    OTHER;
+
+    static final InputShape[] VALUES = values();
+
+    public static <T> InputShape of(final DynamicOps<T> ops, final T input) {
+        if (input == null) {
+            return OTHER;
+        } else if (ops.getMap(input).isSuccess()) {
+            return MAP;
+        } else if (ops.getList(input).isSuccess()) {
+            return LIST;
+        } else if (ops.getStringValue(input).isSuccess()) {
+            return STRING;
+        }
+        // some formats read numbers as booleans, so only exact booleans qualify
+        final DataResult<Boolean> b = ops.getBooleanValue(input);
+        if (b.isSuccess() && ops.createBoolean(b.getOrThrow()).equals(input)) {
+            return BOOLEAN;
+        } else if (ops.getNumberValue(input).isSuccess()) {
+            return NUMBER;
+        }
+        return OTHER;
+    }
+}
@@ -8,14 +8,13 @@ import com.mojang.serialization.Decoder;
 import com.mojang.serialization.DynamicOps;
 import com.mojang.serialization.Encoder;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
-import java.util.function.Supplier;
 
 public class SimpleAnyCodec<A> implements Codec<A> {
     private final Function<A, Encoder<A>> encoder;
-    private final List<Decoder<? extends A>> decoders;
+    private final AlternativeDecoders<A> decoders;
 
     @SafeVarargs
     public SimpleAnyCodec(final Decoder<? extends A> first, final Decoder<? extends A>... others) {
@@ -25,11 +24,12 @@ public class SimpleAnyCodec<A> implements Codec<A> {
     @SafeVarargs
     public SimpleAnyCodec(
             final Function<A, Encoder<? extends A>> encoder, final Decoder<? extends A> first, final Decoder<? extends A>... others) {
-        this(encoder, ImmutableList.<Decoder<? extends A>>builder().add(first).add(others).build());
+        this(wrapDowncast(encoder),
+            AlternativeDecoders.of(ImmutableList.<Decoder<? extends A>>builder().add(first).add(others).build(), "]"));
     }
 
-    private SimpleAnyCodec(final Function<A, Encoder<? extends A>> encoder, final List<Decoder<? extends A>> decoders) {
-        this.encoder = wrapDowncast(encoder);
+    private SimpleAnyCodec(final Function<A, Encoder<A>> encoder, final AlternativeDecoders<A> decoders) {
+        this.encoder = encoder;
         this.decoders = decoders;
     }
 
@@ -38,7 +38,29 @@ public class SimpleAnyCodec<A> implements Codec<A> {
     }
 
     public SimpleAnyCodec<A> withEncoder(final Function<A, Encoder<? extends A>> encoder) {
-        return new SimpleAnyCodec<>(encoder, this.decoders);
+        return new SimpleAnyCodec<>(wrapDowncast(encoder), this.decoders);
+    }
+
+    /**
+     * Declares which shapes of input each decoder is able to accept, in declaration
+     * order. Decoders which do not accept the shape of an input will not be attempted.
+     *
+     * @param shapes The shapes accepted by each decoder.
+     * @return A new codec which only attempts the decoders accepting each input.
+     * @throws IllegalArgumentException If the number of shapes does not match the decoders.
+     */
+    public SimpleAnyCodec<A> withShapes(final List<Set<InputShape>> shapes) {
+        return new SimpleAnyCodec<>(this.encoder, this.decoders.withShapes(shapes));
+    }
+
+    /**
+     * Reorders the decoders for each shape of input by how often they succeed. This is
+     * only appropriate when no two decoders accept the same input.
+     *
+     * @return A new codec which adapts to the inputs it receives.
+     */
+    public SimpleAnyCodec<A> adaptive() {
+        return new SimpleAnyCodec<>(this.encoder, this.decoders.adaptive());
     }
 
     @SuppressWarnings("unchecked")
@@ -48,27 +70,7 @@ public class SimpleAnyCodec<A> implements Codec<A> {
 
     @Override
     public <T> DataResult<Pair<A, T>> decode(final DynamicOps<T> ops, final T input) {
-        final List<Supplier<String>> errors = new ArrayList<>();
-        for (final Decoder<? extends A> decoder : this.decoders) {
-            final DataResult<Pair<A, T>> result = downcast(decoder.decode(ops, input));
-            if (result.result().isPresent()) {
-                return result;
-            }
-            errors.add(result.error().orElseThrow().messageSupplier());
-        }
-        return DataResult.error(() -> {
-            final StringBuilder message =
-                new StringBuilder(errors.getFirst().get());
-            for (int i = 1; i < errors.size(); i++) {
-                message.append("; ").append(errors.get(i).get());
-            }
-            return message.append(']').toString();
-        });
-    }
-
-    @SuppressWarnings("unchecked")
-    private static <A, B extends A, T> DataResult<Pair<A, T>> downcast(final DataResult<Pair<B, T>> pair) {
-        return (DataResult<Pair<A, T>>) (Object) pair;
+        return this.decoders.decode(ops, input);
     }
 
     @Override
@@ -78,9 +80,10 @@ public class SimpleAnyCodec<A> implements Codec<A> {
 
     @Override
     public String toString() {
-        final StringBuilder sb = new StringBuilder("SimpleAny[").append(this.decoders.getFirst());
-        for (int i = 1; i < this.decoders.size(); i++) {
-            sb.append('|').append(this.decoders.get(i));
+        final List<Decoder<? extends A>> decoders = this.decoders.decoders();
+        final StringBuilder sb = new StringBuilder("SimpleAny[").append(decoders.getFirst());
+        for (int i = 1; i < decoders.size(); i++) {
+            sb.append('|').append(decoders.get(i));
         }
         return sb.append(']').toString();
     }
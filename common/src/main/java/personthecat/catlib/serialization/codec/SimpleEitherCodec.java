@@ -7,13 +7,15 @@ import com.mojang.serialization.Decoder;
 import com.mojang.serialization.DynamicOps;
 import com.mojang.serialization.Encoder;
 
+import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
-import java.util.function.Supplier;
 
 public class SimpleEitherCodec<A> implements Codec<A> {
     private final Decoder<? extends A> first;
     private final Decoder<? extends A> second;
     private final Function<A, Encoder<A>> encoder;
+    private final AlternativeDecoders<A> decoders;
 
     public SimpleEitherCodec(final Decoder<? extends A> first, final Decoder<? extends A> second) {
         this(first, second, wrapDowncast(a -> CodecUtils.toCodecUnsafe(first)));
@@ -21,9 +23,18 @@ public class SimpleEitherCodec<A> implements Codec<A> {
 
     public SimpleEitherCodec(
             final Decoder<? extends A> first, final Decoder<? extends A> second, final Function<A, Encoder<A>> encoder) {
+        this(first, second, encoder, AlternativeDecoders.of(List.<Decoder<? extends A>>of(first, second), ""));
+    }
+
+    private SimpleEitherCodec(
+            final Decoder<? extends A> first,
+            final Decoder<? extends A> second,
+            final Function<A, Encoder<A>> encoder,
+            final AlternativeDecoders<A> decoders) {
         this.first = first;
         this.second = second;
         this.encoder = encoder;
+        this.decoders = decoders;
     }
 
     public SimpleEitherCodec<A> withEncoder(final Encoder<? extends A> encoder) {
@@ -31,7 +42,29 @@ public class SimpleEitherCodec<A> implements Codec<A> {
     }
 
     public SimpleEitherCodec<A> withEncoder(final Function<A, Encoder<? extends A>> encoder) {
-        return new SimpleEitherCodec<>(this.first, this.second, wrapDowncast(encoder));
+        return new SimpleEitherCodec<>(this.first, this.second, wrapDowncast(encoder), this.decoders);
+    }
+
+    /**
+     * Declares which shapes of input each decoder is able to accept. Decoders which
+     * do not accept the shape of an input will not be attempted.
+     *
+     * @param first  The shapes accepted by the first decoder.
+     * @param second The shapes accepted by the second decoder.
+     * @return A new codec which only attempts the decoders accepting each input.
+     */
+    public SimpleEitherCodec<A> withShapes(final Set<InputShape> first, final Set<InputShape> second) {
+        return new SimpleEitherCodec<>(this.first, this.second, this.encoder, this.decoders.withShapes(List.of(first, second)));
+    }
+
+    /**
+     * Attempts whichever decoder succeeds more often for each shape of input first.
+     * This is only appropriate when both decoders never accept the same input.
+     *
+     * @return A new codec which adapts to the inputs it receives.
+     */
+    public SimpleEitherCodec<A> adaptive() {
+        return new SimpleEitherCodec<>(this.first, this.second, this.encoder, this.decoders.adaptive());
     }
 
     @SuppressWarnings("unchecked")
@@ -41,22 +74,7 @@ public class SimpleEitherCodec<A> implements Codec<A> {
 
     @Override
     public <T> DataResult<Pair<A, T>> decode(final DynamicOps<T> ops, final T input) {
-        final DataResult<Pair<A, T>> r1 = downcast(this.first.decode(ops, input));
-        if (r1.result().isPresent()) {
-            return r1;
-        }
-        final DataResult<Pair<A, T>> r2 = downcast(this.second.decode(ops, input));
-        if (r2.result().isPresent()) {
-            return r2;
-        }
-        final Supplier<String> m1 = r1.error().orElseThrow().messageSupplier();
-        final Supplier<String> m2 = r2.error().orElseThrow().messageSupplier();
-        return DataResult.error(() -> m1.get() + "; " + m2.get());
-    }
-
-    @SuppressWarnings("unchecked")
-    private static <A, B extends A, T> DataResult<Pair<A, T>> downcast(final DataResult<Pair<B, T>> pair) {
-        return (DataResult<Pair<A, T>>) (Object) pair;
+        return this.decoders.decode(ops, input);
     }
 
     @Override
@@ -9,10 +9,20 @@ import xjs.data.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
-
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link DynamicOps} for reading and writing the XJS tree.
+ *
+ * <p>Note that streams returned by this object are lazy views over the original
+ * container. Entries are only wrapped as they are consumed, so decoding a large
+ * container never holds a second copy of its contents.
+ */
 public class XjsOps implements DynamicOps<JsonValue> {
 
     public static final XjsOps INSTANCE = new XjsOps(false);
@@ -185,12 +195,7 @@ public class XjsOps implements DynamicOps<JsonValue> {
         if (input == null || !input.isObject()) {
             return DataResult.error(() -> "Not an XJS object: " + input);
         }
-        final Stream.Builder<Pair<JsonValue, JsonValue>> builder = Stream.builder();
-        for (final JsonObject.Member member : input.asObject()) {
-            final JsonValue value = member.getValue();
-            builder.add(Pair.of(Json.value(member.getKey()), value.isNull() ? null : value));
-        }
-        return DataResult.success(builder.build());
+        return DataResult.success(entries(input.asObject()));
     }
 
     @Override
@@ -229,11 +234,8 @@ public class XjsOps implements DynamicOps<JsonValue> {
         if (input == null || !input.isArray()) {
             return DataResult.error(() -> "Not an XJS array: " + input);
         }
-        final Stream.Builder<JsonValue> builder = Stream.builder();
-        for (final JsonValue value : input.asArray()) {
-            builder.add(value.isNull() ? null : value);
-        }
-        return DataResult.success(builder.build());
+        final JsonArray array = input.asArray();
+        return DataResult.success(stream(array, array.size()).map(value -> value.isNull() ? null : value));
     }
 
     @Override
@@ -297,12 +299,7 @@ public class XjsOps implements DynamicOps<JsonValue> {
 
         @Override
         public Stream<Pair<JsonValue, JsonValue>> entries() {
-            final Stream.Builder<Pair<JsonValue, JsonValue>> builder = Stream.builder();
-            for (final JsonObject.Member member : this.object) {
-                final JsonValue value = member.getValue();
-                builder.add(Pair.of(Json.value(member.getKey()), value.isNull() ? null : value));
-            }
-            return builder.build();
+            return XjsOps.entries(this.object);
         }
 
         @Override
@@ -311,6 +308,17 @@ public class XjsOps implements DynamicOps<JsonValue> {
         }
     }
 
+    private static Stream<Pair<JsonValue, JsonValue>> entries(final JsonObject object) {
+        return stream(object, object.size()).map(member -> {
+            final JsonValue value = member.getValue();
+            return Pair.of(Json.value(member.getKey()), value.isNull() ? null : value);
+        });
+    }
+
+    private static <E> Stream<E> stream(final Iterable<E> iterable, final int size) {
+        return StreamSupport.stream(Spliterators.spliterator(iterable.iterator(), size, Spliterator.ORDERED), false);
+    }
+
     private static boolean isPrimitiveLike(final JsonValue value) {
         return value.isBoolean() || value.isString() || value.isNumber();
     }
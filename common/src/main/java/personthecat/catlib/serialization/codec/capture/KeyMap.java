@@ -1,37 +1,56 @@
 package personthecat.catlib.serialization.codec.capture;
 
 import org.jetbrains.annotations.NotNull;
-import personthecat.catlib.data.collections.MultiValueHashMap;
-import personthecat.catlib.data.collections.MultiValueMap;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+/**
+ * A map of captured values which may also be found by compatible keys.
+ *
+ * <p>Exact keys are found directly. Any other key is matched against the keys
+ * sharing its name, in insertion order, and then against a nameless key of the
+ * same type. The result of each of these searches is remembered until the map
+ * is next modified, so repeated lookups by a compatible key are also constant
+ * time.
+ */
 class KeyMap<T> extends HashMap<Key<?>, T> {
-    private final MultiValueMap<String, Entry<Key<?>, T>> byName = new MultiValueHashMap<>();
+    private static final Key<?> NO_MATCH = Key.of(Key.ANY, Void.class);
+    private final Map<String, NameBucket> byName = new HashMap<>();
+    private final Map<Key<?>, Key<?>> resolved = new HashMap<>();
 
     @Override
     public T put(Key<?> key, T value) {
-        final var original = super.put(key, value);
-        this.byName.add(key.name(), new SimpleEntry<>(key, value));
-        return original;
+        // keys mapped to null are already indexed
+        if (!super.containsKey(key)) {
+            this.byName.computeIfAbsent(key.name(), n -> new NameBucket()).add(key);
+            this.resolved.clear();
+        }
+        return super.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends Key<?>, ? extends T> m) {
+        m.forEach(this::put);
     }
 
     @Override
     public T putIfAbsent(Key<?> key, T value) {
-        final var e = this.getMatching(key);
-        return e != null ? e.getValue() : this.put(key, value);
+        final var k = this.getMatching(key);
+        return k != null ? super.get(k) : this.put(key, value);
     }
 
     @Override
     public T get(Object key) {
         var v = super.get(key);
         if (v == null && key instanceof Key<?> k) {
-            final var e = this.getMatching(k);
-            if (e != null) {
-                return e.getValue();
+            final var matching = this.getMatching(k);
+            if (matching != null) {
+                return super.get(matching);
             }
         }
         return v;
@@ -56,31 +75,30 @@ class KeyMap<T> extends HashMap<Key<?>, T> {
 
     @Override
     public T remove(Object key) {
-        final var removed = super.remove(key);
-        if (removed != null) {
-            this.byName.removeNeatly(((Key<?>) key).name(), new SimpleEntry<>((Key<?>) key, removed));
+        if (super.containsKey(key)) {
+            final var removed = super.remove(key);
+            this.unindex((Key<?>) key);
             return removed;
         } else if (key instanceof Key<?> k) {
-            final var e = this.getMatching(k);
-            if (e != null && super.remove(e.getKey()) != null) {
-                this.byName.removeNeatly(e.getKey().name(), e);
-                return e.getValue();
+            final var matching = this.getMatching(k);
+            if (matching != null) {
+                final var value = super.remove(matching);
+                this.unindex(matching);
+                return value;
             }
         }
         return null;
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public boolean remove(Object key, Object value) {
-        final boolean removed = super.remove(key, value);
-        if (removed) {
-            this.byName.removeNeatly(((Key<?>) key).name(), new SimpleEntry<>((Key<?>) key, (T) value));
+        if (super.remove(key, value)) {
+            this.unindex((Key<?>) key);
             return true;
         } else if (key instanceof Key<?> k) {
-            final var e = this.getMatching(k);
-            if (e != null && super.remove(e.getKey(), value)) {
-                this.byName.removeNeatly(e.getKey().name(), new SimpleEntry<>(e.getKey(), (T) value));
+            final var matching = this.getMatching(k);
+            if (matching != null && super.remove(matching, value)) {
+                this.unindex(matching);
                 return true;
             }
         }
@@ -91,20 +109,39 @@ class KeyMap<T> extends HashMap<Key<?>, T> {
     public void clear() {
         super.clear();
         this.byName.clear();
+        this.resolved.clear();
     }
 
-    private Entry<Key<?>, T> getMatching(Key<?> lookup) {
-        for (final var entry : this.byName.getOrEmpty(lookup.name())) {
-            if (keyMatches(entry.getKey(), lookup)) {
-                return entry;
+    private void unindex(Key<?> key) {
+        final var bucket = this.byName.get(key.name());
+        if (bucket != null && bucket.remove(key) && bucket.size == 0) {
+            this.byName.remove(key.name());
+        }
+        this.resolved.clear();
+    }
+
+    private @Nullable Key<?> getMatching(Key<?> lookup) {
+        final var cached = this.resolved.get(lookup);
+        if (cached != null) {
+            return cached != NO_MATCH ? cached : null;
+        }
+        final var matching = this.findMatching(lookup);
+        this.resolved.put(lookup, matching != null ? matching : NO_MATCH);
+        return matching;
+    }
+
+    private @Nullable Key<?> findMatching(Key<?> lookup) {
+        final var bucket = this.byName.get(lookup.name());
+        if (bucket != null) {
+            final var keys = bucket.keys;
+            for (int i = 0; i < bucket.size; i++) {
+                if (keyMatches(keys[i], lookup)) {
+                    return keys[i];
+                }
             }
         }
         final var nameless = lookup.asAny();
-        final var t = super.get(nameless);
-        if (t != null) {
-            return new SimpleEntry<>(nameless, t);
-        }
-        return null;
+        return super.containsKey(nameless) ? nameless : null;
     }
 
     // support unqualified and nameless values by qualified key (not vice versa)
@@ -116,6 +153,32 @@ class KeyMap<T> extends HashMap<Key<?>, T> {
             && (!bound.isQualified() || Objects.equals(bound.qualifier(), lookup.qualifier()));
     }
 
+    // keys sharing a name, in insertion order; rarely more than a few
+    private static final class NameBucket {
+        Key<?>[] keys = new Key<?>[2];
+        int size;
+
+        void add(Key<?> key) {
+            if (this.size == this.keys.length) {
+                final var grown = new Key<?>[this.size * 2];
+                System.arraycopy(this.keys, 0, grown, 0, this.size);
+                this.keys = grown;
+            }
+            this.keys[this.size++] = key;
+        }
+
+        boolean remove(Key<?> key) {
+            for (int i = 0; i < this.size; i++) {
+                if (this.keys[i].equals(key)) {
+                    System.arraycopy(this.keys, i + 1, this.keys, i, this.size - i - 1);
+                    this.keys[--this.size] = null;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
     // unsupported operations (until needed or API exposed)
 
     @Override
@@ -20,6 +20,7 @@ public final class DecodeContext {
     private final Map<String, CategorizedErrors> errors = new HashMap<>();
     private final List<String> categories = new ArrayList<>();
     private volatile @Nullable Object data;
+    private volatile @Nullable ErrorTable table;
 
     public void push(String key) {
         this.push(Either.left(key));
@@ -41,7 +42,8 @@ public final class DecodeContext {
         if (!leaf.hasNestedErrors() && !leaf.messageSuppliers.isEmpty()) {
             this.errors.computeIfAbsent(leaf.category, CategorizedErrors::new)
                 .erredLeaves()
-                .addAll(this.currentPath(), leaf.messages.get());
+                .addAll(leaf.path(), leaf.messages.get());
+            this.table = null;
         }
         this.stack.pop();
         if (this.stack.size() <= 1) { // reset root category
@@ -73,7 +75,7 @@ public final class DecodeContext {
     }
 
     public void reportError(Supplier<String> error) {
-        this.peek().messageSuppliers.add(error);
+        this.peek().reportError(error);
     }
 
     public void recordInput(Object data) {
@@ -95,8 +97,24 @@ public final class DecodeContext {
         return this.errors.values();
     }
 
+    /**
+     * Gets every erred leaf in a single, sorted table, which can be rendered in pages
+     * without visiting the error tree.
+     *
+     * @return The table of errors, which is cached until another leaf reports errors.
+     */
+    public ErrorTable getErrorTable() {
+        var table = this.table;
+        if (table == null) {
+            table = ErrorTable.of(this.errors.values());
+            this.table = table;
+        }
+        return table;
+    }
+
     public List<Either<String, Integer>> currentPath() {
-        return this.stack.stream().takeWhile(n -> n.parent != null).map(n -> n.pathElement).toList().reversed();
+        final var leaf = this.stack.peek();
+        return leaf != null ? leaf.path() : List.of();
     }
 
     public ErrorNode peek() {
@@ -4,11 +4,11 @@ import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.internal.Streams;
 import com.google.gson.stream.JsonWriter;
-import com.mojang.datafixers.util.Either;
 import lombok.extern.slf4j.Slf4j;
 import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.Style;
+import org.jetbrains.annotations.Nullable;
 import personthecat.catlib.linting.Linters;
 import personthecat.catlib.util.McUtils;
 import xjs.data.JsonValue;
@@ -16,6 +16,7 @@ import xjs.data.JsonValue;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static personthecat.catlib.command.CommandUtils.displayOnHover;
@@ -47,9 +48,7 @@ public final class DecodeContextRenderer {
             comp.append("\n");
         }
         if (!ctx.getErrors().isEmpty()) {
-            for (final var errors : ctx.getErrors()) {
-                comp.append(renderErrors(errors));
-            }
+            comp.append(renderEntries(ctx.getErrorTable().entries()));
         } else if (McUtils.getPlatform().isForgeLike()) {
             comp.append(renderSplitRoot(root));
         }
@@ -63,47 +62,54 @@ public final class DecodeContextRenderer {
         return comp;
     }
 
-    private static Component renderErrors(CategorizedErrors errors) {
+    /**
+     * Renders any range of entries from an {@link ErrorTable}, such as a single page.
+     * A heading is rendered whenever the category changes.
+     *
+     * @param entries The entries being rendered, in table order.
+     * @return The formatted entries.
+     */
+    public static Component renderEntries(List<ErrorTable.Entry> entries) {
         final var comp = Component.empty();
-        if (errors.erredLeaves().isEmpty()) {
-            return comp;
-        }
-        if (errors.category() != null) {
-            comp.append("\n");
-            comp.append(Component.translatable(errors.category()).append(":").withStyle(ChatFormatting.LIGHT_PURPLE, ChatFormatting.BOLD));
-            comp.append("\n");
-        }
-        comp.append("\n");
-        comp.append(Component.translatable(LEAF_ERRORS).append(":").withStyle(ChatFormatting.AQUA, ChatFormatting.BOLD));
-        comp.append("\n\n");
-
-        errors.erredLeaves().forEach((path, messages) -> {
+        String category = null;
+        for (int i = 0; i < entries.size(); i++) {
+            final var entry = entries.get(i);
+            if (i == 0 || !Objects.equals(category, entry.category())) {
+                category = entry.category();
+                comp.append(renderHeading(category));
+            }
             comp.append(Component.literal("  - ").withStyle(ChatFormatting.DARK_GRAY));
-            comp.append(renderPath(path));
+            comp.append(renderPath(entry));
             comp.append("\n");
-            for (final var msg : messages) {
+            for (final var msg : entry.messages()) {
                 comp.append(Component.literal("    - ").withStyle(ChatFormatting.DARK_GRAY));
                 comp.append(Component.literal(msg).withStyle(ChatFormatting.RED));
                 comp.append("\n");
             }
-        });
+        }
         return comp;
     }
 
-    private static Component renderPath(List<Either<String, Integer>> path) {
-        if (path.isEmpty()) {
-            return Component.literal("<root>").withStyle(ChatFormatting.AQUA, ChatFormatting.ITALIC);
-        }
+    private static Component renderHeading(@Nullable String category) {
         final var comp = Component.empty();
-        for (int i = 0; i < path.size(); i++) {
-            final int fi = i;
-            path.get(i)
-                .ifLeft(k -> { if (fi != 0) comp.append("."); comp.append(Component.literal(k).withStyle(ChatFormatting.AQUA)); })
-                .ifRight(ix -> comp.append("[").append(Component.literal(ix.toString()).withStyle(ChatFormatting.AQUA)).append("]"));
+        if (category != null) {
+            comp.append("\n");
+            comp.append(Component.translatable(category).append(":").withStyle(ChatFormatting.LIGHT_PURPLE, ChatFormatting.BOLD));
+            comp.append("\n");
         }
+        comp.append("\n");
+        comp.append(Component.translatable(LEAF_ERRORS).append(":").withStyle(ChatFormatting.AQUA, ChatFormatting.BOLD));
+        comp.append("\n\n");
         return comp;
     }
 
+    private static Component renderPath(ErrorTable.Entry entry) {
+        if (entry.path().isEmpty()) {
+            return Component.literal("<root>").withStyle(ChatFormatting.AQUA, ChatFormatting.ITALIC);
+        }
+        return Component.literal(entry.formattedPath()).withStyle(ChatFormatting.AQUA);
+    }
+
     private static Component renderSplitRoot(ErrorNode root) {
         final var comp = Component.empty();
         final var notAvailableStyle =
@@ -21,6 +21,8 @@ public final class ErrorNode {
     public final Supplier<Set<String>> messages;
     public final @Nullable ErrorNode parent;
     public volatile @Nullable String category;
+    private volatile boolean nestedErrors;
+    private volatile @Nullable List<Either<String, Integer>> path;
 
     private ErrorNode(Either<String, Integer> pathElement, @Nullable ErrorNode parent) {
         this.pathElement = pathElement;
@@ -41,6 +43,36 @@ public final class ErrorNode {
         this.category = category;
     }
 
+    public void reportError(Supplier<String> error) {
+        this.messageSuppliers.add(error);
+        // ancestors stay flagged, so the walk stops at the first one already flagged
+        for (var p = this.parent; p != null && !p.nestedErrors; p = p.parent) {
+            p.nestedErrors = true;
+        }
+    }
+
+    public List<Either<String, Integer>> path() {
+        var path = this.path;
+        if (path == null) {
+            path = this.buildPath();
+            this.path = path;
+        }
+        return path;
+    }
+
+    private List<Either<String, Integer>> buildPath() {
+        int depth = 0;
+        for (var n = this; n.parent != null; n = n.parent) {
+            depth++;
+        }
+        @SuppressWarnings("unchecked")
+        final Either<String, Integer>[] elements = new Either[depth];
+        for (var n = this; n.parent != null; n = n.parent) {
+            elements[--depth] = n.pathElement;
+        }
+        return List.of(elements);
+    }
+
     private Set<String> readMessages() {
         if (this.messageSuppliers.isEmpty()) {
             return Collections.emptySet();
@@ -56,11 +88,6 @@ public final class ErrorNode {
     }
 
     public boolean hasNestedErrors() {
-        for (final var child : this.children.values()) {
-            if (!child.messageSuppliers.isEmpty() || child.hasNestedErrors()) {
-                return true;
-            }
-        }
-        return false;
+        return this.nestedErrors;
     }
 }
\ No newline at end of file
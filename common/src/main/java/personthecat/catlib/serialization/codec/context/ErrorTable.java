@@ -0,0 +1,98 @@
+package personthecat.catlib.serialization.codec.context;
+
+import com.mojang.datafixers.util.Either;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A flat view of every erred leaf in a {@link DecodeContext}, sorted by category and
+ * then by path. Each path is formatted once when the table is built.
+ */
+public final class ErrorTable {
+    private static final Comparator<Entry> ORDER =
+        Comparator.comparing(Entry::category, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+            .thenComparing(Entry::path, ErrorTable::comparePaths);
+
+    private final List<Entry> entries;
+
+    private ErrorTable(List<Entry> entries) {
+        this.entries = entries;
+    }
+
+    static ErrorTable of(Collection<CategorizedErrors> errors) {
+        final List<Entry> entries = new ArrayList<>();
+        for (final var category : errors) {
+            category.erredLeaves().forEach((path, messages) ->
+                entries.add(new Entry(category.category(), path, formatPath(path), List.copyOf(messages))));
+        }
+        entries.sort(ORDER);
+        return new ErrorTable(List.copyOf(entries));
+    }
+
+    public List<Entry> entries() {
+        return this.entries;
+    }
+
+    public int size() {
+        return this.entries.size();
+    }
+
+    public boolean isEmpty() {
+        return this.entries.isEmpty();
+    }
+
+    public int pageCount(int pageSize) {
+        return (this.entries.size() + pageSize - 1) / pageSize;
+    }
+
+    public List<Entry> page(int page, int pageSize) {
+        final int from = Math.min(page * pageSize, this.entries.size());
+        final int to = Math.min(from + pageSize, this.entries.size());
+        return this.entries.subList(from, to);
+    }
+
+    public static String formatPath(List<Either<String, Integer>> path) {
+        if (path.isEmpty()) {
+            return "<root>";
+        }
+        final var sb = new StringBuilder();
+        for (final var element : path) {
+            final var key = element.left();
+            if (key.isPresent()) {
+                if (!sb.isEmpty()) sb.append('.');
+                sb.append(key.get());
+            } else {
+                sb.append('[').append(element.right().orElseThrow()).append(']');
+            }
+        }
+        return sb.toString();
+    }
+
+    // keys are compared by name and indices by value, so that [2] precedes [10]
+    private static int comparePaths(List<Either<String, Integer>> p1, List<Either<String, Integer>> p2) {
+        final int len = Math.min(p1.size(), p2.size());
+        for (int i = 0; i < len; i++) {
+            final int c = compareElements(p1.get(i), p2.get(i));
+            if (c != 0) return c;
+        }
+        return Integer.compare(p1.size(), p2.size());
+    }
+
+    private static int compareElements(Either<String, Integer> e1, Either<String, Integer> e2) {
+        final var k1 = e1.left();
+        final var k2 = e2.left();
+        if (k1.isPresent() && k2.isPresent()) {
+            return k1.get().compareTo(k2.get());
+        } else if (k1.isPresent() || k2.isPresent()) {
+            return k1.isPresent() ? -1 : 1;
+        }
+        return Integer.compare(e1.right().orElseThrow(), e2.right().orElseThrow());
+    }
+
+    public record Entry(
+        @Nullable String category, List<Either<String, Integer>> path, String formattedPath, List<String> messages) {}
+}
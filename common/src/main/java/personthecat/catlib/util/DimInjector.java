@@ -1,5 +1,6 @@
 package personthecat.catlib.util;
 
+import com.google.common.collect.MapMaker;
 import net.minecraft.core.Holder;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.dimension.DimensionType;
@@ -11,24 +12,27 @@ import personthecat.catlib.registry.DynamicRegistries;
 
 import java.util.Collections;
 import java.util.Set;
-import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 
 public interface DimInjector {
     Set<Class<?>> UNSUPPORTED = ConcurrentHashMap.newKeySet();
-    Set<Holder<DimensionType>> MAPPED = Collections.newSetFromMap(Collections.synchronizedMap(new WeakHashMap<>()));
+    Set<Holder<DimensionType>> MAPPED = Collections.newSetFromMap(new MapMaker().weakKeys().makeMap());
     Logger LOG = LogManager.getLogger(DimInjector.class);
 
     void setType(final @NotNull Holder<DimensionType> type);
     @Nullable Holder<DimensionType> getType();
 
     static void setType(final ChunkAccess chunk, final @NotNull Holder<DimensionType> type) {
-        if (chunk instanceof DimInjector) {
-            ((DimInjector) chunk).setType(type);
-            if (MAPPED.add(type)) {
+        if (chunk instanceof DimInjector injector) {
+            // generate is called once per status; only the first call does any work
+            if (injector.getType() == type) {
+                return;
+            }
+            injector.setType(type);
+            if (!MAPPED.contains(type) && MAPPED.add(type)) {
                 LOG.info("Successfully injecting dim keys for {}", DynamicRegistries.DIMENSION_TYPE.keyOf(type));
             }
-        } else if (UNSUPPORTED.add(chunk.getClass())) {
+        } else if (!UNSUPPORTED.contains(chunk.getClass()) && UNSUPPORTED.add(chunk.getClass())) {
             LOG.error("Cannot inject into chunk of type {}", chunk.getClass());
         }
     }
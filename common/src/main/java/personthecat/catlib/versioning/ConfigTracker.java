@@ -12,8 +12,6 @@ import personthecat.catlib.io.FileIO;
 import personthecat.catlib.util.McUtils;
 
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -26,6 +24,7 @@ public class ConfigTracker<T extends Serializable> {
     private volatile T current;
     @Nullable private final T cached;
     private final boolean updated;
+    private final boolean legacy;
     private volatile boolean saved;
     @Nullable private final Runnable gameReady;
     @Nullable private final Consumer<LevelAccessor> worldLoad;
@@ -34,8 +33,10 @@ public class ConfigTracker<T extends Serializable> {
         this.mod = builder.mod;
         this.file = createFile(builder);
         this.current = current;
-        this.cached = readCached(this.file);
-        this.updated = !this.current.equals(cached);
+        final Snapshot<T> snapshot = readCached(this.file, current);
+        this.cached = snapshot.value();
+        this.legacy = snapshot.legacy();
+        this.updated = !this.current.equals(this.cached);
         this.saved = false;
         this.gameReady = gameReady(this, builder.persist);
         this.worldLoad = createWorldLoad(this, builder.persist);
@@ -53,18 +54,27 @@ public class ConfigTracker<T extends Serializable> {
             .resolve(builder.category + ".cft");
     }
 
-    @Nullable
     @SuppressWarnings("unchecked")
-    private static <T extends Serializable> T readCached(final Path file) {
-        if (!Files.exists(file)) return null;
-        try (final ObjectInputStream ois = new ObjectInputStream(Files.newInputStream(file))) {
-            return (T) ois.readObject();
+    private static <T extends Serializable> Snapshot<T> readCached(final Path file, final T current) {
+        if (!Files.exists(file)) return new Snapshot<>(null, false);
+        try {
+            final byte[] bytes = Files.readAllBytes(file);
+            if (SnapshotFormat.isLegacy(bytes)) {
+                return new Snapshot<>((T) SnapshotFormat.decodeLegacy(bytes), true);
+            }
+            // Identical hashes mean the file contains exactly this value. No need to decode it.
+            if (SnapshotFormat.readHash(bytes) == SnapshotFormat.encode(current).hash()) {
+                return new Snapshot<>(current, false);
+            }
+            final ClassLoader loader = current.getClass().getClassLoader();
+            return new Snapshot<>((T) SnapshotFormat.decode(bytes,
+                loader != null ? loader : ConfigTracker.class.getClassLoader()), false);
         } catch (final IOException e) {
             log.error("Error reading config tracker. This will eventually be logged in the error menu.");
         } catch (final ClassNotFoundException e) {
             log.warn("Original tracked class was updated. Ignoring...", e);
         }
-        return null;
+        return new Snapshot<>(null, false);
     }
 
     @Nullable
@@ -96,7 +106,7 @@ public class ConfigTracker<T extends Serializable> {
     }
 
     public void save() {
-        if (this.updated) {
+        if (this.updated || this.legacy) {
             this.writeCurrent();
             this.deregister();
         }
@@ -119,9 +129,8 @@ public class ConfigTracker<T extends Serializable> {
     private synchronized void writeCurrent() {
         FileIO.mkdirsOrThrow(this.file.getParent());
 
-        try (final ObjectOutputStream oos = new ObjectOutputStream(Files.newOutputStream(this.file))) {
-            oos.writeObject(this.current);
-            oos.flush();
+        try {
+            Files.write(this.file, SnapshotFormat.encode(this.current).bytes());
             this.saved = true;
         } catch (final IOException e) {
             log.error("Error saving config tracker for {}. This will eventually be logged in the error menu.",
@@ -190,6 +199,8 @@ public class ConfigTracker<T extends Serializable> {
         }
     }
 
+    private record Snapshot<T>(@Nullable T value, boolean legacy) {}
+
     public enum PersistOption {
         GAME_READY,
         WORLD_LOAD,
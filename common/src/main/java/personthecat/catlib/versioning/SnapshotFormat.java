@@ -0,0 +1,685 @@
+package personthecat.catlib.versioning;
+
+import it.unimi.dsi.fastutil.objects.Object2IntLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamConstants;
+import java.io.StreamCorruptedException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+/**
+ * Reads and writes the snapshots persisted by {@link ConfigTracker}.
+ *
+ * <p>Each file begins with the bytes <code>CFT</code>, the format version, and a
+ * 64-bit hash of the remainder of the file. The body contains a table of every
+ * distinct string, followed by a tree of tagged values. Lengths, indices, and
+ * integers are varint-encoded. Records, enums, strings, primitives, {@link Version
+ * versions}, and standard collections are written natively. Collections are only
+ * written natively when their exact type can be restored, so that decoding always yields
+ * the same type which was encoded. Any other value is embedded using Java serialization.
+ *
+ * <p>Because the hash only depends on the encoded value, a tracker can compare the
+ * hash of its current value against the file and skip decoding it entirely when
+ * nothing has changed.
+ *
+ * <p>Files written with {@link ObjectOutputStream} by older versions of this library
+ * are detected by {@link #isLegacy} and can still be read by {@link #decodeLegacy}.
+ */
+final class SnapshotFormat {
+    static final int VERSION = 1;
+    private static final byte[] MAGIC = { 'C', 'F', 'T' };
+    private static final int HEADER_SIZE = MAGIC.length + 1 + Long.BYTES;
+
+    private static final byte NULL = 0;
+    private static final byte FALSE = 1;
+    private static final byte TRUE = 2;
+    private static final byte BYTE = 3;
+    private static final byte SHORT = 4;
+    private static final byte CHAR = 5;
+    private static final byte INT = 6;
+    private static final byte LONG = 7;
+    private static final byte FLOAT = 8;
+    private static final byte DOUBLE = 9;
+    private static final byte STRING = 10;
+    private static final byte ENUM = 11;
+    private static final byte VERSION_VALUE = 12;
+    private static final byte RECORD = 13;
+    private static final byte LIST = 14;
+    private static final byte SET = 15;
+    private static final byte MAP = 16;
+    private static final byte SERIALIZED = 17;
+
+    // the kind of collection, written after LIST, SET, and MAP
+    private static final byte HASHED = 0; // ArrayList, HashSet, HashMap
+    private static final byte LINKED = 1;
+    private static final byte SORTED = 2; // natural ordering only
+    private static final byte IMMUTABLE = 3; // List.of, Set.of, Map.of
+    private static final byte UNSUPPORTED = -1;
+
+    private static final Set<Class<?>> IMMUTABLE_LISTS = Set.of(List.of().getClass(), List.of(0).getClass());
+    private static final Set<Class<?>> IMMUTABLE_SETS = Set.of(Set.of().getClass(), Set.of(0).getClass());
+    private static final Set<Class<?>> IMMUTABLE_MAPS = Set.of(Map.of().getClass(), Map.of(0, 0).getClass());
+
+    private static final ClassValue<RecordInfo> RECORDS = new ClassValue<>() {
+        @Override
+        protected RecordInfo computeValue(final Class<?> c) {
+            return RecordInfo.create(c);
+        }
+    };
+
+    private SnapshotFormat() {}
+
+    /**
+     * Encodes a complete snapshot file for the given value.
+     *
+     * @param value The value being persisted.
+     * @return The hash and full contents of the file.
+     * @throws IOException If the value or any of its members cannot be written.
+     */
+    static Encoded encode(final Object value) throws IOException {
+        final Writer writer = new Writer();
+        writer.write(value);
+
+        final Output out = new Output(HEADER_SIZE + writer.values.size() + writer.strings.size() * 16);
+        out.writeBytes(MAGIC, 0, MAGIC.length);
+        out.writeByte(VERSION);
+        out.writeLong(0); // hash placeholder
+        out.writeVarInt(writer.strings.size());
+        for (final String s : writer.strings.keySet()) {
+            final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            out.writeVarInt(bytes.length);
+            out.writeBytes(bytes, 0, bytes.length);
+        }
+        out.writeBytes(writer.values.buf, 0, writer.values.size());
+
+        final byte[] bytes = out.toByteArray();
+        final long hash = hash(bytes, HEADER_SIZE, bytes.length);
+        for (int i = 0; i < Long.BYTES; i++) {
+            bytes[MAGIC.length + 1 + i] = (byte) (hash >>> (56 - i * 8));
+        }
+        return new Encoded(hash, bytes);
+    }
+
+    static boolean isLegacy(final byte[] bytes) {
+        return bytes.length >= 2
+            && (short) ((bytes[0] & 0xFF) << 8 | bytes[1] & 0xFF) == ObjectStreamConstants.STREAM_MAGIC;
+    }
+
+    /**
+     * Reads the hash stored in the header of a snapshot without decoding its body.
+     *
+     * @param bytes The full contents of the file.
+     * @return The hash of the encoded value.
+     * @throws IOException If the header is invalid or the file was written by a newer
+     *                     version of the format.
+     */
+    static long readHash(final byte[] bytes) throws IOException {
+        final Input in = new Input(bytes);
+        for (final byte b : MAGIC) {
+            if (in.readByte() != b) throw new StreamCorruptedException("Not a config tracker snapshot");
+        }
+        final int version = in.readByte();
+        if (version != VERSION) {
+            throw new StreamCorruptedException("Unsupported snapshot version: " + version);
+        }
+        return in.readLong();
+    }
+
+    /**
+     * Decodes the value stored in a snapshot.
+     *
+     * @param bytes  The full contents of the file.
+     * @param loader The class loader used to resolve records, enums, and serialized values.
+     * @return The value which was persisted.
+     * @throws IOException If the file is invalid or no longer matches the tracked classes.
+     * @throws ClassNotFoundException If any class stored in the snapshot no longer exists.
+     */
+    static @Nullable Object decode(final byte[] bytes, final ClassLoader loader) throws IOException, ClassNotFoundException {
+        final long expected = readHash(bytes);
+        if (hash(bytes, HEADER_SIZE, bytes.length) != expected) {
+            throw new StreamCorruptedException("Snapshot hash does not match contents");
+        }
+        final Input in = new Input(bytes);
+        in.pos = HEADER_SIZE;
+        final String[] strings = new String[in.readLength()];
+        for (int i = 0; i < strings.length; i++) {
+            final int len = in.readLength();
+            strings[i] = new String(bytes, in.pos, len, StandardCharsets.UTF_8);
+            in.pos += len;
+        }
+        final Object value = new Reader(in, strings, loader).read();
+        if (in.pos != bytes.length) {
+            throw new StreamCorruptedException("Unexpected data after snapshot");
+        }
+        return value;
+    }
+
+    static @Nullable Object decodeLegacy(final byte[] bytes) throws IOException, ClassNotFoundException {
+        try (final ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return ois.readObject();
+        }
+    }
+
+    // FNV-1a
+    private static long hash(final byte[] bytes, final int from, final int to) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = from; i < to; i++) {
+            h ^= bytes[i] & 0xFF;
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    record Encoded(long hash, byte[] bytes) {}
+
+    private static final class Writer {
+        final Object2IntMap<String> strings = new Object2IntLinkedOpenHashMap<>();
+        final Output values = new Output(256);
+
+        Writer() {
+            this.strings.defaultReturnValue(-1);
+        }
+
+        void write(final @Nullable Object o) throws IOException {
+            final Output out = this.values;
+            if (o == null) {
+                out.writeByte(NULL);
+            } else if (o instanceof String s) {
+                out.writeByte(STRING);
+                this.writeString(s);
+            } else if (o instanceof Boolean b) {
+                out.writeByte(b ? TRUE : FALSE);
+            } else if (o instanceof Integer i) {
+                out.writeByte(INT);
+                out.writeVarLong(zigzag(i));
+            } else if (o instanceof Long l) {
+                out.writeByte(LONG);
+                out.writeVarLong(zigzag(l));
+            } else if (o instanceof Double d) {
+                out.writeByte(DOUBLE);
+                out.writeLong(Double.doubleToRawLongBits(d));
+            } else if (o instanceof Float f) {
+                out.writeByte(FLOAT);
+                out.writeInt(Float.floatToRawIntBits(f));
+            } else if (o instanceof Short s) {
+                out.writeByte(SHORT);
+                out.writeVarLong(zigzag(s));
+            } else if (o instanceof Byte b) {
+                out.writeByte(BYTE);
+                out.writeByte(b);
+            } else if (o instanceof Character c) {
+                out.writeByte(CHAR);
+                out.writeVarInt(c);
+            } else if (o instanceof Enum<?> e) {
+                out.writeByte(ENUM);
+                this.writeString(e.getDeclaringClass().getName());
+                this.writeString(e.name());
+            } else if (o instanceof Version v) {
+                out.writeByte(VERSION_VALUE);
+                out.writeVarInt(v.getMajorVersion());
+                out.writeVarInt(v.getMinorVersion());
+                out.writeVarInt(v.getPatchVersion());
+                this.writeString(v.getTag());
+                this.writeString(v.getMetadata());
+            } else if (o instanceof Record r) {
+                final RecordInfo info = RECORDS.get(r.getClass());
+                out.writeByte(RECORD);
+                this.writeString(r.getClass().getName());
+                for (int i = 0; i < info.accessors.length; i++) {
+                    this.write(info.get(r, i));
+                }
+            } else if (o instanceof List<?> l && kindOf(l) != UNSUPPORTED) {
+                out.writeByte(LIST);
+                this.writeElements(kindOf(l), l);
+            } else if (o instanceof Set<?> s && kindOf(s) != UNSUPPORTED) {
+                out.writeByte(SET);
+                this.writeElements(kindOf(s), s);
+            } else if (o instanceof Map<?, ?> m && kindOf(m) != UNSUPPORTED) {
+                out.writeByte(MAP);
+                out.writeByte(kindOf(m));
+                out.writeVarInt(m.size());
+                for (final Map.Entry<?, ?> e : m.entrySet()) {
+                    this.write(e.getKey());
+                    this.write(e.getValue());
+                }
+            } else {
+                final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (final ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+                    oos.writeObject(o);
+                }
+                out.writeByte(SERIALIZED);
+                out.writeVarInt(bytes.size());
+                out.writeBytes(bytes.toByteArray(), 0, bytes.size());
+            }
+        }
+
+        void writeElements(final byte kind, final Collection<?> c) throws IOException {
+            this.values.writeByte(kind);
+            this.values.writeVarInt(c.size());
+            for (final Object e : c) {
+                this.write(e);
+            }
+        }
+
+        void writeString(final String s) {
+            int index = this.strings.getInt(s);
+            if (index < 0) {
+                index = this.strings.size();
+                this.strings.put(s, index);
+            }
+            this.values.writeVarInt(index);
+        }
+
+        static long zigzag(final long l) {
+            return (l << 1) ^ (l >> 63);
+        }
+
+        // subclasses and wrappers are serialized instead, since they cannot be restored here
+        static byte kindOf(final List<?> l) {
+            final Class<?> c = l.getClass();
+            if (c == ArrayList.class) return HASHED;
+            if (c == LinkedList.class) return LINKED;
+            // Stream#toList returns the same type, but permits null
+            if (IMMUTABLE_LISTS.contains(c) && !containsNull(l)) return IMMUTABLE;
+            return UNSUPPORTED;
+        }
+
+        static byte kindOf(final Set<?> s) {
+            final Class<?> c = s.getClass();
+            if (c == HashSet.class) return HASHED;
+            if (c == LinkedHashSet.class) return LINKED;
+            if (c == TreeSet.class && ((TreeSet<?>) s).comparator() == null) return SORTED;
+            if (IMMUTABLE_SETS.contains(c)) return IMMUTABLE;
+            return UNSUPPORTED;
+        }
+
+        static byte kindOf(final Map<?, ?> m) {
+            final Class<?> c = m.getClass();
+            if (c == HashMap.class) return HASHED;
+            if (c == LinkedHashMap.class) return LINKED;
+            if (c == TreeMap.class && ((TreeMap<?, ?>) m).comparator() == null) return SORTED;
+            if (IMMUTABLE_MAPS.contains(c)) return IMMUTABLE;
+            return UNSUPPORTED;
+        }
+
+        // immutable lists may throw when queried for null
+        static boolean containsNull(final List<?> l) {
+            for (final Object e : l) {
+                if (e == null) return true;
+            }
+            return false;
+        }
+    }
+
+    private static final class Reader {
+        final Input in;
+        final String[] strings;
+        final ClassLoader loader;
+        final Map<String, Class<?>> classes = new HashMap<>();
+
+        Reader(final Input in, final String[] strings, final ClassLoader loader) {
+            this.in = in;
+            this.strings = strings;
+            this.loader = loader;
+        }
+
+        @Nullable Object read() throws IOException, ClassNotFoundException {
+            final Input in = this.in;
+            final byte tag = in.readByte();
+            return switch (tag) {
+                case NULL -> null;
+                case FALSE -> false;
+                case TRUE -> true;
+                case BYTE -> in.readByte();
+                case SHORT -> (short) unzigzag(in.readVarLong());
+                case CHAR -> (char) in.readVarInt();
+                case INT -> (int) unzigzag(in.readVarLong());
+                case LONG -> unzigzag(in.readVarLong());
+                case FLOAT -> Float.intBitsToFloat(in.readInt());
+                case DOUBLE -> Double.longBitsToDouble(in.readLong());
+                case STRING -> this.readString();
+                case ENUM -> this.readEnum();
+                case VERSION_VALUE -> this.readVersion();
+                case RECORD -> this.readRecord();
+                case LIST -> this.readList();
+                case SET -> this.readSet();
+                case MAP -> this.readMap();
+                case SERIALIZED -> this.readSerialized();
+                default -> throw new StreamCorruptedException("Unknown value tag: " + tag);
+            };
+        }
+
+        String readString() throws IOException {
+            final int index = this.in.readVarInt();
+            if (index < 0 || index >= this.strings.length) {
+                throw new StreamCorruptedException("String index out of bounds: " + index);
+            }
+            return this.strings[index];
+        }
+
+        Class<?> readClass() throws IOException, ClassNotFoundException {
+            final String name = this.readString();
+            Class<?> c = this.classes.get(name);
+            if (c == null) {
+                c = Class.forName(name, false, this.loader);
+                this.classes.put(name, c);
+            }
+            return c;
+        }
+
+        Object readEnum() throws IOException, ClassNotFoundException {
+            final Class<?> c = this.readClass();
+            final String name = this.readString();
+            if (!c.isEnum()) throw new InvalidClassException(c.getName(), "No longer an enum");
+            for (final Object constant : c.getEnumConstants()) {
+                if (((Enum<?>) constant).name().equals(name)) {
+                    return constant;
+                }
+            }
+            throw new InvalidClassException(c.getName(), "No such constant: " + name);
+        }
+
+        Version readVersion() throws IOException {
+            final int major = this.in.readVarInt();
+            final int minor = this.in.readVarInt();
+            final int patch = this.in.readVarInt();
+            final String tag = this.readString();
+            final String meta = this.readString();
+            try {
+                return Version.create(major, minor, patch, tag, meta);
+            } catch (final Version.VersionParseException e) {
+                throw new StreamCorruptedException(e.getMessage());
+            }
+        }
+
+        Object readRecord() throws IOException, ClassNotFoundException {
+            final Class<?> c = this.readClass();
+            if (!c.isRecord()) throw new InvalidClassException(c.getName(), "No longer a record");
+            final RecordInfo info = RECORDS.get(c);
+            final Object[] args = new Object[info.types.length];
+            for (int i = 0; i < args.length; i++) {
+                args[i] = this.read();
+            }
+            return info.create(args);
+        }
+
+        List<Object> readList() throws IOException, ClassNotFoundException {
+            final byte kind = this.in.readByte();
+            final int size = this.in.readLength();
+            final List<Object> list = switch (kind) {
+                case HASHED, IMMUTABLE -> new ArrayList<>(size);
+                case LINKED -> new LinkedList<>();
+                default -> throw new StreamCorruptedException("Unknown list kind: " + kind);
+            };
+            for (int i = 0; i < size; i++) {
+                list.add(this.read());
+            }
+            return kind == IMMUTABLE ? restore(() -> List.copyOf(list)) : list;
+        }
+
+        Set<Object> readSet() throws IOException, ClassNotFoundException {
+            final byte kind = this.in.readByte();
+            final int size = this.in.readLength();
+            final Set<Object> set = switch (kind) {
+                case HASHED -> new HashSet<>(size * 4 / 3 + 1);
+                case LINKED, IMMUTABLE -> new LinkedHashSet<>(size * 4 / 3 + 1);
+                case SORTED -> new TreeSet<>();
+                default -> throw new StreamCorruptedException("Unknown set kind: " + kind);
+            };
+            for (int i = 0; i < size; i++) {
+                final Object e = this.read();
+                restore(() -> set.add(e));
+            }
+            return kind == IMMUTABLE ? restore(() -> Set.copyOf(set)) : set;
+        }
+
+        Map<Object, Object> readMap() throws IOException, ClassNotFoundException {
+            final byte kind = this.in.readByte();
+            final int size = this.in.readLength();
+            final Map<Object, Object> map = switch (kind) {
+                case HASHED -> new HashMap<>(size * 4 / 3 + 1);
+                case LINKED, IMMUTABLE -> new LinkedHashMap<>(size * 4 / 3 + 1);
+                case SORTED -> new TreeMap<>();
+                default -> throw new StreamCorruptedException("Unknown map kind: " + kind);
+            };
+            for (int i = 0; i < size; i++) {
+                final Object k = this.read();
+                final Object v = this.read();
+                restore(() -> map.put(k, v));
+            }
+            return kind == IMMUTABLE ? restore(() -> Map.copyOf(map)) : map;
+        }
+
+        Object readSerialized() throws IOException, ClassNotFoundException {
+            final int len = this.in.readLength();
+            final ByteArrayInputStream bytes = new ByteArrayInputStream(this.in.buf, this.in.pos, len);
+            this.in.pos += len;
+            try (final ObjectInputStream ois = new LoaderObjectInputStream(bytes, this.loader)) {
+                return ois.readObject();
+            }
+        }
+
+        static long unzigzag(final long l) {
+            return (l >>> 1) ^ -(l & 1);
+        }
+
+        // e.g. null in an immutable collection or incomparable elements in a sorted one
+        static <T> T restore(final Supplier<T> f) throws StreamCorruptedException {
+            try {
+                return f.get();
+            } catch (final NullPointerException | ClassCastException e) {
+                throw new StreamCorruptedException("Collection cannot be restored: " + e.getMessage());
+            }
+        }
+    }
+
+    private record RecordInfo(Class<?>[] types, Method[] accessors, @Nullable Constructor<?> constructor) {
+
+        static RecordInfo create(final Class<?> c) {
+            final RecordComponent[] components = c.getRecordComponents();
+            if (components == null) {
+                return new RecordInfo(new Class<?>[0], new Method[0], null);
+            }
+            final Class<?>[] types = new Class<?>[components.length];
+            final Method[] accessors = new Method[components.length];
+            for (int i = 0; i < components.length; i++) {
+                types[i] = components[i].getType();
+                accessors[i] = components[i].getAccessor();
+                accessors[i].setAccessible(true);
+            }
+            Constructor<?> constructor;
+            try {
+                constructor = c.getDeclaredConstructor(types);
+                constructor.setAccessible(true);
+            } catch (final NoSuchMethodException e) {
+                constructor = null;
+            }
+            return new RecordInfo(types, accessors, constructor);
+        }
+
+        Object get(final Record r, final int i) throws IOException {
+            try {
+                return this.accessors[i].invoke(r);
+            } catch (final IllegalAccessException | InvocationTargetException e) {
+                throw new IOException("Error reading record component: " + this.accessors[i], e);
+            }
+        }
+
+        Object create(final Object[] args) throws IOException {
+            if (this.constructor == null) {
+                throw new InvalidClassException("No canonical constructor for record");
+            }
+            try {
+                return this.constructor.newInstance(args);
+            } catch (final IllegalArgumentException e) {
+                throw new InvalidClassException(this.constructor.getDeclaringClass().getName(),
+                    "Record components were changed: " + Arrays.toString(args));
+            } catch (final ReflectiveOperationException e) {
+                throw new IOException("Error constructing record: " + this.constructor.getDeclaringClass(), e);
+            }
+        }
+    }
+
+    private static final class LoaderObjectInputStream extends ObjectInputStream {
+        final ClassLoader loader;
+
+        LoaderObjectInputStream(final ByteArrayInputStream in, final ClassLoader loader) throws IOException {
+            super(in);
+            this.loader = loader;
+        }
+
+        @Override
+        protected Class<?> resolveClass(final ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(desc.getName(), false, this.loader);
+            } catch (final ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+
+    private static final class Output {
+        byte[] buf;
+        int size;
+
+        Output(final int capacity) {
+            this.buf = new byte[capacity];
+        }
+
+        void ensure(final int n) {
+            if (this.size + n > this.buf.length) {
+                this.buf = Arrays.copyOf(this.buf, Math.max(this.buf.length << 1, this.size + n));
+            }
+        }
+
+        void writeByte(final int b) {
+            this.ensure(1);
+            this.buf[this.size++] = (byte) b;
+        }
+
+        void writeBytes(final byte[] bytes, final int off, final int len) {
+            this.ensure(len);
+            System.arraycopy(bytes, off, this.buf, this.size, len);
+            this.size += len;
+        }
+
+        void writeInt(final int i) {
+            this.ensure(Integer.BYTES);
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                this.buf[this.size++] = (byte) (i >>> shift);
+            }
+        }
+
+        void writeLong(final long l) {
+            this.ensure(Long.BYTES);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                this.buf[this.size++] = (byte) (l >>> shift);
+            }
+        }
+
+        void writeVarInt(final int i) {
+            this.writeVarLong(i & 0xFFFFFFFFL);
+        }
+
+        void writeVarLong(long l) {
+            this.ensure(10);
+            while ((l & ~0x7FL) != 0) {
+                this.buf[this.size++] = (byte) ((l & 0x7F) | 0x80);
+                l >>>= 7;
+            }
+            this.buf[this.size++] = (byte) l;
+        }
+
+        int size() {
+            return this.size;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(this.buf, this.size);
+        }
+    }
+
+    private static final class Input {
+        final byte[] buf;
+        int pos;
+
+        Input(final byte[] buf) {
+            this.buf = buf;
+        }
+
+        byte readByte() throws EOFException {
+            if (this.pos >= this.buf.length) throw new EOFException();
+            return this.buf[this.pos++];
+        }
+
+        int readInt() throws EOFException {
+            int i = 0;
+            for (int n = 0; n < Integer.BYTES; n++) {
+                i = (i << 8) | (this.readByte() & 0xFF);
+            }
+            return i;
+        }
+
+        long readLong() throws EOFException {
+            long l = 0;
+            for (int n = 0; n < Long.BYTES; n++) {
+                l = (l << 8) | (this.readByte() & 0xFF);
+            }
+            return l;
+        }
+
+        int readVarInt() throws IOException {
+            final long l = this.readVarLong();
+            if (l > 0xFFFFFFFFL) throw new StreamCorruptedException("Varint too large");
+            return (int) l;
+        }
+
+        long readVarLong() throws IOException {
+            long l = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                final byte b = this.readByte();
+                l |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return l;
+                }
+            }
+            throw new StreamCorruptedException("Malformed varint");
+        }
+
+        // lengths are validated against the remaining bytes to avoid huge allocations
+        int readLength() throws IOException {
+            final int len = this.readVarInt();
+            if (len < 0 || len > this.buf.length - this.pos) {
+                throw new StreamCorruptedException("Length out of bounds: " + len);
+            }
+            return len;
+        }
+    }
+}
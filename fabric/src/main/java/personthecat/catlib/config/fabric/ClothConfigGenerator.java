@@ -1,8 +1,10 @@
 package personthecat.catlib.config.fabric;
 
+import lombok.extern.log4j.Log4j2;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.client.gui.screens.Screen;
+import org.jetbrains.annotations.Nullable;
 import personthecat.catlib.config.CategoryValue;
 import personthecat.catlib.config.ConfigGenerator;
 import personthecat.catlib.config.ConfigValue;
@@ -16,8 +18,13 @@ import xjs.data.JsonObject;
 import xjs.data.JsonValue;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
+@Log4j2
 public class ClothConfigGenerator extends ConfigGenerator {
     private final Path file;
 
@@ -37,6 +44,54 @@ public class ClothConfigGenerator extends ConfigGenerator {
         this.saveConfig();
     }
 
+    /**
+     * Re-reads the config file and applies only the values which differ from the
+     * current config. Unlike {@link #loadConfig()}, the file is never rewritten,
+     * so this method is safe to call in response to the file being modified.
+     *
+     * @return Every value which was updated.
+     */
+    public List<ConfigValue> reloadChanged() {
+        return this.reloadChanged(Runnable::run).join();
+    }
+
+    /**
+     * Variant of {@link #reloadChanged()} which reads the file on the current thread,
+     * but compares, validates, and writes the changed values on the given executor.
+     * This allows the file to be read and parsed off the main thread while the config
+     * and its validations are only ever accessed by the thread which owns them.
+     *
+     * @param mainThread The executor which owns the config, e.g. the game's main thread.
+     * @return A future completing with every value which was updated.
+     */
+    public CompletableFuture<List<ConfigValue>> reloadChanged(Executor mainThread) {
+        // the file may be partially written; the next event will catch up
+        final JsonObject json = XjsUtils.readSuppressing(this.file).orElse(null);
+        if (json == null) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        return CompletableFuture.supplyAsync(() -> this.applyChanges(json), mainThread)
+            .whenComplete((changed, e) -> {
+                if (e != null) log.error("Error applying changes to {}", this.file.getFileName(), e);
+            });
+    }
+
+    private List<ConfigValue> applyChanges(JsonObject json) {
+        final List<Change> changes = new ArrayList<>();
+        this.diffCategory(this.config, this.instance, json, changes);
+        if (changes.isEmpty()) {
+            return List.of();
+        }
+        final List<ConfigValue> changed = new ArrayList<>(changes.size());
+        for (final Change change : changes) {
+            change.apply(this.mod);
+            changed.add(change.value());
+        }
+        log.info("Reloaded {} value(s) in {}", changed.size(), this.file.getFileName());
+        this.fireOnConfigUpdated();
+        return changed;
+    }
+
     private void loadCategory(CategoryValue category, Object instance, JsonObject json) {
         for (final ConfigValue value : category.values()) {
             final Object o = value.get(this.mod, instance);
@@ -61,6 +116,32 @@ public class ClothConfigGenerator extends ConfigGenerator {
         }
     }
 
+    private void diffCategory(CategoryValue category, Object instance, JsonObject json, List<Change> changes) {
+        for (final ConfigValue value : category.values()) {
+            final JsonValue j = json.get(value.name());
+            if (j == null) {
+                continue;
+            }
+            if (value instanceof CategoryValue c) {
+                if (j.isObject()) {
+                    this.diffCategory(c, value.get(this.mod, instance), j.asObject(), changes);
+                } else {
+                    this.warn(c, "Not an object. Expected category: " + j);
+                }
+            } else {
+                try {
+                    final Change change = this.getChange(value, instance, j.unwrap());
+                    if (change != null) {
+                        changes.add(change);
+                    }
+                } catch (final ValidationException e) {
+                    this.warn(e);
+                    changes.add(new Change(value, instance, value.defaultValue()));
+                }
+            }
+        }
+    }
+
     public void saveConfig() {
         try {
             XjsUtils.writeJson(this.toJson(this.config, this.instance).asObject(), this.file);
@@ -1,6 +1,8 @@
 package personthecat.catlib.config.fabric;
 
 import personthecat.catlib.config.CategoryValue;
+import personthecat.catlib.config.ConfigFileWatcher;
+import personthecat.catlib.config.LibConfig;
 import personthecat.catlib.data.ModDescriptor;
 import personthecat.catlib.util.McUtils;
 
@@ -11,6 +13,14 @@ public class ConfigEvaluatorImpl {
         final ClothConfigGenerator generator = new ClothConfigGenerator(mod, file, config);
         generator.loadConfig();
 
+        if (LibConfig.enableConfigHotReload()) {
+            final ConfigFileWatcher watcher = ConfigFileWatcher.getInstance();
+            if (watcher != null) {
+                // parse on the watcher thread, but only modify the config where it is read
+                watcher.watch(file, () -> generator.reloadChanged(MainThreadExecutor.INSTANCE));
+            }
+        }
+
         if (McUtils.isClientSide() && McUtils.isModLoaded("modmenu")) {
             AutoModMenuCompat.registerScreen(mod.modId(), generator::createScreen);
         }
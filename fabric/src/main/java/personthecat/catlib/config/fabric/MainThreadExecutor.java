@@ -0,0 +1,66 @@
+package personthecat.catlib.config.fabric;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.Minecraft;
+import net.minecraft.server.MinecraftServer;
+import org.jetbrains.annotations.Nullable;
+import personthecat.catlib.event.lifecycle.ServerEvents;
+import personthecat.catlib.util.McUtils;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs tasks on the thread which owns the game state: the render thread on the client,
+ * or else the server thread on a dedicated server. Tasks submitted on a dedicated server
+ * before it has started are held until it does.
+ */
+final class MainThreadExecutor implements Executor {
+    static final MainThreadExecutor INSTANCE = new MainThreadExecutor();
+
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private volatile @Nullable MinecraftServer server;
+
+    private MainThreadExecutor() {
+        ServerEvents.LOAD.register(this::onServerLoaded);
+        ServerEvents.UNLOAD.register(s -> this.server = null);
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        if (McUtils.isClientSide()) {
+            executeOnClient(task);
+            return;
+        }
+        final MinecraftServer server = this.server;
+        if (server != null) {
+            server.execute(task);
+            return;
+        }
+        this.pending.add(task);
+        // the server may have started while the task was being queued
+        final MinecraftServer started = this.server;
+        if (started != null) {
+            this.drain(started);
+        }
+    }
+
+    private void onServerLoaded(final MinecraftServer server) {
+        this.server = server;
+        this.drain(server);
+    }
+
+    private void drain(final MinecraftServer server) {
+        Runnable task;
+        while ((task = this.pending.poll()) != null) {
+            server.execute(task);
+        }
+    }
+
+    @Environment(EnvType.CLIENT)
+    private static void executeOnClient(final Runnable task) {
+        Minecraft.getInstance().execute(task);
+    }
+}
@@ -7,6 +7,7 @@ import net.minecraft.resources.ResourceKey;
 import personthecat.catlib.event.LibEvent;
 import personthecat.catlib.registry.MojangRegistryHandle;
 import personthecat.catlib.event.registry.RegistryAddedCallback;
+import personthecat.catlib.event.registry.RegistrySnapshot;
 import personthecat.catlib.registry.RegistryHandle;
 import personthecat.catlib.registry.RegistryUtils;
 
@@ -15,7 +16,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 public class RegistryAddedEventImpl {
     private static final Map<ResourceKey<?>, LibEvent<RegistryAddedCallback<?>>> EVENT_MAP = new ConcurrentHashMap<>();
-    private static final Map<ResourceKey<?>, LibEvent<RegistryAddedCallback<?>>> DYNAMIC_EVENT_MAP = new ConcurrentHashMap<>();
+    private static final Map<ResourceKey<?>, LibEvent<RegistryAddedCallback.Batch<?>>> DYNAMIC_EVENT_MAP = new ConcurrentHashMap<>();
 
     @SuppressWarnings("unchecked")
     public static <T> LibEvent<RegistryAddedCallback<T>> get(final ResourceKey<Registry<T>> key) {
@@ -25,16 +26,33 @@ public class RegistryAddedEventImpl {
 
     public static <T> void withRetroactive(final ResourceKey<Registry<T>> key, final RegistryAddedCallback<T> f) {
         get(key).register(f);
+        runRetroactively(key, RegistryAddedCallback.Batch.forEach(f));
+    }
+
+    public static <T> void withRetroactiveBatch(final ResourceKey<Registry<T>> key, final RegistryAddedCallback.Batch<T> f) {
+        get(key).register(f.perEntry());
         runRetroactively(key, f);
     }
 
     public static <T> void withDynamic(final ResourceKey<Registry<T>> key, final RegistryAddedCallback<T> f) {
         get(key).register(f);
+        runDynamically(key, RegistryAddedCallback.Batch.forEach(f));
+    }
+
+    public static <T> void withDynamicBatch(final ResourceKey<Registry<T>> key, final RegistryAddedCallback.Batch<T> f) {
+        get(key).register(f.perEntry());
         runDynamically(key, f);
     }
 
     public static <T> void exhaustive(final ResourceKey<Registry<T>> key, final RegistryAddedCallback<T> f) {
         get(key).register(f);
+        final RegistryAddedCallback.Batch<T> batch = RegistryAddedCallback.Batch.forEach(f);
+        runRetroactively(key, batch);
+        runDynamically(key, batch);
+    }
+
+    public static <T> void exhaustiveBatch(final ResourceKey<Registry<T>> key, final RegistryAddedCallback.Batch<T> f) {
+        get(key).register(f.perEntry());
         runRetroactively(key, f);
         runDynamically(key, f);
     }
@@ -43,16 +61,18 @@ public class RegistryAddedEventImpl {
     public static void onRegistryAccess(final RegistryAccess registries) {
         DYNAMIC_EVENT_MAP.forEach((key, event) -> {
             final RegistryHandle<Object> registry = (RegistryHandle<Object>) registries.registryOrThrow((ResourceKey) key);
-            registry.forEach((k, t) -> ((LibEvent<RegistryAddedCallback<Object>>) (Object) event).invoker()
-                .onRegistryAdded(registry, k, t));
+            ((LibEvent<RegistryAddedCallback.Batch<Object>>) (Object) event).invoker()
+                .onRegistryAdded(RegistrySnapshot.of(registry));
         });
     }
 
     private static <T> LibEvent<RegistryAddedCallback<T>> create(final ResourceKey<Registry<T>> key) {
         final RegistryHandle<T> handle = RegistryUtils.getHandle(key);
         final LibEvent<RegistryAddedCallback<T>> event = newEvent();
-        RegistryEntryAddedCallback.event(((MojangRegistryHandle<T>) handle).getRegistry()).register((i, id, t) ->
-            event.invoker().onRegistryAdded(handle, ResourceKey.create(key, id), t));
+        RegistryEntryAddedCallback.event(((MojangRegistryHandle<T>) handle).getRegistry()).register((i, id, t) -> {
+            RegistrySnapshot.invalidate(key);
+            event.invoker().onRegistryAdded(handle, ResourceKey.create(key, id), t);
+        });
         return event;
     }
 
@@ -60,13 +80,17 @@ public class RegistryAddedEventImpl {
         return LibEvent.nonRecursive(callbacks -> (h, id, t) -> callbacks.forEach(c -> c.onRegistryAdded(h, id, t)));
     }
 
-    private static <T> void runRetroactively(final ResourceKey<Registry<T>> key, final RegistryAddedCallback<T> f) {
-        final RegistryHandle<T> handle = RegistryUtils.getHandle(key);
-        handle.forEach((id, t) -> f.onRegistryAdded(handle, id, t));
+    private static <T> LibEvent<RegistryAddedCallback.Batch<T>> newBatchEvent() {
+        return LibEvent.nonRecursive(callbacks -> snapshot -> callbacks.forEach(c -> c.onRegistryAdded(snapshot)));
+    }
+
+    private static <T> void runRetroactively(final ResourceKey<Registry<T>> key, final RegistryAddedCallback.Batch<T> f) {
+        // callbacks registered back-to-back share a single copy of the registry
+        f.onRegistryAdded(RegistrySnapshot.shared(RegistryUtils.getHandle(key)));
     }
 
     @SuppressWarnings("unchecked")
-    private static <T> void runDynamically(final ResourceKey<Registry<T>> key, final RegistryAddedCallback<T> f) {
-        DYNAMIC_EVENT_MAP.computeIfAbsent(key, k -> (LibEvent<RegistryAddedCallback<?>>) (Object) newEvent()).register(f);
+    private static <T> void runDynamically(final ResourceKey<Registry<T>> key, final RegistryAddedCallback.Batch<T> f) {
+        DYNAMIC_EVENT_MAP.computeIfAbsent(key, k -> (LibEvent<RegistryAddedCallback.Batch<?>>) (Object) newBatchEvent()).register(f);
     }
 }
@@ -31,6 +31,7 @@ import org.jetbrains.annotations.Nullable;
 import personthecat.catlib.event.world.FeatureModificationContext;
 import personthecat.catlib.mixin.fabric.BiomeModificationContextAccessor;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -284,7 +285,7 @@ public class FeatureModificationContextImpl extends FeatureModificationContext {
         while (features.size() <= step.ordinal()) {
             features.add(HolderSet.direct(Collections.emptyList()));
         }
-        return this.getGeneration().features().get(step.ordinal());
+        return features.get(step.ordinal());
     }
 
     @Override
@@ -294,11 +295,10 @@ public class FeatureModificationContextImpl extends FeatureModificationContext {
 
     @Override
     public boolean removeCarver(final Carving step, final Predicate<Holder<ConfiguredWorldCarver<?>>> predicate) {
+        final var generation = this.modifications.getGenerationSettings();
         boolean anyRemoved = false;
-        for (final var holder : this.carvers.holders().toList()) {
-            if (predicate.test(holder)) {
-                anyRemoved |= this.modifications.getGenerationSettings().removeCarver(step, holder.key());
-            }
+        for (final var key : collectMatching(this.getCarvers(step), predicate)) {
+            anyRemoved |= generation.removeCarver(step, key);
         }
         return anyRemoved;
     }
@@ -308,15 +308,28 @@ public class FeatureModificationContextImpl extends FeatureModificationContext {
         return this.modifications.getGenerationSettings().removeFeature(step, key);
     }
 
+    // Fabric copies the entire step for each key removed, so every match but one is
+    // filtered out here in a single copy. The last key is still removed through Fabric,
+    // which is what flags the biome's flattened feature set to be rebuilt.
     @Override
     public boolean removeFeature(final Decoration step, final Predicate<Holder<PlacedFeature>> predicate) {
-        boolean anyRemoved = false;
-        for (final var holder : this.features.holders().toList()) {
-            if (predicate.test(holder)) {
-                anyRemoved |= this.modifications.getGenerationSettings().removeFeature(step, holder.key());
+        final var current = this.getFeatures(step);
+        final var matching = collectMatching(current, predicate);
+        if (matching.isEmpty()) {
+            return false;
+        }
+        final var last = matching.getLast();
+        if (matching.size() > 1) {
+            final var kept = new ArrayList<Holder<PlacedFeature>>(current.size());
+            for (final var holder : current) {
+                final var key = holder.unwrapKey();
+                if (key.isEmpty() || key.get().equals(last) || !matching.contains(key.get())) {
+                    kept.add(holder);
+                }
             }
+            this.getGeneration().features().set(step.ordinal(), HolderSet.direct(kept));
         }
-         return anyRemoved;
+        return this.modifications.getGenerationSettings().removeFeature(step, last);
     }
 
     @Override
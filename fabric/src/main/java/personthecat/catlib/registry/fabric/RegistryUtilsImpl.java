@@ -6,6 +6,7 @@ import net.minecraft.core.registries.Registries;
 import net.minecraft.resources.ResourceKey;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import personthecat.catlib.mixin.MappedRegistryAccessor;
 import personthecat.catlib.registry.DynamicRegistries;
 import personthecat.catlib.registry.MojangRegistryHandle;
 import personthecat.catlib.registry.RegistryHandle;
@@ -13,51 +14,99 @@ import personthecat.catlib.registry.RegistryHandle;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 public final class RegistryUtilsImpl {
 
-    private static final Map<Class<?>, RegistryHandle<?>> REGISTRY_BY_TYPE = new ConcurrentHashMap<>();
+    private static final Map<Registry<?>, Optional<RegistryHandle<?>>> HANDLES = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Optional<RegistryHandle<?>>> REGISTRY_BY_TYPE = new ConcurrentHashMap<>();
+    private static volatile @Nullable Map<Class<?>, Registry<?>> builtinIndex;
 
     private RegistryUtilsImpl() {}
 
-    @SuppressWarnings("unchecked")
+    @SuppressWarnings({"rawtypes", "unchecked"})
     public static <T> Optional<RegistryHandle<T>> tryGetHandle(final ResourceKey<? extends Registry<T>> key) {
-        final Registry<T> registry = (Registry<T>) BuiltInRegistries.REGISTRY.get(key.location());
-        if (registry != null) {
-            return Optional.of(new MojangRegistryHandle<>(registry));
+        final Registry<?> registry = BuiltInRegistries.REGISTRY.get(key.location());
+        if (registry == null) {
+            return Optional.empty();
         }
-        return Optional.ofNullable((Registry<T>) BuiltInRegistries.REGISTRY.get(key.location()))
-            .map(MojangRegistryHandle::new);
+        return (Optional) HANDLES.computeIfAbsent(registry, r -> Optional.of(new MojangRegistryHandle<>(r)));
     }
 
     @NotNull
-    @SuppressWarnings("unchecked")
+    @SuppressWarnings({"rawtypes", "unchecked"})
     public static <T> Optional<RegistryHandle<T>> tryGetByType(final Class<T> clazz) {
-        return Optional.ofNullable((RegistryHandle<T>) REGISTRY_BY_TYPE
-            .computeIfAbsent(clazz, c -> findRegistry(clazz)));
+        if (!isFrozen()) {
+            // registries may still be added or populated, so nothing can be cached yet
+            return (Optional) findRegistry(clazz, scanBuiltins(clazz));
+        }
+        return (Optional) REGISTRY_BY_TYPE.computeIfAbsent(clazz, c -> findRegistry(c, getBuiltinIndex().get(c)));
+    }
+
+    private static boolean isFrozen() {
+        return !(BuiltInRegistries.REGISTRY instanceof MappedRegistryAccessor<?> a) || a.isFrozen();
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Optional<RegistryHandle<?>> findRegistry(final Class<?> clazz, final @Nullable Registry<?> builtin) {
+        if (builtin != null) {
+            return (Optional) tryGetHandle((ResourceKey) builtin.key());
+        }
+        final ResourceKey key = DynamicKeys.BY_TYPE.get(clazz);
+        if (key != null) {
+            return Optional.of(DynamicRegistries.getOrCreate(key));
+        }
+        return Optional.empty();
     }
 
     @Nullable
-    @SuppressWarnings({"rawtypes","unchecked"})
-    private static RegistryHandle<?> findRegistry(final Class<?> clazz) {
+    private static Registry<?> scanBuiltins(final Class<?> clazz) {
         for (final Registry<?> r : BuiltInRegistries.REGISTRY) {
             final var itr = r.iterator();
             if (itr.hasNext() && clazz.isInstance(itr.next())) {
-                return new MojangRegistryHandle<>(r);
+                return r;
             }
         }
-        for (final Field f : Registries.class.getFields()) {
-            if (Modifier.isStatic(f.getModifiers()) && clazz.equals(resolveRegistryType(f))) {
-                try {
-                    final var key = (ResourceKey) f.get(null);
-                    return DynamicRegistries.getOrCreate(key);
-                } catch (final ReflectiveOperationException ignored) {}
+        return null;
+    }
+
+    private static Map<Class<?>, Registry<?>> getBuiltinIndex() {
+        Map<Class<?>, Registry<?>> index = builtinIndex;
+        if (index == null) {
+            index = indexBuiltins();
+            builtinIndex = index;
+        }
+        return index;
+    }
+
+    // maps every supertype of each registry's first element, so that any type which
+    // would pass an isInstance check on that element resolves in a single lookup
+    private static Map<Class<?>, Registry<?>> indexBuiltins() {
+        final Map<Class<?>, Registry<?>> index = new HashMap<>();
+        for (final Registry<?> r : BuiltInRegistries.REGISTRY) {
+            final var itr = r.iterator();
+            if (itr.hasNext()) {
+                final Object first = itr.next();
+                if (first != null) {
+                    addSupertypes(index, first.getClass(), r);
+                }
             }
         }
-        return null;
+        return Map.copyOf(index);
+    }
+
+    private static void addSupertypes(final Map<Class<?>, Registry<?>> index, final @Nullable Class<?> c, final Registry<?> r) {
+        // earlier registries win; their supertypes have already been added
+        if (c == null || index.putIfAbsent(c, r) != null) {
+            return;
+        }
+        addSupertypes(index, c.getSuperclass(), r);
+        for (final Class<?> i : c.getInterfaces()) {
+            addSupertypes(index, i, r);
+        }
     }
 
     @Nullable
@@ -76,4 +125,22 @@ public final class RegistryUtilsImpl {
         }
         return null;
     }
+
+    // the fields of Registries never change, so they only need to be scanned once
+    private static final class DynamicKeys {
+        static final Map<Class<?>, ResourceKey<?>> BY_TYPE = indexKeys();
+
+        private static Map<Class<?>, ResourceKey<?>> indexKeys() {
+            final Map<Class<?>, ResourceKey<?>> keys = new HashMap<>();
+            for (final Field f : Registries.class.getFields()) {
+                if (!Modifier.isStatic(f.getModifiers())) continue;
+                final Class<?> type = resolveRegistryType(f);
+                if (type == null) continue;
+                try {
+                    keys.putIfAbsent(type, (ResourceKey<?>) f.get(null));
+                } catch (final ReflectiveOperationException ignored) {}
+            }
+            return Map.copyOf(keys);
+        }
+    }
 }
@@ -2,9 +2,12 @@ package personthecat.catlib.client.gui;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 public class TextBufferTest {
 
@@ -617,4 +620,263 @@ public class TextBufferTest {
 
         assertEquals(text, buffer.getText());
     }
+
+    @Test
+    public void consumeDirtyRange_afterSingleCharEdit_coversOnlyThatLine() {
+        final var text = """
+            line 1
+            line 2
+            line 3""";
+        final var buffer = new TextBuffer();
+        buffer.setText(text);
+        buffer.consumeDirtyRange();
+        buffer.moveCursorTo(1, 2);
+
+        buffer.insertChar('c');
+
+        assertEquals(new TextBuffer.DirtyRange(1, 1, 0), buffer.consumeDirtyRange());
+        assertNull(buffer.consumeDirtyRange());
+    }
+
+    @Test
+    public void consumeDirtyRange_afterRandomEdits_reconstructsLines() {
+        final var rand = new Random(12345);
+        final var buffer = new TextBuffer();
+        buffer.setText("line 1\nline 2\nline 3\nline 4\nline 5");
+        final var shadow = new ArrayList<>(buffer.getLines());
+        buffer.consumeDirtyRange();
+
+        for (int i = 0; i < 2_000; i++) {
+            final int edits = 1 + rand.nextInt(3);
+            for (int j = 0; j < edits; j++) {
+                randomEdit(rand, buffer);
+            }
+            final var range = buffer.consumeDirtyRange();
+            if (range != null) {
+                final var current = buffer.getLines();
+                final var region = shadow.subList(range.start(), range.previousEnd() + 1);
+                region.clear();
+                region.addAll(current.subList(range.start(), range.end() + 1));
+            }
+            assertEquals(buffer.getLines(), shadow, "iteration: " + i);
+        }
+    }
+
+    private static void randomEdit(final Random rand, final TextBuffer buffer) {
+        final int row = rand.nextInt(buffer.lineCount());
+        buffer.moveCursorTo(row, rand.nextInt(buffer.getLine(row).length() + 1));
+        switch (rand.nextInt(6)) {
+            case 0 -> buffer.insertChar((char) ('a' + rand.nextInt(26)));
+            case 1 -> buffer.insertNewline();
+            case 2 -> buffer.backspace();
+            case 3 -> buffer.delete();
+            case 4 -> buffer.insertText(rand.nextBoolean() ? "x\nyz" : "abc");
+            default -> {
+                final int endRow = Math.min(buffer.lineCount() - 1, row + rand.nextInt(3));
+                final int endCol = rand.nextInt(buffer.getLine(endRow).length() + 1);
+                final int startCol = rand.nextInt((row == endRow ? endCol : buffer.getLine(row).length()) + 1);
+                buffer.deleteSection(row, endRow, startCol, endCol);
+            }
+        }
+    }
+
+    @Test
+    public void randomEdits_matchReferenceImplementation() {
+        final var rand = new Random(54321);
+        final var buffer = new TextBuffer();
+        final var reference = new ReferenceBuffer();
+        buffer.setText("{\n  \"key\": \"value\",\n  \"list\": [ 1, 2, 3 ]\n}");
+        reference.setText(buffer.getText());
+
+        for (int i = 0; i < 5_000; i++) {
+            final int row = rand.nextInt(buffer.lineCount());
+            final int col = rand.nextInt(buffer.getLine(row).length() + 1);
+            buffer.moveCursorTo(row, col);
+            reference.moveCursorTo(row, col);
+            switch (rand.nextInt(6)) {
+                case 0 -> {
+                    final char c = (char) ('a' + rand.nextInt(26));
+                    buffer.insertChar(c);
+                    reference.insertChar(c);
+                }
+                case 1 -> {
+                    buffer.insertNewline();
+                    reference.insertNewline();
+                }
+                case 2 -> {
+                    buffer.backspace();
+                    reference.backspace();
+                }
+                case 3 -> {
+                    buffer.delete();
+                    reference.delete();
+                }
+                case 4 -> {
+                    final var text = rand.nextBoolean() ? "pasted\nacross\nlines" : "pasted";
+                    buffer.insertText(text);
+                    reference.insertText(text);
+                }
+                default -> {
+                    final int endRow = Math.min(buffer.lineCount() - 1, row + rand.nextInt(3));
+                    final int endCol = rand.nextInt(buffer.getLine(endRow).length() + 1);
+                    final int startCol = Math.min(col, row == endRow ? endCol : col);
+                    buffer.deleteSection(row, endRow, startCol, endCol);
+                    reference.deleteSection(row, endRow, startCol, endCol);
+                }
+            }
+            assertEquals(reference.getText(), buffer.getText(), "iteration: " + i);
+            assertEquals(reference.lines.size(), buffer.lineCount());
+            assertEquals(reference.maxCharacterWidth(), buffer.maxCharacterWidth());
+            assertEquals(reference.cursorRow, buffer.getCursorRow());
+            assertEquals(reference.cursorCol, buffer.getCursorCol());
+            assertEquals(reference.getText().length(), buffer.length());
+            final int checked = rand.nextInt(buffer.lineCount());
+            assertEquals(reference.getLineStart(checked), buffer.getLineStart(checked));
+        }
+    }
+
+    @Test
+    public void getLineStart_getsOffsetInText() {
+        final var buffer = new TextBuffer();
+        buffer.setText("a\nbcd\n\nef");
+
+        assertEquals(0, buffer.getLineStart(0));
+        assertEquals(2, buffer.getLineStart(1));
+        assertEquals(6, buffer.getLineStart(2));
+        assertEquals(7, buffer.getLineStart(3));
+        assertEquals(9, buffer.length());
+    }
+
+    @Test
+    public void largeDocument_editsAtBothEnds_keepLinesInOrder() {
+        final var sb = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            sb.append("line ").append(i).append('\n');
+        }
+        final var buffer = new TextBuffer();
+        buffer.setText(sb.append("last").toString());
+        for (int i = 0; i < 1_000; i++) {
+            buffer.moveCursorTo(0, 0);
+            buffer.insertNewline();
+            buffer.moveCursorTo(buffer.lineCount() - 1, 0);
+            buffer.insertNewline();
+        }
+        buffer.moveCursorTo(0, 0);
+        buffer.insertText("a longer line at the start of the document");
+
+        assertEquals(102_001, buffer.lineCount());
+        assertEquals("line 0", buffer.getLine(1_000));
+        assertEquals("line 99999", buffer.getLine(100_999));
+        assertEquals("last", buffer.getLine(102_000));
+        assertEquals(42, buffer.maxCharacterWidth());
+        assertEquals(buffer.getText().lastIndexOf("line 0\n"), buffer.getLineStart(1_000));
+    }
+
+    // the original list-of-lines implementation, used to verify equivalence
+    private static class ReferenceBuffer {
+        final List<StringBuilder> lines = new ArrayList<>();
+        int cursorRow;
+        int cursorCol;
+
+        int maxCharacterWidth() {
+            return this.lines.stream().mapToInt(StringBuilder::length).max().orElse(0);
+        }
+
+        String getText() {
+            return String.join("\n", this.lines);
+        }
+
+        int getLineStart(int row) {
+            int offset = 0;
+            for (int i = 0; i < row; i++) {
+                offset += this.lines.get(i).length() + 1;
+            }
+            return offset;
+        }
+
+        void setText(final String text) {
+            this.lines.clear();
+            for (final var line : text.split("\r?\n")) {
+                this.lines.add(new StringBuilder(line));
+            }
+            if (this.lines.isEmpty()) this.lines.add(new StringBuilder());
+        }
+
+        void moveCursorTo(int row, int col) {
+            this.cursorRow = row;
+            this.cursorCol = col;
+        }
+
+        void deleteSection(int startRow, int endRow, int startCol, int endCol) {
+            if (startRow == endRow) {
+                this.lines.get(startRow).delete(startCol, endCol);
+                return;
+            }
+            final var first = this.lines.get(startRow);
+            first.delete(startCol, first.length());
+            final var last = this.lines.get(endRow);
+            if (endCol < last.length()) {
+                first.append(last, endCol, last.length());
+            }
+            for (int i = startRow; i < endRow; i++) {
+                this.lines.remove(startRow + 1);
+            }
+            this.cursorRow = startRow;
+            this.cursorCol = startCol;
+        }
+
+        void insertText(String text) {
+            final var split = text.split("\r?\n");
+            final var first = this.lines.get(this.cursorRow);
+            final var after = first.substring(this.cursorCol);
+            first.setLength(this.cursorCol);
+            first.append(split[0]);
+            for (int i = split.length - 1; i > 0; i--) {
+                this.lines.add(this.cursorRow + 1, new StringBuilder(split[i]));
+            }
+            this.lines.get(this.cursorRow + split.length - 1).append(after);
+            if (split.length == 1) {
+                this.cursorCol += split[0].length();
+            } else {
+                this.cursorCol = split[split.length - 1].length();
+            }
+            this.cursorRow += split.length - 1;
+        }
+
+        void insertChar(char c) {
+            this.lines.get(this.cursorRow).insert(this.cursorCol, c);
+            this.cursorCol++;
+        }
+
+        void insertNewline() {
+            final var current = this.lines.get(this.cursorRow);
+            final var remainder = current.substring(this.cursorCol);
+            current.delete(this.cursorCol, current.length());
+            this.lines.add(this.cursorRow + 1, new StringBuilder(remainder));
+            this.cursorRow++;
+            this.cursorCol = 0;
+        }
+
+        void backspace() {
+            if (this.cursorCol > 0) {
+                this.lines.get(this.cursorRow).deleteCharAt(this.cursorCol - 1);
+                this.cursorCol--;
+            } else if (this.cursorRow > 0) {
+                final var prev = this.lines.get(this.cursorRow - 1);
+                final var current = this.lines.remove(this.cursorRow);
+                this.cursorRow--;
+                this.cursorCol = prev.length();
+                prev.append(current);
+            }
+        }
+
+        void delete() {
+            final var line = this.lines.get(this.cursorRow);
+            if (this.cursorCol < line.length()) {
+                line.deleteCharAt(this.cursorCol);
+            } else if (this.cursorRow < this.lines.size() - 1) {
+                line.append(this.lines.remove(this.cursorRow + 1));
+            }
+        }
+    }
 }
@@ -0,0 +1,255 @@
+package personthecat.catlib.command;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import net.minecraft.commands.CommandSource;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.phys.Vec2;
+import net.minecraft.world.phys.Vec3;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import personthecat.catlib.command.annotations.ModCommand;
+import personthecat.catlib.data.ModDescriptor;
+import personthecat.catlib.event.error.LibErrorContext;
+import personthecat.catlib.test.McBootstrapExtension;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(McBootstrapExtension.class)
+public class CommandClassEvaluatorTest {
+    private static final ModDescriptor MOD = ModDescriptor.builder().modId("command_test").name("Command Test").build();
+    private static final AtomicInteger STATIC_CALLS = new AtomicInteger();
+
+    private final List<Component> errors = new ArrayList<>();
+    private TestCommands commands;
+    private CommandDispatcher<CommandSourceStack> dispatcher;
+    private CommandSourceStack source;
+
+    @BeforeEach
+    public void setup() {
+        final CommandRegistrationContext ctx = CommandRegistrationContext.forMod(MOD);
+        this.commands = new TestCommands();
+        this.dispatcher = new CommandDispatcher<>();
+        try {
+            for (final LibCommandBuilder builder : CommandClassEvaluator.getBuilders(MOD, this.commands)) {
+                this.dispatcher.register(builder.command());
+            }
+        } finally {
+            ctx.dispose();
+        }
+        assertFalse(LibErrorContext.hasErrors());
+        this.source = new CommandSourceStack(new CapturingSource(this.errors),
+            Vec3.ZERO, Vec2.ZERO, null, 4, "test", Component.literal("test"), null, null);
+    }
+
+    @AfterEach
+    public void dispose() {
+        LibErrorContext.dispose();
+    }
+
+    @Test
+    public void execute_withoutParameters_invokesMethod() throws CommandSyntaxException {
+        assertEquals(1, this.execute("none"));
+        assertEquals(List.of("none"), this.commands.calls);
+    }
+
+    @Test
+    public void execute_withWrapper_passesContext() throws CommandSyntaxException {
+        assertEquals(1, this.execute("context"));
+        assertEquals(List.of(MOD), this.commands.calls);
+    }
+
+    @Test
+    public void execute_withWrapperAndArgument_passesBoth() throws CommandSyntaxException {
+        assertEquals(1, this.execute("text \"hello world\""));
+        assertEquals(List.of(MOD, "hello world"), this.commands.calls);
+    }
+
+    @Test
+    public void execute_withPrimitives_unboxesArguments() throws CommandSyntaxException {
+        assertEquals(1, this.execute("primitives 1 2 3.5 4.5 true"));
+        assertEquals(List.of(1, 2L, 3.5, 4.5F, true), this.commands.calls);
+    }
+
+    @Test
+    public void execute_withEnum_parsesConstant() throws CommandSyntaxException {
+        assertEquals(1, this.execute("color green"));
+        assertEquals(List.of(Color.GREEN), this.commands.calls);
+    }
+
+    @Test
+    public void execute_withOptional_acceptsPresentAndAbsent() throws CommandSyntaxException {
+        assertEquals(1, this.execute("optional"));
+        assertEquals(1, this.execute("optional 3"));
+        assertEquals(List.of(Optional.empty(), Optional.of(3)), this.commands.calls);
+    }
+
+    @Test
+    public void execute_withNullable_acceptsPresentAndAbsent() throws CommandSyntaxException {
+        assertEquals(1, this.execute("nullable"));
+        assertEquals(1, this.execute("nullable 3"));
+        assertEquals(Arrays.asList(null, 3), this.commands.calls);
+    }
+
+    @Test
+    public void execute_withList_collectsEveryValue() throws CommandSyntaxException {
+        assertEquals(1, this.execute("list 1 2 3"));
+        assertEquals(List.of(List.of(1, 2, 3)), this.commands.calls);
+    }
+
+    @Test
+    public void execute_withPrimitiveArray_collectsEveryValue() throws CommandSyntaxException {
+        assertEquals(1, this.execute("ints 1 2 3"));
+        assertEquals(List.of(List.of(1, 2, 3)), this.commands.calls);
+    }
+
+    @Test
+    public void execute_withObjectArray_createsArrayOfComponentType() throws CommandSyntaxException {
+        assertEquals(1, this.execute("words a b"));
+        assertEquals(List.of(List.of("a", "b")), this.commands.calls);
+    }
+
+    @Test
+    public void execute_withPath_resolvesInConfigFolder() throws CommandSyntaxException {
+        assertEquals(1, this.execute("path test.djs"));
+        assertEquals(List.of(MOD.configFolder().resolve("test.djs")), this.commands.calls);
+    }
+
+    @Test
+    public void execute_staticMethod_invokesWithoutInstance() throws CommandSyntaxException {
+        final int before = STATIC_CALLS.get();
+        assertEquals(1, this.execute("global"));
+        assertEquals(before + 1, STATIC_CALLS.get());
+    }
+
+    @Test
+    public void execute_whenMethodThrows_reportsOriginalException() throws CommandSyntaxException {
+        this.execute("fail");
+        assertFalse(this.errors.isEmpty());
+        assertTrue(this.errors.getFirst().getString().startsWith("IllegalStateException: failed"));
+    }
+
+    @Test
+    public void execute_repeatedly_reusesResolvedArguments() throws CommandSyntaxException {
+        for (int i = 0; i < 100; i++) {
+            assertEquals(1, this.execute("primitives " + i + " 0 0 0 false"));
+        }
+        assertEquals(500, this.commands.calls.size());
+        assertEquals(99, this.commands.calls.get(495));
+    }
+
+    private int execute(final String command) throws CommandSyntaxException {
+        return this.dispatcher.execute(command, this.source);
+    }
+
+    public enum Color { RED, GREEN }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    private @interface Nullable {}
+
+    private static class TestCommands {
+        final List<Object> calls = new ArrayList<>();
+
+        @ModCommand
+        void none() {
+            this.calls.add("none");
+        }
+
+        @ModCommand
+        void context(final CommandContextWrapper ctx) {
+            this.calls.add(ctx.mod());
+        }
+
+        @ModCommand
+        void text(final CommandContextWrapper ctx, final String value) {
+            this.calls.add(ctx.mod());
+            this.calls.add(value);
+        }
+
+        @ModCommand
+        void primitives(final int i, final long l, final double d, final float f, final boolean b) {
+            this.calls.addAll(List.of(i, l, d, f, b));
+        }
+
+        @ModCommand
+        void color(final Color color) {
+            this.calls.add(color);
+        }
+
+        @ModCommand
+        void optional(final Optional<Integer> value) {
+            this.calls.add(value);
+        }
+
+        @ModCommand
+        void nullable(final @Nullable Integer value) {
+            this.calls.add(value);
+        }
+
+        @ModCommand
+        void list(final List<Integer> values) {
+            this.calls.add(values);
+        }
+
+        @ModCommand
+        void ints(final int[] values) {
+            this.calls.add(Arrays.stream(values).boxed().toList());
+        }
+
+        @ModCommand
+        void words(final String[] values) {
+            this.calls.add(List.of(values));
+        }
+
+        @ModCommand
+        void path(final Path path) {
+            this.calls.add(path);
+        }
+
+        @ModCommand
+        static void global() {
+            STATIC_CALLS.incrementAndGet();
+        }
+
+        @ModCommand
+        void fail() {
+            throw new IllegalStateException("failed");
+        }
+    }
+
+    private record CapturingSource(List<Component> errors) implements CommandSource {
+        @Override
+        public void sendSystemMessage(final Component message) {
+            this.errors.add(message);
+        }
+
+        @Override
+        public boolean acceptsSuccess() {
+            return false;
+        }
+
+        @Override
+        public boolean acceptsFailure() {
+            return true;
+        }
+
+        @Override
+        public boolean shouldInformAdmins() {
+            return false;
+        }
+    }
+}
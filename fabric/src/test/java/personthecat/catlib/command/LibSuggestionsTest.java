@@ -0,0 +1,63 @@
+package personthecat.catlib.command;
+
+import com.mojang.serialization.Lifecycle;
+import net.minecraft.core.MappedRegistry;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import personthecat.catlib.registry.DynamicRegistryHandle;
+import personthecat.catlib.registry.MojangRegistryHandle;
+import personthecat.catlib.registry.RegistryHandle;
+import personthecat.catlib.test.McBootstrapExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@ExtendWith(McBootstrapExtension.class)
+public class LibSuggestionsTest {
+
+    @Test
+    public void getIds_whenUnchanged_reusesIds() {
+        final DynamicRegistryHandle<String> handle = isolatedHandle();
+        handle.updateRegistry(registry(handle, "a", "b"));
+
+        assertSame(LibSuggestions.getIds(handle), LibSuggestions.getIds(handle));
+    }
+
+    @Test
+    public void getIds_afterReloadWithSameSize_rebuildsIds() {
+        final DynamicRegistryHandle<String> handle = isolatedHandle();
+        handle.updateRegistry(registry(handle, "a", "b"));
+        assertEquals(Set.of("test:a", "test:b"), Set.copyOf(LibSuggestions.getIds(handle)));
+
+        handle.updateRegistry(registry(handle, "c", "d"));
+        assertEquals(Set.of("test:c", "test:d"), Set.copyOf(LibSuggestions.getIds(handle)));
+    }
+
+    @Test
+    public void getIds_whenRegistryGrows_rebuildsIds() {
+        final RegistryHandle<String> handle = new MojangRegistryHandle<>(
+            new MappedRegistry<>(ResourceKey.createRegistryKey(new ResourceLocation("test", "growing")), Lifecycle.stable()));
+        handle.register(new ResourceLocation("test", "a"), "a");
+        assertEquals(List.of("test:a"), LibSuggestions.getIds(handle));
+
+        handle.register(new ResourceLocation("test", "b"), "b");
+        assertEquals(Set.of("test:a", "test:b"), Set.copyOf(LibSuggestions.getIds(handle)));
+    }
+
+    private static DynamicRegistryHandle<String> isolatedHandle() {
+        return DynamicRegistryHandle.createHandle(ResourceKey.createRegistryKey(new ResourceLocation("test", "ids")));
+    }
+
+    private static RegistryHandle<String> registry(final RegistryHandle<String> handle, final String... ids) {
+        final RegistryHandle<String> registry = new MojangRegistryHandle<>(new MappedRegistry<>(handle.key(), Lifecycle.stable()));
+        for (final String id : ids) {
+            registry.register(new ResourceLocation("test", id), id);
+        }
+        return registry;
+    }
+}
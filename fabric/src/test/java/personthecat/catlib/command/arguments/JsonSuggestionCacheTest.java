@@ -0,0 +1,90 @@
+package personthecat.catlib.command.arguments;
+
+import com.mojang.datafixers.util.Either;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import xjs.data.JsonObject;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class JsonSuggestionCacheTest {
+
+    @TempDir
+    Path dir;
+
+    @AfterEach
+    public void clear() {
+        JsonSuggestionCache.clear();
+    }
+
+    @Test
+    public void getPaths_returnsNeighborsOfPath() throws IOException {
+        final Path file = Files.writeString(this.dir.resolve("test.json"), "{ \"a\": 1, \"b\": { \"c\": 2, \"d\": [ 3, 4 ] } }");
+
+        assertEquals(List.of("a", "b"), JsonSuggestionCache.getPaths(file, List.of()));
+        assertEquals(List.of("b.c", "b.d"), JsonSuggestionCache.getPaths(file, List.of(Either.left("b"))));
+        assertEquals(List.of("b.d[0]", "b.d[1]"),
+            JsonSuggestionCache.getPaths(file, List.of(Either.left("b"), Either.left("d"))));
+    }
+
+    @Test
+    public void getPaths_whenFileIsUnchanged_reusesResult() throws IOException {
+        final Path file = Files.writeString(this.dir.resolve("test.json"), "{ \"a\": 1 }");
+
+        final JsonObject json = JsonSuggestionCache.getJson(file);
+        final List<String> paths = JsonSuggestionCache.getPaths(file, List.of());
+        assertSame(json, JsonSuggestionCache.getJson(file));
+        assertSame(paths, JsonSuggestionCache.getPaths(file, List.of()));
+    }
+
+    @Test
+    public void getPaths_whenFileIsModified_readsNewContents() throws IOException {
+        final Path file = Files.writeString(this.dir.resolve("test.json"), "{ \"a\": 1 }");
+        final FileTime modified = Files.getLastModifiedTime(file);
+        assertEquals(List.of("a"), JsonSuggestionCache.getPaths(file, List.of()));
+
+        Files.writeString(file, "{ \"b\": 1 }");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(modified.toMillis() + 10_000));
+        assertEquals(List.of("b"), JsonSuggestionCache.getPaths(file, List.of()));
+    }
+
+    @Test
+    public void getPaths_whenFileSizeChanges_readsNewContents() throws IOException {
+        final Path file = Files.writeString(this.dir.resolve("test.json"), "{ \"a\": 1 }");
+        final FileTime modified = Files.getLastModifiedTime(file);
+        assertEquals(List.of("a"), JsonSuggestionCache.getPaths(file, List.of()));
+
+        // some file systems only record modification times in whole seconds
+        Files.writeString(file, "{ \"a\": 1, \"b\": 2 }");
+        Files.setLastModifiedTime(file, modified);
+        assertEquals(List.of("a", "b"), JsonSuggestionCache.getPaths(file, List.of()));
+    }
+
+    @Test
+    public void getJson_whenFileIsMissing_isEmptyUntilCreated() throws IOException {
+        final Path file = this.dir.resolve("test.json");
+        assertEquals(0, JsonSuggestionCache.getJson(file).size());
+
+        Files.writeString(file, "{ \"a\": 1 }");
+        assertEquals(1, JsonSuggestionCache.getJson(file).get("a").asInt());
+    }
+
+    @Test
+    public void getJson_beyondCapacity_evictsLeastRecentlyUsed() throws IOException {
+        final Path first = Files.writeString(this.dir.resolve("0.json"), "{ \"a\": 0 }");
+        final JsonObject json = JsonSuggestionCache.getJson(first);
+        for (int i = 1; i <= JsonSuggestionCache.MAX_DOCUMENTS; i++) {
+            JsonSuggestionCache.getJson(Files.writeString(this.dir.resolve(i + ".json"), "{ \"a\": " + i + " }"));
+        }
+        assertNotSame(json, JsonSuggestionCache.getJson(first));
+    }
+}
@@ -0,0 +1,223 @@
+package personthecat.catlib.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import personthecat.catlib.data.ModDescriptor;
+import personthecat.catlib.test.McBootstrapExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(McBootstrapExtension.class)
+public final class CompiledValidationsTest {
+    private static final ModDescriptor MOD = ModDescriptor.builder().modId("test").name("Test Mod").build();
+    private static final String FILENAME = "sample.djs";
+
+    @Test
+    public void range_reportsSameError() throws Exception {
+        assertSameResult("range", 11);
+        assertSameResult("range", -1);
+        assertSameResult("range", 5);
+    }
+
+    @Test
+    public void decimalRange_reportsSameError() throws Exception {
+        assertSameResult("decimal", 1.5);
+        assertSameResult("decimal", -0.1);
+        assertSameResult("decimal", 0.5);
+    }
+
+    @Test
+    public void regex_reportsSameError() throws Exception {
+        assertSameResult("regex", "ABC");
+        assertSameResult("regex", "abc");
+    }
+
+    @Test
+    public void notBlank_reportsSameError() throws Exception {
+        assertSameResult("notBlank", "  ");
+        assertSameResult("notBlank", "text");
+    }
+
+    @Test
+    public void notNull_reportsSameError() throws Exception {
+        assertSameResult("notNull", null);
+        assertSameResult("nullable", null);
+    }
+
+    @Test
+    public void typed_reportsSameError() throws Exception {
+        assertSameResult("notBlank", 5);
+        assertSameResult("mode", "FIRST");
+        assertSameResult("mode", Mode.SECOND);
+    }
+
+    @Test
+    public void genericTyped_reportsSameError() throws Exception {
+        assertSameResult("list", List.of("a", "b"));
+        assertSameResult("list", new ArrayList<>(Arrays.asList("a", null)));
+        assertSameResult("list", List.of("a", 1));
+        assertSameResult("numbers", List.of(1, 2, 3));
+        assertSameResult("numbers", List.of(1, 200));
+        assertSameResult("map", Map.of("a", 1));
+        assertSameResult("map", Map.of("a", "b"));
+    }
+
+    @Test
+    public void customValidation_reportsSameError() throws Exception {
+        final Validation<String> custom = new Validation<>() {
+            @Override
+            public boolean test(String s) {
+                return "ok".equals(s);
+            }
+
+            @Override
+            public Class<String> type() {
+                return String.class;
+            }
+
+            @Override
+            public String message() {
+                return "custom";
+            }
+        };
+        final ConfigValue value = new SimpleValue<>(String.class, "custom", "ok", null) {
+            @Override
+            public List<Validation<?>> validations() {
+                return List.of(custom, new Validation.Typed(String.class));
+            }
+        };
+        final Validations validations = Validations.fromValue(FILENAME, value);
+        assertSameResult(value, validations, "bad");
+        assertSameResult(value, validations, "ok");
+    }
+
+    @Test
+    public void validate_reusesCompiledValidations() throws Exception {
+        final Sample sample = new Sample();
+        final ConfigValue root = new SimpleValue<>(Sample.class, FILENAME, sample, null);
+        final CategoryValue category = ConfigEvaluator.buildCategory(root, sample, MOD, Sample.class);
+        final ConfigGenerator generator = new ConfigGenerator(MOD, category) {};
+        final ConfigValue range = find(category, "range");
+
+        final Validations validations = generator.getValidations(range);
+        assertThrows(ValidationException.class, () -> generator.validate(range, validations, 11));
+        assertDoesNotThrow(() -> generator.validate(range, validations, 10));
+
+        final Validations cloned = validations.cloneValidations();
+        cloned.take(Validation.Range.class);
+        assertDoesNotThrow(() -> generator.validate(range, cloned, 11));
+    }
+
+    @Test
+    public void isLiteralValue_matchesPrimitiveTable() {
+        assertTrue(ConfigUtil.isLiteralValue(int.class));
+        assertTrue(ConfigUtil.isLiteralValue(String.class));
+        assertTrue(ConfigUtil.isLiteralValue(Mode.class));
+        assertTrue(ConfigUtil.isLiteralValue(int[].class));
+        assertTrue(ConfigUtil.isLiteralValue(ArrayList.class));
+        assertTrue(ConfigUtil.isLiteralValue(Map.class));
+        assertFalse(ConfigUtil.isLiteralValue(Sample.class));
+        assertFalse(ConfigUtil.isLiteralValue(Object.class));
+    }
+
+    private static void assertSameResult(String field, Object o) throws Exception {
+        final Sample sample = new Sample();
+        final ConfigValue root = new SimpleValue<>(Sample.class, FILENAME, sample, null);
+        final CategoryValue category = ConfigEvaluator.buildCategory(root, sample, MOD, Sample.class);
+        final ConfigValue value = find(category, field);
+        assertSameResult(value, Validations.fromValue(FILENAME, value), o);
+    }
+
+    private static void assertSameResult(ConfigValue value, Validations validations, Object o) {
+        final ValidationException expected = catchValidation(() -> validateLegacy(value, validations, o));
+        final ValidationException actual =
+            catchValidation(() -> CompiledValidations.compile(validations).validate(FILENAME, value, o));
+        if (expected == null) {
+            assertEquals(null, actual, "Expected " + o + " to be valid for " + value.name());
+            return;
+        }
+        assertNotNull(actual, "Expected " + o + " to be invalid for " + value.name());
+        assertEquals(expected.getMessage(), actual.getMessage());
+        assertEquals(expected.getTitleMessage(), actual.getTitleMessage());
+        assertEquals(expected.getTooltip(), actual.getTooltip());
+    }
+
+    // the evaluation performed by ConfigGenerator#validate before compilation was introduced
+    private static void validateLegacy(ConfigValue value, Validations validations, Object o) throws ValidationException {
+        if (!ConfigUtil.isSupportedGenericType(value.type())) {
+            Validation.validate(validations.values(), FILENAME, value, o);
+            return;
+        }
+        Validation.validate(validations.typeValidations(), FILENAME, value, o);
+        final Collection<Validation<?>> entryValidations = validations.entryValidations().values();
+        for (final Object e : ConfigUtil.getElements(o)) {
+            Validation.validate(entryValidations, FILENAME, value, e);
+        }
+    }
+
+    private static ValidationException catchValidation(ThrowingRunnable r) {
+        try {
+            r.run();
+            return null;
+        } catch (final ValidationException e) {
+            return e;
+        }
+    }
+
+    private static ConfigValue find(CategoryValue category, String name) {
+        for (final ConfigValue value : category.values()) {
+            if (value.name().equals(name)) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws ValidationException;
+    }
+
+    enum Mode { FIRST, SECOND }
+
+    @SuppressWarnings("unused")
+    static class Sample {
+        @Config.Range(min = 0, max = 10)
+        int range = 1;
+
+        @Config.DecimalRange(min = 0, max = 1)
+        double decimal = 0.5;
+
+        @Config.Regex("[a-z]+")
+        String regex = "a";
+
+        @Config.NotBlank
+        String notBlank = "a";
+
+        @Config.NotNull
+        String notNull = "a";
+
+        @Config.CanBeNull
+        String nullable = "a";
+
+        Mode mode = Mode.FIRST;
+
+        List<String> list = List.of("a");
+
+        @Config.Range(min = 0, max = 100)
+        List<Integer> numbers = List.of(1);
+
+        Map<String, Integer> map = Map.of();
+    }
+}
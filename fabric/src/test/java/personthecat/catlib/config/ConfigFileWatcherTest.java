@@ -0,0 +1,93 @@
+package personthecat.catlib.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class ConfigFileWatcherTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void watch_whenFileIsModified_notifiesListener() throws Exception {
+        final Path file = Files.writeString(this.dir.resolve("test.djs"), "a: 1");
+        final CountDownLatch latch = new CountDownLatch(1);
+        try (final ConfigFileWatcher watcher = new ConfigFileWatcher(50)) {
+            watcher.watch(file, latch::countDown);
+            Files.writeString(file, "a: 2");
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void watch_whenFileIsRewrittenRapidly_notifiesOnce() throws Exception {
+        final Path file = Files.writeString(this.dir.resolve("test.djs"), "a: 1");
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(1);
+        try (final ConfigFileWatcher watcher = new ConfigFileWatcher(500)) {
+            watcher.watch(file, () -> {
+                calls.incrementAndGet();
+                latch.countDown();
+            });
+            for (int i = 0; i < 5; i++) {
+                Files.writeString(file, "a: " + i);
+                Thread.sleep(20);
+            }
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            Thread.sleep(1000);
+            assertEquals(1, calls.get());
+        }
+    }
+
+    @Test
+    public void watch_doesNotNotifyForOtherFiles() throws Exception {
+        final Path file = Files.writeString(this.dir.resolve("test.djs"), "a: 1");
+        final Path other = Files.writeString(this.dir.resolve("other.djs"), "a: 1");
+        final CountDownLatch latch = new CountDownLatch(1);
+        try (final ConfigFileWatcher watcher = new ConfigFileWatcher(50)) {
+            watcher.watch(file, latch::countDown);
+            Files.writeString(other, "a: 2");
+            assertFalse(latch.await(1, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void unwatch_stopsNotifications() throws Exception {
+        final Path file = Files.writeString(this.dir.resolve("test.djs"), "a: 1");
+        final CountDownLatch latch = new CountDownLatch(1);
+        try (final ConfigFileWatcher watcher = new ConfigFileWatcher(50)) {
+            watcher.watch(file, latch::countDown);
+            watcher.unwatch(file);
+            Files.writeString(file, "a: 2");
+            assertFalse(latch.await(1, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void listener_isNotCalledOnCallingThread() throws Exception {
+        final Path file = Files.writeString(this.dir.resolve("test.djs"), "a: 1");
+        final Thread caller = Thread.currentThread();
+        final Thread[] called = new Thread[1];
+        final CountDownLatch latch = new CountDownLatch(1);
+        try (final ConfigFileWatcher watcher = new ConfigFileWatcher(50)) {
+            watcher.watch(file, () -> {
+                called[0] = Thread.currentThread();
+                latch.countDown();
+            });
+            Files.writeString(file, "a: 2");
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            assertNotEquals(caller, called[0]);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package personthecat.catlib.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import personthecat.catlib.config.fabric.ClothConfigGenerator;
+import personthecat.catlib.data.ModDescriptor;
+import personthecat.catlib.test.McBootstrapExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(McBootstrapExtension.class)
+public final class ConfigHotReloadTest {
+    private static final ModDescriptor MOD = ModDescriptor.builder().modId("test").name("Test Mod").build();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void reloadChanged_whenNothingChanged_updatesNothing() throws IOException {
+        final Sample sample = new Sample();
+        final ClothConfigGenerator generator = this.load(sample, "{}");
+        final int updates = sample.updates;
+
+        assertTrue(generator.reloadChanged().isEmpty());
+        assertEquals(updates, sample.updates);
+    }
+
+    @Test
+    public void reloadChanged_updatesOnlyTouchedFields() throws IOException {
+        final Sample sample = new Sample();
+        final ClothConfigGenerator generator = this.load(sample, "{}");
+        final int updates = sample.updates;
+
+        this.write("{ \"count\": 5, \"name\": \"a\", \"list\": [ \"a\", \"b\" ], \"nested\": { \"enabled\": true, \"size\": 2 } }");
+        final List<ConfigValue> changed = generator.reloadChanged();
+
+        assertEquals(List.of("count", "list"), names(changed));
+        assertEquals(5, sample.count);
+        assertEquals(List.of("a", "b"), sample.list);
+        assertEquals("a", sample.name);
+        assertEquals(updates + 1, sample.updates);
+    }
+
+    @Test
+    public void reloadChanged_updatesNestedFields() throws IOException {
+        final Sample sample = new Sample();
+        final ClothConfigGenerator generator = this.load(sample, "{}");
+
+        this.write("{ \"nested\": { \"size\": 7 } }");
+        final List<ConfigValue> changed = generator.reloadChanged();
+
+        assertEquals(List.of("size"), names(changed));
+        assertEquals(7, sample.nested.size);
+        assertTrue(sample.nested.enabled);
+    }
+
+    @Test
+    public void reloadChanged_whenValueIsInvalid_resetsToDefault() throws IOException {
+        final Sample sample = new Sample();
+        final ClothConfigGenerator generator = this.load(sample, "{ \"count\": 5 }");
+        assertEquals(5, sample.count);
+
+        this.write("{ \"count\": 100 }");
+        final List<ConfigValue> changed = generator.reloadChanged();
+
+        assertEquals(List.of("count"), names(changed));
+        assertEquals(1, sample.count);
+    }
+
+    @Test
+    public void reloadChanged_doesNotRewriteFile() throws IOException {
+        final Sample sample = new Sample();
+        final ClothConfigGenerator generator = this.load(sample, "{}");
+
+        final String edited = "{ \"count\": 3 }";
+        this.write(edited);
+        generator.reloadChanged();
+
+        assertEquals(edited, Files.readString(this.file()));
+    }
+
+    @Test
+    public void reloadChanged_whenFileIsMalformed_updatesNothing() throws IOException {
+        final Sample sample = new Sample();
+        final ClothConfigGenerator generator = this.load(sample, "{}");
+
+        this.write("{ \"count\": ");
+        assertTrue(generator.reloadChanged().isEmpty());
+        assertEquals(1, sample.count);
+        assertEquals(2, sample.nested.size);
+    }
+
+    @Test
+    public void reloadChanged_appliesAndNotifiesOnExecutor() throws Exception {
+        final Sample sample = new Sample();
+        final ClothConfigGenerator generator = this.load(sample, "{}");
+        final int updates = sample.updates;
+        final List<Runnable> tasks = new ArrayList<>();
+
+        this.write("{ \"count\": 5 }");
+        final CompletableFuture<List<ConfigValue>> future = generator.reloadChanged(tasks::add);
+
+        assertEquals(1, tasks.size());
+        assertEquals(1, sample.count);
+        assertEquals(updates, sample.updates);
+
+        final ExecutorService main = Executors.newSingleThreadExecutor(r -> new Thread(r, "Test Main"));
+        try {
+            main.submit(tasks.getFirst()).get(10, TimeUnit.SECONDS);
+        } finally {
+            main.shutdown();
+        }
+        assertEquals(List.of("count"), names(future.get()));
+        assertEquals(5, sample.count);
+        assertEquals(updates + 1, sample.updates);
+        assertEquals("Test Main", sample.updatedOn);
+    }
+
+    @Test
+    public void reloadChanged_whenNothingChanged_doesNotNotify() throws IOException {
+        final Sample sample = new Sample();
+        final ClothConfigGenerator generator = this.load(sample, "{ \"count\": 5 }");
+        final int updates = sample.updates;
+        final List<Runnable> tasks = new ArrayList<>();
+
+        final CompletableFuture<List<ConfigValue>> future = generator.reloadChanged(tasks::add);
+        tasks.forEach(Runnable::run);
+        assertTrue(future.join().isEmpty());
+        assertEquals(updates, sample.updates);
+    }
+
+    @Test
+    public void reloadChanged_comparesAgainstConfigOnExecutor() throws IOException {
+        final Sample sample = new Sample();
+        final ClothConfigGenerator generator = this.load(sample, "{}");
+        final int updates = sample.updates;
+        final List<Runnable> tasks = new ArrayList<>();
+
+        this.write("{ \"count\": 5 }");
+        final CompletableFuture<List<ConfigValue>> future = generator.reloadChanged(tasks::add);
+        sample.count = 5; // modified by the main thread before the task runs
+        tasks.forEach(Runnable::run);
+
+        assertTrue(future.join().isEmpty());
+        assertEquals(updates, sample.updates);
+    }
+
+    private ClothConfigGenerator load(final Sample sample, final String contents) throws IOException {
+        this.write(contents);
+        final ConfigValue root = new SimpleValue<>(Sample.class, "sample.json", sample, null);
+        final CategoryValue category = ConfigEvaluator.buildCategory(root, sample, MOD, Sample.class);
+        final ClothConfigGenerator generator = new ClothConfigGenerator(MOD, this.file(), category);
+        generator.loadConfig();
+        return generator;
+    }
+
+    private void write(final String contents) throws IOException {
+        Files.writeString(this.file(), contents);
+    }
+
+    private Path file() {
+        return this.dir.resolve("sample.json");
+    }
+
+    private static List<String> names(final List<ConfigValue> values) {
+        return values.stream().map(ConfigValue::name).toList();
+    }
+
+    @SuppressWarnings("unused")
+    static class Sample implements Config.Listener {
+        transient int updates = 0;
+        transient volatile String updatedOn = null;
+
+        @Config.Range(min = 0, max = 10)
+        int count = 1;
+
+        String name = "a";
+
+        List<String> list = List.of("a");
+
+        Nested nested = new Nested();
+
+        @Override
+        public void onConfigUpdated() {
+            this.updates++;
+            this.updatedOn = Thread.currentThread().getName();
+        }
+    }
+
+    static class Nested {
+        boolean enabled = true;
+        int size = 2;
+    }
+}
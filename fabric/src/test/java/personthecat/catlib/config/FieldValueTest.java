@@ -0,0 +1,153 @@
+package personthecat.catlib.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import personthecat.catlib.data.ModDescriptor;
+import personthecat.catlib.test.McBootstrapExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(McBootstrapExtension.class)
+public final class FieldValueTest {
+    private static final ModDescriptor MOD = ModDescriptor.builder().modId("test").name("Test Mod").build();
+
+    @Test
+    public void primitiveField_canBeReadAndWritten() throws Exception {
+        final Sample sample = new Sample();
+        final FieldValue value = value(sample, "primitive");
+
+        assertEquals(Integer.class, value.type());
+        assertEquals(1, value.defaultValue());
+        value.set(MOD, sample, 5);
+        assertEquals(5, sample.primitive);
+        assertEquals(5, value.get(MOD, sample));
+    }
+
+    @Test
+    public void primitiveField_whenSetToNull_throwsIllegalArgument() throws Exception {
+        final Sample sample = new Sample();
+        final FieldValue value = value(sample, "primitive");
+
+        assertThrows(IllegalArgumentException.class, () -> value.set(MOD, sample, null));
+        assertEquals(1, sample.primitive);
+    }
+
+    @Test
+    public void primitiveField_whenSetToWrongType_throwsIllegalArgument() throws Exception {
+        final Sample sample = new Sample();
+        final FieldValue value = value(sample, "primitive");
+
+        assertThrows(IllegalArgumentException.class, () -> value.set(MOD, sample, "text"));
+    }
+
+    @Test
+    public void boxedField_acceptsNull() throws Exception {
+        final Sample sample = new Sample();
+        final FieldValue value = value(sample, "boxed");
+
+        assertEquals(2.0, value.defaultValue());
+        value.set(MOD, sample, null);
+        assertNull(sample.boxed);
+        assertNull(value.get(MOD, sample));
+    }
+
+    @Test
+    public void enumField_canBeReadAndWritten() throws Exception {
+        final Sample sample = new Sample();
+        final FieldValue value = value(sample, "mode");
+
+        assertEquals(Mode.FIRST, value.defaultValue());
+        value.set(MOD, sample, Mode.SECOND);
+        assertEquals(Mode.SECOND, sample.mode);
+    }
+
+    @Test
+    public void listField_canBeReadAndWritten() throws Exception {
+        final Sample sample = new Sample();
+        final FieldValue value = value(sample, "list");
+
+        assertEquals(List.of("a"), value.defaultValue());
+        value.set(MOD, sample, List.of("b", "c"));
+        assertEquals(List.of("b", "c"), sample.list);
+    }
+
+    @Test
+    public void annotations_areResolvedOnce() throws Exception {
+        final Sample sample = new Sample();
+        final FieldValue value = value(sample, "primitive");
+        final FieldValue other = value(sample, "boxed");
+
+        assertEquals("comment", value.comment());
+        assertTrue(value.needsWorldRestart());
+        assertEquals(1, value.validations().size());
+        assertInstanceOf(Validation.Range.class, value.validations().get(0));
+        assertNull(other.comment());
+        assertFalse(other.needsWorldRestart());
+        assertTrue(other.canBeNull());
+        assertSame(value.validations(), value(new Sample(), "primitive").validations());
+    }
+
+    @Test
+    public void forClass_skipsStaticAndTransientFields_andIsCached() {
+        final List<FieldDescriptor> descriptors = FieldDescriptor.forClass(Sample.class);
+
+        assertEquals(List.of("primitive", "boxed", "mode", "list", "nested"),
+            descriptors.stream().map(d -> d.field().getName()).toList());
+        assertSame(descriptors, FieldDescriptor.forClass(Sample.class));
+    }
+
+    @Test
+    public void nestedCategory_writesToNestedInstance() {
+        final Sample sample = new Sample();
+        final ConfigValue root = new SimpleValue<>(Sample.class, "sample.djs", sample, null);
+        final CategoryValue category = ConfigEvaluator.buildCategory(root, sample, MOD, Sample.class);
+
+        final CategoryValue nested = (CategoryValue) category.values().get(4);
+        assertEquals("nested", nested.name());
+        final Object instance = nested.get(MOD, sample);
+        assertSame(sample.nested, instance);
+
+        final ConfigValue inner = nested.values().get(0);
+        assertEquals("enabled", inner.name());
+        inner.set(MOD, instance, false);
+        assertFalse(sample.nested.enabled);
+    }
+
+    private static FieldValue value(final Sample sample, final String name) throws NoSuchFieldException {
+        return new FieldValue(MOD, Sample.class.getDeclaredField(name), sample);
+    }
+
+    enum Mode { FIRST, SECOND }
+
+    @SuppressWarnings("unused")
+    static class Sample {
+        static int ignoredStatic = 0;
+        transient int ignoredTransient = 0;
+
+        @Config.Comment("comment")
+        @Config.Range(min = 0, max = 10)
+        @Config.NeedsWorldRestart
+        int primitive = 1;
+
+        @Config.CanBeNull
+        Double boxed = 2.0;
+
+        Mode mode = Mode.FIRST;
+
+        List<String> list = List.of("a");
+
+        Nested nested = new Nested();
+    }
+
+    static class Nested {
+        boolean enabled = true;
+    }
+}
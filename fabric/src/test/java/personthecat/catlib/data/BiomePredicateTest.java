@@ -5,6 +5,7 @@ import net.minecraft.core.Holder;
 import net.minecraft.core.MappedRegistry;
 import net.minecraft.core.Registry;
 import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.tags.BiomeTags;
 import net.minecraft.tags.TagKey;
@@ -27,6 +28,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -134,6 +137,97 @@ public class BiomePredicateTest {
         assertEquals(expected, predicate.simplify());
     }
 
+    @Test
+    public void simplify_onLargeRegistry_preservesMatchingBiomes() {
+        final RegistryHandle<Biome> biomes = loadSyntheticRegistry(2_000);
+        try {
+            final Random rand = new Random(31);
+            for (int i = 0; i < 50; i++) {
+                final BiomePredicate predicate = randomPredicate(rand, biomes);
+                final BiomePredicate simplified = predicate.simplify();
+                assertEquals(matching(predicate), matching(simplified));
+                assertEquals(matching(simplified), matching(simplified.simplify()));
+            }
+        } finally {
+            setup();
+        }
+    }
+
+    @Test
+    public void simplify_onLargeRegistry_collapsesCompleteTypes() {
+        final RegistryHandle<Biome> biomes = loadSyntheticRegistry(2_000);
+        try {
+            final List<InvertibleEntry<Biome>> entries = new ArrayList<>();
+            biomes.forEachHolder((key, holder) -> {
+                if (BiomeType.RIVER.matches(holder)) {
+                    entries.add(IdMatcher.id(false, key));
+                }
+            });
+            final BiomePredicate predicate = BiomePredicate.builder()
+                .addEntries(entries)
+                .format(IdList.Format.OBJECT)
+                .build();
+            final BiomePredicate expected = BiomePredicate.builder()
+                .addEntry(BiomePredicate.type(false, BiomeType.RIVER))
+                .format(IdList.Format.OBJECT)
+                .build();
+            assertEquals(expected, predicate.simplify());
+        } finally {
+            setup();
+        }
+    }
+
+    // every biome belongs to exactly one type by index, and some also belong to TAIGA
+    @SuppressWarnings("ConstantConditions")
+    private static RegistryHandle<Biome> loadSyntheticRegistry(final int size) {
+        final Registry<Biome> biomes = new MappedRegistry<>(Registries.BIOME, Lifecycle.stable());
+        final RegistryHandle<Biome> handle = new MojangRegistryHandle<>(biomes);
+        final BiomeType[] types = BiomeType.values();
+
+        final Map<TagKey<Biome>, List<Holder<Biome>>> map = new HashMap<>();
+        for (final BiomeType type : types) {
+            map.put(type.getKey(), new ArrayList<>());
+        }
+        for (int i = 0; i < size; i++) {
+            final ResourceKey<Biome> key =
+                ResourceKey.create(Registries.BIOME, new ResourceLocation("test", "biome_" + i));
+            handle.register(key, dummyBiome());
+            final Holder<Biome> holder = handle.getHolder(key);
+            map.get(types[i % types.length].getKey()).add(holder);
+            if (i % (types.length * 2) == 4) {
+                map.get(BiomeType.TAIGA.getKey()).add(holder);
+            }
+        }
+        map.keySet().forEach(biomes::getOrCreateTag);
+        biomes.bindTags(map);
+
+        ((DynamicRegistryHandle<Biome>) DynamicRegistries.BIOME).updateRegistry(handle);
+        return handle;
+    }
+
+    private static Set<Holder<Biome>> matching(final BiomePredicate predicate) {
+        return Set.copyOf(predicate.compile().stream().toList());
+    }
+
+    private static BiomePredicate randomPredicate(final Random rand, final RegistryHandle<Biome> biomes) {
+        final List<ResourceKey<Biome>> keys = new ArrayList<>(biomes.keySet());
+        final List<InvertibleEntry<Biome>> entries = new ArrayList<>();
+        final int numIds = rand.nextInt(keys.size());
+        for (int i = 0; i < numIds; i++) {
+            entries.add(IdMatcher.id(false, keys.get(rand.nextInt(keys.size()))));
+        }
+        for (final BiomeType type : BiomeType.values()) {
+            if (rand.nextInt(4) == 0) {
+                entries.add(BiomePredicate.type(false, type));
+            }
+        }
+        return BiomePredicate.builder()
+            .addEntries(entries)
+            .blacklist(rand.nextBoolean())
+            .format(IdList.Format.OBJECT)
+            .build();
+    }
+
     private static Biome dummyBiome() {
         return new Biome.BiomeBuilder()
             .temperature(0)
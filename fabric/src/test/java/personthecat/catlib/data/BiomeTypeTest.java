@@ -0,0 +1,136 @@
+package personthecat.catlib.data;
+
+import com.mojang.serialization.Lifecycle;
+import net.minecraft.core.Holder;
+import net.minecraft.core.MappedRegistry;
+import net.minecraft.core.Registry;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.tags.BiomeTags;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.biome.BiomeGenerationSettings;
+import net.minecraft.world.level.biome.BiomeSpecialEffects;
+import net.minecraft.world.level.biome.Biomes;
+import net.minecraft.world.level.biome.MobSpawnSettings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import personthecat.catlib.registry.DynamicRegistries;
+import personthecat.catlib.registry.DynamicRegistryHandle;
+import personthecat.catlib.registry.MojangRegistryHandle;
+import personthecat.catlib.registry.RegistryHandle;
+import personthecat.catlib.test.McBootstrapExtension;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(McBootstrapExtension.class)
+public class BiomeTypeTest {
+
+    @Test
+    public void mask_containsEveryMatchingType() {
+        final RegistryHandle<Biome> biomes = load(Map.of(
+            BiomeTags.IS_FOREST, List.of(Biomes.FOREST, Biomes.TAIGA),
+            BiomeTags.IS_TAIGA, List.of(Biomes.TAIGA),
+            BiomeTags.IS_OCEAN, List.of(Biomes.OCEAN)));
+
+        final short taiga = BiomeType.mask(biomes.getHolder(Biomes.TAIGA));
+        assertEquals(BiomeType.FOREST.bit() | BiomeType.TAIGA.bit(), taiga);
+        assertEquals(Set.of(BiomeType.FOREST, BiomeType.TAIGA), BiomeType.fromMask(taiga));
+        assertEquals(0, BiomeType.mask(biomes.getHolder(Biomes.PLAINS)));
+    }
+
+    @Test
+    public void getCategories_matchesTags() {
+        final RegistryHandle<Biome> biomes = load(Map.of(
+            BiomeTags.IS_FOREST, List.of(Biomes.FOREST, Biomes.TAIGA),
+            BiomeTags.IS_OCEAN, List.of(Biomes.OCEAN)));
+
+        biomes.forEachHolder((key, holder) -> {
+            final Set<BiomeType> expected = new HashSet<>();
+            for (final BiomeType type : BiomeType.values()) {
+                if (type.getTag().contains(holder)) {
+                    expected.add(type);
+                }
+            }
+            assertEquals(expected, Set.copyOf(BiomeType.getCategories(holder)));
+        });
+    }
+
+    @Test
+    public void mask_isRecomputed_whenRegistryIsUpdated() {
+        RegistryHandle<Biome> biomes = load(Map.of(
+            BiomeTags.IS_FOREST, List.of(Biomes.FOREST)));
+        assertTrue(BiomeType.FOREST.matches(biomes.getHolder(Biomes.FOREST)));
+        assertFalse(BiomeType.OCEAN.matches(biomes.getHolder(Biomes.OCEAN)));
+
+        biomes = load(Map.of(
+            BiomeTags.IS_OCEAN, List.of(Biomes.OCEAN, Biomes.FOREST)));
+        assertTrue(BiomeType.OCEAN.matches(biomes.getHolder(Biomes.FOREST)));
+        assertTrue(BiomeType.OCEAN.matches(biomes.getHolder(Biomes.OCEAN)));
+        assertFalse(BiomeType.FOREST.matches(biomes.getHolder(Biomes.FOREST)));
+    }
+
+    @Test
+    public void typeMatcher_addsOnlyMatchingKeys() {
+        final RegistryHandle<Biome> biomes = load(Map.of(
+            BiomeTags.IS_FOREST, List.of(Biomes.FOREST, Biomes.TAIGA),
+            BiomeTags.IS_TAIGA, List.of(Biomes.TAIGA)));
+
+        final Set<ResourceKey<Biome>> out = new HashSet<>();
+        new BiomePredicate.TypeMatcher(BiomeType.FOREST).add(biomes, out);
+        assertEquals(Set.of(Biomes.FOREST, Biomes.TAIGA), out);
+
+        out.clear();
+        new BiomePredicate.TypeMatcher(BiomeType.TAIGA).add(biomes, out);
+        assertEquals(Set.of(Biomes.TAIGA), out);
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    private static RegistryHandle<Biome> load(final Map<TagKey<Biome>, List<ResourceKey<Biome>>> tags) {
+        final Registry<Biome> biomes = new MappedRegistry<>(Registries.BIOME, Lifecycle.stable());
+        final RegistryHandle<Biome> handle = new MojangRegistryHandle<>(biomes);
+
+        Stream.of(Biomes.FOREST, Biomes.TAIGA, Biomes.PLAINS, Biomes.OCEAN)
+            .forEach(key -> handle.register(key, dummyBiome()));
+
+        final Map<TagKey<Biome>, List<Holder<Biome>>> map = new HashMap<>();
+        Stream.of(BiomeType.values())
+            .forEach(type -> map.put(type.getKey(), List.of()));
+        tags.forEach((tag, keys) ->
+            map.put(tag, keys.stream().map(handle::getHolder).toList()));
+        map.keySet().forEach(biomes::getOrCreateTag);
+        biomes.bindTags(map);
+
+        ((DynamicRegistryHandle<Biome>) DynamicRegistries.BIOME).updateRegistry(handle);
+        return handle;
+    }
+
+    private static Biome dummyBiome() {
+        return new Biome.BiomeBuilder()
+            .temperature(0)
+            .downfall(0)
+            .specialEffects(
+                new BiomeSpecialEffects.Builder()
+                    .fogColor(0)
+                    .waterColor(0)
+                    .waterFogColor(0)
+                    .skyColor(0)
+                    .build())
+            .mobSpawnSettings(
+                new MobSpawnSettings.Builder()
+                    .build())
+            .generationSettings(
+                new BiomeGenerationSettings.PlainBuilder()
+                    .build())
+            .build();
+    }
+}
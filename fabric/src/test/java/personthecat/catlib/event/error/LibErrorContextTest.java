@@ -0,0 +1,179 @@
+package personthecat.catlib.event.error;
+
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import personthecat.catlib.data.ModDescriptor;
+import personthecat.catlib.exception.DetailedDataLoadException;
+import personthecat.catlib.exception.FormattedException;
+import personthecat.catlib.exception.GenericFormattedException;
+import personthecat.catlib.serialization.codec.context.DecodeContext;
+import personthecat.catlib.test.McBootstrapExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(McBootstrapExtension.class)
+public class LibErrorContextTest {
+    private static final ModDescriptor MOD_A = ModDescriptor.builder().modId("mod_a").name("Mod A").build();
+    private static final ModDescriptor MOD_B = ModDescriptor.builder().modId("mod_b").name("Mod B").build();
+
+    @AfterEach
+    public void dispose() {
+        LibErrorContext.dispose();
+    }
+
+    @Test
+    public void register_fromManyThreads_keepsEveryError() throws InterruptedException {
+        final int threads = 16;
+        final int perThread = 250;
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            final int id = t;
+            final Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                for (int i = 0; i < perThread; i++) {
+                    LibErrorContext.fatal(id % 2 == 0 ? MOD_A : MOD_B, error("error " + id + "-" + i));
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (final Thread worker : workers) {
+            worker.join();
+        }
+        assertEquals(threads * perThread, LibErrorContext.get(FormattedException.class).size());
+        assertEquals(threads * perThread / 2, LibErrorContext.getFatal().get(MOD_A).size());
+        assertEquals(threads * perThread / 2, LibErrorContext.getFatal().get(MOD_B).size());
+        assertEquals(2, LibErrorContext.numMods());
+    }
+
+    @Test
+    public void register_duplicateError_isDropped() {
+        LibErrorContext.fatal(MOD_A, error("broken"));
+        LibErrorContext.fatal(MOD_A, error("broken"));
+        LibErrorContext.fatal(MOD_A, new SpecificException("broken"));
+
+        assertEquals(2, LibErrorContext.getFatal().get(MOD_A).size());
+    }
+
+    @Test
+    public void register_sameMessageFromDifferentCauses_isKept() {
+        LibErrorContext.fatal(MOD_A, new GenericFormattedException(new NullPointerException()));
+        LibErrorContext.fatal(MOD_A, new GenericFormattedException(new NullPointerException()));
+        LibErrorContext.fatal(MOD_A, new GenericFormattedException(new IllegalStateException("broken")));
+        LibErrorContext.fatal(MOD_A, error("broken"));
+
+        assertEquals(4, LibErrorContext.getFatal().get(MOD_A).size());
+    }
+
+    @Test
+    public void register_sameCauseForDifferentEntries_isKept() {
+        final var cause = new IllegalStateException("No key type in MapLike[{}]");
+        LibErrorContext.fatal(MOD_A, new DetailedDataLoadException(new DecodeContext(), key("first"), cause));
+        LibErrorContext.fatal(MOD_A, new DetailedDataLoadException(new DecodeContext(), key("second"), cause));
+        LibErrorContext.fatal(MOD_A, new DetailedDataLoadException(new DecodeContext(), key("second"), cause));
+
+        assertEquals(2, LibErrorContext.get(MOD_A, DetailedDataLoadException.class).size());
+    }
+
+    @Test
+    public void register_withoutDedupeKey_isAlwaysKept() {
+        LibErrorContext.fatal(MOD_A, new UnkeyedException("broken"));
+        LibErrorContext.fatal(MOD_A, new UnkeyedException("broken"));
+
+        assertEquals(2, LibErrorContext.getFatal().get(MOD_A).size());
+    }
+
+    @Test
+    public void register_sameMessageForOtherModOrSeverity_isKept() {
+        LibErrorContext.fatal(MOD_A, error("broken"));
+        LibErrorContext.fatal(MOD_B, error("broken"));
+        LibErrorContext.error(MOD_A, error("broken"));
+
+        assertEquals(1, LibErrorContext.getFatal().get(MOD_A).size());
+        assertEquals(1, LibErrorContext.getFatal().get(MOD_B).size());
+        assertEquals(1, LibErrorContext.getCommon().get(MOD_A).size());
+    }
+
+    @Test
+    public void get_byType_returnsOnlyMatchingErrors() {
+        final var specific = new SpecificException("specific");
+        LibErrorContext.fatal(MOD_A, error("generic"));
+        LibErrorContext.fatal(MOD_B, specific);
+
+        assertEquals(Set.of(specific), Set.copyOf(LibErrorContext.get(SpecificException.class)));
+        assertEquals(2, LibErrorContext.get(GenericFormattedException.class).size());
+    }
+
+    @Test
+    public void get_byModAndType_returnsOnlyThatMod() {
+        final var specific = new SpecificException("specific");
+        LibErrorContext.fatal(MOD_A, specific);
+        LibErrorContext.error(MOD_A, error("generic"));
+        LibErrorContext.fatal(MOD_B, new SpecificException("other"));
+
+        assertEquals(Set.of(specific), Set.copyOf(LibErrorContext.get(MOD_A, SpecificException.class)));
+        assertEquals(2, LibErrorContext.get(MOD_A, FormattedException.class).size());
+    }
+
+    @Test
+    public void clear_byType_removesFromEveryView() {
+        LibErrorContext.fatal(MOD_A, new SpecificException("specific"));
+        LibErrorContext.fatal(MOD_A, error("generic"));
+        LibErrorContext.clear(SpecificException.class);
+
+        assertTrue(LibErrorContext.get(SpecificException.class).isEmpty());
+        assertEquals(1, LibErrorContext.get(FormattedException.class).size());
+        assertEquals(1, LibErrorContext.getFatal().get(MOD_A).size());
+    }
+
+    @Test
+    public void clear_allowsErrorToBeReportedAgain() {
+        LibErrorContext.fatal(MOD_A, new SpecificException("specific"));
+        LibErrorContext.clear(MOD_A, SpecificException.class);
+        LibErrorContext.fatal(MOD_A, new SpecificException("specific"));
+
+        assertEquals(1, LibErrorContext.get(MOD_A, SpecificException.class).size());
+    }
+
+    private static FormattedException error(final String message) {
+        return new GenericFormattedException(new RuntimeException(message));
+    }
+
+    private static ResourceKey<String> key(final String path) {
+        return ResourceKey.create(ResourceKey.createRegistryKey(new ResourceLocation("test", "entries")),
+            new ResourceLocation("test", path));
+    }
+
+    private static class UnkeyedException extends GenericFormattedException {
+        UnkeyedException(final String message) {
+            super(new IllegalStateException(message));
+        }
+
+        @Override
+        public @Nullable Object getDedupeKey() {
+            return null;
+        }
+    }
+
+    private static class SpecificException extends GenericFormattedException {
+        SpecificException(final String message) {
+            super(new IllegalStateException(message));
+        }
+    }
+}
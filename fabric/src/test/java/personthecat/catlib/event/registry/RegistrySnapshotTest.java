@@ -0,0 +1,157 @@
+package personthecat.catlib.event.registry;
+
+import com.mojang.serialization.Lifecycle;
+import net.minecraft.core.MappedRegistry;
+import net.minecraft.core.Registry;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import personthecat.catlib.registry.MojangRegistryHandle;
+import personthecat.catlib.registry.RegistryHandle;
+import personthecat.catlib.test.McBootstrapExtension;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@ExtendWith(McBootstrapExtension.class)
+public class RegistrySnapshotTest {
+    private static final ResourceKey<Registry<String>> KEY =
+        ResourceKey.createRegistryKey(new ResourceLocation("test", "snapshots"));
+
+    @Test
+    public void of_copiesEntriesInOrder() {
+        final RegistryHandle<String> handle = createHandle("a", "b", "c");
+        final RegistrySnapshot<String> snapshot = RegistrySnapshot.of(handle);
+
+        assertEquals(3, snapshot.size());
+        assertSame(handle, snapshot.handle());
+        for (int i = 0; i < snapshot.size(); i++) {
+            assertEquals(snapshot.value(i), snapshot.key(i).location().getPath());
+        }
+        assertEquals(List.of("a", "b", "c"), values(snapshot));
+    }
+
+    @Test
+    public void of_isNotAffectedByLaterRegistration() {
+        final RegistryHandle<String> handle = createHandle("a", "b");
+        final RegistrySnapshot<String> snapshot = RegistrySnapshot.of(handle);
+        handle.register(key("c"), "c");
+
+        assertEquals(List.of("a", "b"), values(snapshot));
+    }
+
+    @Test
+    public void shared_isReused_untilRegistryChanges() {
+        final RegistryHandle<String> handle = createHandle("a", "b");
+        final RegistrySnapshot<String> first = RegistrySnapshot.shared(handle);
+        assertSame(first, RegistrySnapshot.shared(handle));
+
+        handle.register(key("c"), "c");
+        RegistrySnapshot.invalidate(KEY); // normally called by the registry event
+        final RegistrySnapshot<String> second = RegistrySnapshot.shared(handle);
+        assertNotSame(first, second);
+        assertEquals(List.of("a", "b", "c"), values(second));
+    }
+
+    @Test
+    public void shared_afterInvalidation_isNotReused_evenIfSizeIsUnchanged() {
+        final RegistryHandle<String> handle = createHandle("a", "b");
+        final RegistrySnapshot<String> first = RegistrySnapshot.shared(handle);
+        RegistrySnapshot.invalidate(KEY);
+
+        assertNotSame(first, RegistrySnapshot.shared(handle));
+    }
+
+    @Test
+    public void shared_isRetained_whenUnreachableElsewhere() {
+        final RegistryHandle<String> handle = createHandle("a", "b");
+        final WeakReference<RegistrySnapshot<String>> first = new WeakReference<>(RegistrySnapshot.shared(handle));
+        System.gc();
+
+        assertSame(first.get(), RegistrySnapshot.shared(handle));
+    }
+
+    @Test
+    public void shared_afterRelease_isNotReused() {
+        final RegistryHandle<String> handle = createHandle("a", "b");
+        final RegistrySnapshot<String> first = RegistrySnapshot.shared(handle);
+        RegistrySnapshot.releaseShared();
+
+        assertNotSame(first, RegistrySnapshot.shared(handle));
+    }
+
+    @Test
+    public void shared_forDifferentHandle_isNotReused() {
+        final RegistrySnapshot<String> first = RegistrySnapshot.shared(createHandle("a", "b"));
+        final RegistrySnapshot<String> second = RegistrySnapshot.shared(createHandle("a", "b"));
+
+        assertNotSame(first, second);
+        assertNotSame(first.handle(), second.handle());
+    }
+
+    @Test
+    public void batchForEach_firesOncePerEntry() {
+        final RegistryHandle<String> handle = createHandle("a", "b", "c");
+        final List<String> fired = new ArrayList<>();
+        RegistryAddedCallback.Batch.<String>forEach((h, k, t) -> {
+            assertSame(handle, h);
+            fired.add(t);
+        }).onRegistryAdded(RegistrySnapshot.of(handle));
+
+        assertEquals(List.of("a", "b", "c"), fired);
+    }
+
+    @Test
+    public void perEntry_deliversSingleEntrySnapshot() {
+        final RegistryHandle<String> handle = createHandle();
+        final List<RegistrySnapshot<String>> received = new ArrayList<>();
+        final RegistryAddedCallback.Batch<String> batch = received::add;
+        batch.perEntry().onRegistryAdded(handle, key("a"), "a");
+
+        assertEquals(1, received.size());
+        assertEquals(1, received.get(0).size());
+        assertEquals(key("a"), received.get(0).key(0));
+        assertEquals("a", received.get(0).value(0));
+    }
+
+    @Test
+    public void withRetroactiveBatch_sharesSnapshotAcrossCallbacks() {
+        final List<RegistrySnapshot<?>> received = new ArrayList<>();
+        final AtomicInteger entries = new AtomicInteger();
+        RegistryAddedEvent.withRetroactiveBatch(Registries.BLOCK, received::add);
+        RegistryAddedEvent.withRetroactiveBatch(Registries.BLOCK, received::add);
+        RegistryAddedEvent.withRetroactive(Registries.BLOCK, (h, k, t) -> entries.incrementAndGet());
+
+        assertEquals(2, received.size());
+        assertSame(received.get(0), received.get(1));
+        assertEquals(BuiltInRegistries.BLOCK.size(), received.get(0).size());
+        assertEquals(BuiltInRegistries.BLOCK.size(), entries.get());
+    }
+
+    private static List<String> values(final RegistrySnapshot<String> snapshot) {
+        final List<String> values = new ArrayList<>();
+        snapshot.forEach((h, k, t) -> values.add(t));
+        return values;
+    }
+
+    private static RegistryHandle<String> createHandle(final String... values) {
+        final RegistryHandle<String> handle = new MojangRegistryHandle<>(new MappedRegistry<>(KEY, Lifecycle.stable()));
+        for (final String value : values) {
+            handle.register(key(value), value);
+        }
+        return handle;
+    }
+
+    private static ResourceKey<String> key(final String id) {
+        return ResourceKey.create(KEY, new ResourceLocation("test", id));
+    }
+}
@@ -0,0 +1,120 @@
+package personthecat.catlib.event.world;
+
+import net.minecraft.core.Holder;
+import net.minecraft.core.HolderOwner;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.levelgen.GenerationStep.Decoration;
+import net.minecraft.world.level.levelgen.placement.PlacedFeature;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import personthecat.catlib.test.McBootstrapExtension;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(McBootstrapExtension.class)
+public class FeatureModificationContextTest {
+    private static final HolderOwner<PlacedFeature> OWNER = new HolderOwner<>() {};
+
+    @Test
+    public void removeFeature_byKey_onlyVisitsStepsContainingKey() {
+        final var steps = newSteps();
+        final var ore = feature("ore");
+        steps.get(Decoration.UNDERGROUND_ORES).add(ore);
+        final var ctx = context(steps);
+
+        assertTrue(ctx.removeFeature(ore.key()));
+        assertTrue(steps.get(Decoration.UNDERGROUND_ORES).isEmpty());
+        verify(ctx).removeFeature(Decoration.UNDERGROUND_ORES, ore.key());
+        verify(ctx, never()).removeFeature(Decoration.VEGETAL_DECORATION, ore.key());
+    }
+
+    @Test
+    public void removeFeature_whenAbsent_returnsFalse() {
+        final var ctx = context(newSteps());
+        assertFalse(ctx.removeFeature(feature("missing").key()));
+    }
+
+    @Test
+    public void collectMatching_returnsKeysInOrder() {
+        final var a = feature("a");
+        final var b = feature("b");
+        final var c = feature("c");
+        final List<Holder<PlacedFeature>> holders = List.of(a, b, c);
+
+        final var matching = FeatureModificationContext.collectMatching(holders, h -> h != b);
+        assertEquals(List.of(a.key(), c.key()), List.copyOf(matching));
+    }
+
+    @Test
+    public void randomRemovals_matchSequentialApplication() {
+        final var rand = new Random(4242);
+        final List<Holder.Reference<PlacedFeature>> all = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            all.add(feature("feature_" + i));
+        }
+        final var actual = newSteps();
+        final var expected = newSteps();
+        for (final var holder : all) {
+            final var step = Decoration.values()[rand.nextInt(Decoration.values().length)];
+            actual.get(step).add(holder);
+            expected.get(step).add(holder);
+        }
+        final var ctx = context(actual);
+
+        for (int i = 0; i < 50; i++) {
+            if (rand.nextBoolean()) {
+                final var key = all.get(rand.nextInt(all.size())).key();
+                expected.values().forEach(list -> list.removeIf(h -> h.is(key)));
+                ctx.removeFeature(key);
+            } else {
+                final int mod = 2 + rand.nextInt(10);
+                final Predicate<Holder<PlacedFeature>> predicate =
+                    h -> h.unwrapKey().orElseThrow().location().getPath().hashCode() % mod == 0;
+                expected.values().forEach(list -> list.removeIf(predicate));
+                ctx.removeFeature(predicate);
+            }
+        }
+        assertEquals(expected, actual);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static FeatureModificationContext context(final Map<Decoration, List<Holder<PlacedFeature>>> steps) {
+        final var ctx = mock(FeatureModificationContext.class, CALLS_REAL_METHODS);
+        doAnswer(inv -> steps.get(inv.<Decoration>getArgument(0)))
+            .when(ctx).getFeatures(any(Decoration.class));
+        doAnswer(inv -> steps.get(inv.<Decoration>getArgument(0)).removeIf(h -> h.is(inv.<ResourceKey<PlacedFeature>>getArgument(1))))
+            .when(ctx).removeFeature(any(Decoration.class), any(ResourceKey.class));
+        doAnswer(inv -> steps.get(inv.<Decoration>getArgument(0)).removeIf(inv.<Predicate<Holder<PlacedFeature>>>getArgument(1)))
+            .when(ctx).removeFeature(any(Decoration.class), any(Predicate.class));
+        return ctx;
+    }
+
+    private static Map<Decoration, List<Holder<PlacedFeature>>> newSteps() {
+        final Map<Decoration, List<Holder<PlacedFeature>>> steps = new EnumMap<>(Decoration.class);
+        for (final var step : Decoration.values()) {
+            steps.put(step, new ArrayList<>());
+        }
+        return steps;
+    }
+
+    private static Holder.Reference<PlacedFeature> feature(final String path) {
+        return Holder.Reference.createStandAlone(OWNER, ResourceKey.create(Registries.PLACED_FEATURE, new ResourceLocation("test", path)));
+    }
+}
@@ -0,0 +1,163 @@
+package personthecat.catlib.event.world;
+
+import com.mojang.serialization.Lifecycle;
+import net.minecraft.core.Holder;
+import net.minecraft.core.MappedRegistry;
+import net.minecraft.core.Registry;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.biome.BiomeGenerationSettings;
+import net.minecraft.world.level.biome.BiomeSpecialEffects;
+import net.minecraft.world.level.biome.MobSpawnSettings;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import personthecat.catlib.data.BiomePredicate;
+import personthecat.catlib.data.IdMatcher;
+import personthecat.catlib.event.world.FeatureModificationEvent.Phase;
+import personthecat.catlib.registry.DynamicRegistries;
+import personthecat.catlib.registry.DynamicRegistryHandle;
+import personthecat.catlib.registry.MojangRegistryHandle;
+import personthecat.catlib.registry.RegistryHandle;
+import personthecat.catlib.test.McBootstrapExtension;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(McBootstrapExtension.class)
+public class FeatureModificationEventTest {
+    private static final int NUM_BIOMES = 200;
+    private static final TagKey<Biome> EVEN_TAG = TagKey.create(Registries.BIOME, new ResourceLocation("test", "even"));
+    private static final TagKey<Biome> TENS_TAG = TagKey.create(Registries.BIOME, new ResourceLocation("test", "tens"));
+    private static final Map<Phase, List<Filter>> FILTERS = new HashMap<>();
+    private static final List<String> FIRED = new ArrayList<>();
+
+    @BeforeAll
+    public static void setup() {
+        final Registry<Biome> biomes = new MappedRegistry<>(Registries.BIOME, Lifecycle.stable());
+        final RegistryHandle<Biome> handle = new MojangRegistryHandle<>(biomes);
+        final List<Holder<Biome>> even = new ArrayList<>();
+        final List<Holder<Biome>> tens = new ArrayList<>();
+        for (int i = 0; i < NUM_BIOMES; i++) {
+            handle.register(biomeKey(i), dummyBiome());
+            if (i % 2 == 0) even.add(handle.getHolder(biomeKey(i)));
+            if (i % 10 == 0) tens.add(handle.getHolder(biomeKey(i)));
+        }
+        biomes.getOrCreateTag(EVEN_TAG);
+        biomes.getOrCreateTag(TENS_TAG);
+        biomes.bindTags(Map.of(EVEN_TAG, even, TENS_TAG, tens));
+        ((DynamicRegistryHandle<Biome>) DynamicRegistries.BIOME).updateRegistry(handle);
+
+        for (final Phase phase : Phase.values()) {
+            final String p = phase.name();
+            register(phase, p + ":single", BiomePredicate.builder().addEntry(IdMatcher.id(false, biomeKey(7))).build());
+            register(phase, p + ":even", BiomePredicate.builder().addEntry(IdMatcher.tag(false, EVEN_TAG)).build());
+            register(phase, p + ":not_tens", BiomePredicate.builder().addEntry(IdMatcher.tag(false, TENS_TAG)).blacklist(true).build());
+            register(phase, p + ":mod", BiomePredicate.builder().addEntry(IdMatcher.mod(false, "test")).build());
+            register(phase, p + ":empty", BiomePredicate.builder().build());
+            register(phase, p + ":empty_blacklist", BiomePredicate.builder().blacklist(true).build());
+            register(phase, p + ":lambda", holder -> holder.unwrapKey().orElseThrow().location().getPath().endsWith("3"));
+        }
+        final Filter global = new Filter("MODIFICATIONS:global", holder -> true);
+        FILTERS.get(Phase.MODIFICATIONS).add(global);
+        FeatureModificationEvent.register(ctx -> FIRED.add(global.name));
+    }
+
+    @Test
+    public void modifyBiome_firesSameListenersAsFilters_inEachPhase() {
+        for (final Phase phase : Phase.values()) {
+            final var invoker = FeatureModificationEvent.get(phase);
+            for (int i = 0; i < NUM_BIOMES; i++) {
+                final var holder = DynamicRegistries.BIOME.getHolder(biomeKey(i));
+                final var expected = FILTERS.get(phase).stream()
+                    .filter(f -> f.predicate.test(holder))
+                    .map(Filter::name)
+                    .toList();
+
+                FIRED.clear();
+                invoker.modifyBiome(context(holder));
+
+                assertEquals(expected, List.copyOf(FIRED), "phase: " + phase + ", biome: " + i);
+                assertEquals(!expected.isEmpty(), invoker.isValidForBiome(holder));
+            }
+        }
+    }
+
+    @Test
+    public void modifyBiome_afterRegistration_includesNewListener() {
+        final var holder = DynamicRegistries.BIOME.getHolder(biomeKey(1));
+        final var invoker = FeatureModificationEvent.get(Phase.ADDITIONS);
+        invoker.modifyBiome(context(holder)); // build the table first
+
+        final var filter = new Filter("ADDITIONS:late", h -> h == holder);
+        FeatureModificationEvent.forBiome(biomeKey(1)).register(Phase.ADDITIONS, ctx -> FIRED.add(filter.name));
+        FILTERS.get(Phase.ADDITIONS).add(filter);
+
+        FIRED.clear();
+        invoker.modifyBiome(context(holder));
+        assertEquals("ADDITIONS:late", FIRED.get(FIRED.size() - 1));
+    }
+
+    @Test
+    public void modifyBiome_withEmptyFilters_matchesSameBiomesAsTest() {
+        for (final Phase phase : Phase.values()) {
+            final var invoker = FeatureModificationEvent.get(phase);
+            for (int i = 0; i < NUM_BIOMES; i++) {
+                FIRED.clear();
+                invoker.modifyBiome(context(DynamicRegistries.BIOME.getHolder(biomeKey(i))));
+
+                assertFalse(FIRED.contains(phase.name() + ":empty"), "phase: " + phase + ", biome: " + i);
+                assertTrue(FIRED.contains(phase.name() + ":empty_blacklist"), "phase: " + phase + ", biome: " + i);
+            }
+        }
+    }
+
+    private static void register(final Phase phase, final String name, final Predicate<Holder<Biome>> filter) {
+        FILTERS.computeIfAbsent(phase, p -> new ArrayList<>()).add(new Filter(name, filter));
+        FeatureModificationEvent.forBiomes(filter).register(phase, ctx -> FIRED.add(name));
+    }
+
+    private static FeatureModificationContext context(final Holder<Biome> holder) {
+        final var ctx = mock(FeatureModificationContext.class);
+        when(ctx.getBiome()).thenReturn(holder);
+        return ctx;
+    }
+
+    private static ResourceKey<Biome> biomeKey(final int i) {
+        return ResourceKey.create(Registries.BIOME, new ResourceLocation("test", "biome_" + i));
+    }
+
+    private static Biome dummyBiome() {
+        return new Biome.BiomeBuilder()
+            .temperature(0)
+            .downfall(0)
+            .specialEffects(
+                new BiomeSpecialEffects.Builder()
+                    .fogColor(0)
+                    .waterColor(0)
+                    .waterFogColor(0)
+                    .skyColor(0)
+                    .build())
+            .mobSpawnSettings(
+                new MobSpawnSettings.Builder()
+                    .build())
+            .generationSettings(
+                new BiomeGenerationSettings.PlainBuilder()
+                    .build())
+            .build();
+    }
+
+    private record Filter(String name, Predicate<Holder<Biome>> predicate) {}
+}
@@ -0,0 +1,113 @@
+package personthecat.catlib.event.world.fabric;
+
+import net.fabricmc.fabric.api.biome.v1.BiomeModificationContext;
+import net.fabricmc.fabric.api.biome.v1.BiomeModificationContext.GenerationSettingsContext;
+import net.fabricmc.fabric.api.biome.v1.BiomeSelectionContext;
+import net.minecraft.core.Holder;
+import net.minecraft.core.HolderOwner;
+import net.minecraft.core.HolderSet;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.biome.BiomeGenerationSettings;
+import net.minecraft.world.level.levelgen.GenerationStep.Decoration;
+import net.minecraft.world.level.levelgen.placement.PlacedFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import personthecat.catlib.mixin.fabric.BiomeModificationContextAccessor;
+import personthecat.catlib.test.McBootstrapExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@ExtendWith(McBootstrapExtension.class)
+public class FeatureModificationContextImplTest {
+    private static final HolderOwner<PlacedFeature> OWNER = new HolderOwner<>() {};
+    private static final Decoration STEP = Decoration.UNDERGROUND_ORES;
+
+    private final List<HolderSet<PlacedFeature>> features = new ArrayList<>();
+    private GenerationSettingsContext generation;
+    private FeatureModificationContextImpl ctx;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        final BiomeGenerationSettings settings = mock(BiomeGenerationSettings.class);
+        when(settings.features()).thenReturn(this.features);
+        final Biome biome = mock(Biome.class);
+        when(biome.getGenerationSettings()).thenReturn(settings);
+        final BiomeSelectionContext selection = mock(BiomeSelectionContext.class);
+        when(selection.getBiomeRegistryEntry()).thenReturn(Holder.direct(biome));
+
+        // simulates Fabric, which copies the entire step for each removal
+        this.generation = mock(GenerationSettingsContext.class);
+        when(this.generation.removeFeature(any(Decoration.class), any(ResourceKey.class))).thenAnswer(inv -> {
+            final int i = inv.<Decoration>getArgument(0).ordinal();
+            final var copy = new ArrayList<>(this.features.get(i).stream().toList());
+            if (copy.removeIf(h -> h.is(inv.<ResourceKey<PlacedFeature>>getArgument(1)))) {
+                this.features.set(i, HolderSet.direct(copy));
+                return true;
+            }
+            return false;
+        });
+        final BiomeModificationContext modifications = mock(BiomeModificationContext.class,
+            withSettings().extraInterfaces(BiomeModificationContextAccessor.class));
+        when(modifications.getGenerationSettings()).thenReturn(this.generation);
+        this.ctx = new FeatureModificationContextImpl(selection, modifications);
+    }
+
+    @Test
+    public void removeFeature_byPredicate_removesEveryMatchWithOneFabricCall() {
+        final var a = feature("a");
+        final var b = feature("b");
+        final var c = feature("c");
+        final var d = feature("d");
+        this.ctx.getFeatures(STEP);
+        this.features.set(STEP.ordinal(), HolderSet.direct(List.of(a, b, c, d)));
+
+        assertTrue(this.ctx.removeFeature(STEP, h -> h != b));
+        assertEquals(List.of(b), this.ctx.getFeatures(STEP).stream().toList());
+        verify(this.generation, times(1)).removeFeature(any(Decoration.class), any(ResourceKey.class));
+        verify(this.generation).removeFeature(STEP, d.key());
+    }
+
+    @Test
+    public void removeFeature_byPredicate_withSingleMatch_removesThroughFabric() {
+        final var a = feature("a");
+        final var b = feature("b");
+        this.ctx.getFeatures(STEP);
+        this.features.set(STEP.ordinal(), HolderSet.direct(List.of(a, b)));
+
+        assertTrue(this.ctx.removeFeature(STEP, h -> h == a));
+        assertEquals(List.of(b), this.ctx.getFeatures(STEP).stream().toList());
+        verify(this.generation).removeFeature(STEP, a.key());
+    }
+
+    @Test
+    public void removeFeature_byPredicate_withoutMatches_returnsFalse() {
+        final var a = feature("a");
+        this.ctx.getFeatures(STEP);
+        this.features.set(STEP.ordinal(), HolderSet.direct(List.of(a)));
+
+        assertFalse(this.ctx.removeFeature(STEP, h -> false));
+        assertEquals(List.of(a), this.ctx.getFeatures(STEP).stream().toList());
+        verify(this.generation, never()).removeFeature(any(Decoration.class), any(ResourceKey.class));
+    }
+
+    private static Holder.Reference<PlacedFeature> feature(final String path) {
+        return Holder.Reference.createStandAlone(OWNER, ResourceKey.create(Registries.PLACED_FEATURE, new ResourceLocation("test", path)));
+    }
+}
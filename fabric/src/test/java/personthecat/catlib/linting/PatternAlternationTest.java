@@ -0,0 +1,229 @@
+package personthecat.catlib.linting;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PatternAlternationTest {
+
+    @Test
+    public void find_withNoPatterns_returnsNull() {
+        final var alternation = PatternAlternation.<String>compile(Map.of());
+        assertTrue(alternation.isEmpty());
+        assertNull(alternation.find("anything"));
+    }
+
+    @Test
+    public void find_withSimplePatterns_isCombined() {
+        final var alternation = PatternAlternation.compile(map(
+            Pattern.compile("^(?:true|false)$"), "bool",
+            Pattern.compile("^null$"), "null"));
+        assertTrue(alternation.isCombined());
+        assertEquals("bool", alternation.find("true"));
+        assertEquals("null", alternation.find("null"));
+        assertNull(alternation.find("nullable"));
+    }
+
+    @Test
+    public void find_prefersFirstPattern_evenWhenMatchIsLater() {
+        final var alternation = PatternAlternation.compile(map(
+            Pattern.compile("b"), "first",
+            Pattern.compile("a"), "second"));
+        assertEquals("first", alternation.find("ab"));
+        assertEquals("second", alternation.find("aa"));
+    }
+
+    @Test
+    public void find_preservesAnchorsAndFlags() {
+        final var alternation = PatternAlternation.compile(map(
+            Pattern.compile("^\\s*(todo|to-do)", Pattern.CASE_INSENSITIVE), "todo",
+            Pattern.compile("^x"), "x"));
+        assertTrue(alternation.isCombined());
+        assertEquals("todo", alternation.find("  TODO: fix"));
+        assertNull(alternation.find("not a todo"));
+        assertNull(alternation.find("yx"));
+        assertEquals("x", alternation.find("xy"));
+    }
+
+    @Test
+    public void find_withBackReferences_fallsBackToSequentialMatching() {
+        final var alternation = PatternAlternation.compile(map(
+            Pattern.compile("(a)\\1"), "double",
+            Pattern.compile("(b)"), "b"));
+        assertFalse(alternation.isCombined());
+        assertEquals("double", alternation.find("xaa"));
+        assertEquals("b", alternation.find("ab"));
+    }
+
+    @Test
+    public void find_matchesSequentialSemantics_forManyInputs() {
+        final var patterns = List.of(
+            Pattern.compile("[0-9]+$"),
+            Pattern.compile("(?<=:)\\w+"),
+            Pattern.compile("^[a-z]+(\\.[a-z]+)+"),
+            Pattern.compile("\\bat\\s", Pattern.MULTILINE),
+            Pattern.compile("e.", Pattern.DOTALL));
+        final var source = new LinkedHashMap<Pattern, Integer>();
+        for (int i = 0; i < patterns.size(); i++) {
+            source.put(patterns.get(i), i);
+        }
+        final var alternation = PatternAlternation.compile(source);
+        assertTrue(alternation.isCombined());
+
+        final var inputs = List.of(
+            "", "123", "key:value", "java.util.List", "\tat java.base", "e\n",
+            "abc", "x:1", "nothing", "a.b.c 99", "line\nat here", "E!");
+        for (final var input : inputs) {
+            Integer expected = null;
+            for (int i = 0; i < patterns.size(); i++) {
+                if (patterns.get(i).matcher(input).find()) {
+                    expected = i;
+                    break;
+                }
+            }
+            assertEquals(expected, alternation.find(input), "input: " + input);
+        }
+    }
+
+    @Test
+    public void find_whenLaterPatternMatchesFirst_keepsSearchingForEarlierPatterns() {
+        final var alternation = PatternAlternation.compile(map(
+            Pattern.compile("c"), "c",
+            Pattern.compile("b"), "b",
+            Pattern.compile("a"), "a"));
+        assertEquals("c", alternation.find("abc"));
+        assertEquals("b", alternation.find("ab"));
+        assertEquals("c", alternation.find("ac"));
+        assertEquals("a", alternation.find("a"));
+    }
+
+    @Test
+    public void find_withLookbehindAndAnchors_afterResuming_matchesSequentialSemantics() {
+        final var alternation = PatternAlternation.compile(map(
+            Pattern.compile("(?<=x)y"), "after x",
+            Pattern.compile("y"), "y"));
+        assertEquals("after x", alternation.find("yxy"));
+        assertEquals("y", alternation.find("yzy"));
+
+        final var anchored = PatternAlternation.compile(map(
+            Pattern.compile("^b"), "start",
+            Pattern.compile("a"), "a"));
+        assertEquals("a", anchored.find("ab"));
+        assertEquals("start", anchored.find("ba"));
+    }
+
+    @Test
+    public void find_scansInputFewerTimesThanSequentialMatching() {
+        final var patterns = List.of(
+            Pattern.compile("//.*"),
+            Pattern.compile("#.*"),
+            Pattern.compile("/\\*[\\s\\S]*?\\*/"),
+            Pattern.compile("\\bTODO\\b"),
+            Pattern.compile("\\bFIXME\\b"));
+        final var source = new LinkedHashMap<Pattern, Integer>();
+        for (int i = 0; i < patterns.size(); i++) {
+            source.put(patterns.get(i), i);
+        }
+        final var alternation = PatternAlternation.compile(source);
+        assertTrue(alternation.isCombined());
+
+        final var text = "a fairly long token with no comment markers in it at all ".repeat(20);
+        assertEquals(3, alternation.find(text + "TODO"));
+        assertEquals(0, alternation.find(text + "# TODO // done"));
+
+        final var sequential = new CountingSequence(text);
+        patterns.forEach(p -> p.matcher(sequential).find());
+        final var combined = new CountingSequence(text);
+        alternation.find(combined);
+        assertEquals(patterns.size(), sequential.scans);
+        assertEquals(1, combined.scans);
+    }
+
+    @Test
+    public void find_matchesSequentialSemantics_forRandomInputs() {
+        final var patterns = List.of(
+            Pattern.compile("ab+"),
+            Pattern.compile("^c"),
+            Pattern.compile("(?<=a)c"),
+            Pattern.compile("b$"),
+            Pattern.compile("ca|ac"),
+            Pattern.compile("a"));
+        final var source = new LinkedHashMap<Pattern, Integer>();
+        for (int i = 0; i < patterns.size(); i++) {
+            source.put(patterns.get(i), i);
+        }
+        final var alternation = PatternAlternation.compile(source);
+        assertTrue(alternation.isCombined());
+
+        final var rand = new Random(2468);
+        for (int n = 0; n < 5_000; n++) {
+            final var sb = new StringBuilder();
+            final int len = rand.nextInt(8);
+            for (int i = 0; i < len; i++) {
+                sb.append("abcx".charAt(rand.nextInt(4)));
+            }
+            final var input = sb.toString();
+            Integer expected = null;
+            for (int i = 0; i < patterns.size(); i++) {
+                if (patterns.get(i).matcher(input).find()) {
+                    expected = i;
+                    break;
+                }
+            }
+            assertEquals(expected, alternation.find(input), "input: " + input);
+        }
+    }
+
+    private static <T> Map<Pattern, T> map(Pattern k1, T v1, Pattern k2, T v2, Pattern k3, T v3) {
+        final var map = map(k1, v1, k2, v2);
+        map.put(k3, v3);
+        return map;
+    }
+
+    private static <T> Map<Pattern, T> map(Pattern k1, T v1, Pattern k2, T v2) {
+        final var map = new LinkedHashMap<Pattern, T>();
+        map.put(k1, v1);
+        map.put(k2, v2);
+        return map;
+    }
+
+    private static class CountingSequence implements CharSequence {
+        final String s;
+        int scans;
+
+        CountingSequence(final String s) {
+            this.s = s;
+        }
+
+        // matchers read the length once each time they are reset to scan the input
+        @Override
+        public int length() {
+            this.scans++;
+            return this.s.length();
+        }
+
+        @Override
+        public char charAt(final int index) {
+            return this.s.charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            return this.s.subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return this.s;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package personthecat.catlib.registry;
+
+import com.google.gson.JsonPrimitive;
+import com.mojang.serialization.JsonOps;
+import com.mojang.serialization.Lifecycle;
+import net.minecraft.core.Holder;
+import net.minecraft.core.HolderSet;
+import net.minecraft.core.MappedRegistry;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.RegistryOps;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.biome.BiomeGenerationSettings;
+import net.minecraft.world.level.biome.BiomeSpecialEffects;
+import net.minecraft.world.level.biome.Biomes;
+import net.minecraft.world.level.biome.MobSpawnSettings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import personthecat.catlib.test.McBootstrapExtension;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(McBootstrapExtension.class)
+public class DynamicRegistryHandleTest {
+
+    @Test
+    public void holderCodec_isReusedAcrossCalls() {
+        final DynamicRegistryHandle<Biome> handle = (DynamicRegistryHandle<Biome>) DynamicRegistries.BIOME;
+        assertSame(handle.holderCodec(), handle.holderCodec());
+        assertSame(handle.holderSetCodec(), handle.holderSetCodec());
+        assertSame(handle.codec(), handle.codec());
+    }
+
+    @Test
+    public void holderCodec_isReplaced_whenRegistriesAreUpdated() {
+        final DynamicRegistryHandle<Biome> handle = (DynamicRegistryHandle<Biome>) DynamicRegistries.BIOME;
+        final var holderCodec = handle.holderCodec();
+        final var holderSetCodec = handle.holderSetCodec();
+
+        final RegistryAccess registries = createRegistries();
+        DynamicRegistries.updateRegistries(registries);
+
+        assertNotSame(holderCodec, handle.holderCodec());
+        assertNotSame(holderSetCodec, handle.holderSetCodec());
+        assertSame(handle.holderCodec(), handle.holderCodec());
+    }
+
+    @Test
+    public void holderCodec_afterUpdate_decodesFromNewRegistry() {
+        final DynamicRegistryHandle<Biome> handle = (DynamicRegistryHandle<Biome>) DynamicRegistries.BIOME;
+        final RegistryAccess registries = createRegistries();
+        DynamicRegistries.updateRegistries(registries);
+
+        final var ops = RegistryOps.create(JsonOps.INSTANCE, registries);
+        final Holder<Biome> holder = handle.holderCodec()
+            .parse(ops, new JsonPrimitive("minecraft:forest"))
+            .getOrThrow();
+        assertTrue(holder.is(Biomes.FOREST));
+
+        final HolderSet<Biome> set = handle.holderSetCodec()
+            .parse(ops, new JsonPrimitive("minecraft:plains"))
+            .getOrThrow();
+        assertEquals(1, set.size());
+        assertTrue(set.get(0).is(Biomes.PLAINS));
+    }
+
+    @Test
+    public void updateRegistry_incrementsGeneration_andNotifiesListeners() {
+        final DynamicRegistryHandle<Object> handle = isolatedHandle();
+        final Object mutex = new Object();
+        final AtomicInteger calls = new AtomicInteger();
+        handle.listen(mutex, updated -> calls.incrementAndGet());
+
+        final int generation = handle.getGeneration();
+        handle.updateRegistry(new DummyRegistryHandle<>(handle.key()));
+        handle.updateRegistry(new DummyRegistryHandle<>(handle.key()));
+
+        assertEquals(generation + 2, handle.getGeneration());
+        assertEquals(2, calls.get());
+        assertEquals(1, handle.countListeners());
+    }
+
+    @Test
+    public void listen_withSameMutex_replacesListener() {
+        final DynamicRegistryHandle<Object> handle = isolatedHandle();
+        final Object mutex = new Object();
+        final AtomicInteger first = new AtomicInteger();
+        final AtomicInteger second = new AtomicInteger();
+        handle.listen(mutex, updated -> first.incrementAndGet());
+        handle.listen(mutex, updated -> second.incrementAndGet());
+
+        handle.updateRegistry(new DummyRegistryHandle<>(handle.key()));
+        assertEquals(0, first.get());
+        assertEquals(1, second.get());
+    }
+
+    @Test
+    public void collectedListeners_areExpunged() throws InterruptedException {
+        final DynamicRegistryHandle<Object> handle = isolatedHandle();
+        final AtomicInteger calls = new AtomicInteger();
+        final Object retained = new Object();
+        handle.listen(retained, updated -> calls.incrementAndGet());
+
+        Object collected = new Object();
+        final WeakReference<Object> ref = new WeakReference<>(collected);
+        handle.listen(collected, updated -> calls.incrementAndGet());
+        collected = null;
+        for (int i = 0; i < 50 && ref.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(ref.get());
+
+        handle.updateRegistry(new DummyRegistryHandle<>(handle.key()));
+        assertEquals(1, calls.get());
+        assertEquals(1, handle.countListeners());
+        Reference.reachabilityFence(retained);
+    }
+
+    private static DynamicRegistryHandle<Object> isolatedHandle() {
+        return DynamicRegistryHandle.createHandle(
+            ResourceKey.createRegistryKey(new ResourceLocation("test", "listeners")));
+    }
+
+    private static RegistryAccess createRegistries() {
+        final MappedRegistry<Biome> biomes = new MappedRegistry<>(Registries.BIOME, Lifecycle.stable());
+        final RegistryHandle<Biome> handle = new MojangRegistryHandle<>(biomes);
+        handle.register(Biomes.FOREST, dummyBiome());
+        handle.register(Biomes.PLAINS, dummyBiome());
+        return new RegistryAccess.ImmutableRegistryAccess(List.of(biomes));
+    }
+
+    private static Biome dummyBiome() {
+        return new Biome.BiomeBuilder()
+            .temperature(0)
+            .downfall(0)
+            .specialEffects(
+                new BiomeSpecialEffects.Builder()
+                    .fogColor(0)
+                    .waterColor(0)
+                    .waterFogColor(0)
+                    .skyColor(0)
+                    .build())
+            .mobSpawnSettings(
+                new MobSpawnSettings.Builder()
+                    .build())
+            .generationSettings(
+                new BiomeGenerationSettings.PlainBuilder()
+                    .build())
+            .build();
+    }
+}
@@ -0,0 +1,134 @@
+package personthecat.catlib.registry;
+
+import com.mojang.serialization.Lifecycle;
+import net.minecraft.core.Holder;
+import net.minecraft.core.MappedRegistry;
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import personthecat.catlib.mixin.MappedRegistryAccessor;
+import personthecat.catlib.test.McBootstrapExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(McBootstrapExtension.class)
+public class MojangRegistryHandleTest {
+    private static final ResourceKey<Registry<String>> KEY =
+        ResourceKey.createRegistryKey(new ResourceLocation("test", "strings"));
+
+    @Test
+    public void forEachId_whenFrozen_visitsHoldersInIdOrder() {
+        final MappedRegistry<String> registry = createRegistry("a", "b", "c");
+        registry.freeze();
+        final RegistryHandle<String> handle = new MojangRegistryHandle<>(registry);
+
+        final List<String> values = new ArrayList<>();
+        handle.forEachId((holder, id) -> {
+            assertEquals(registry.getId(holder.value()), id);
+            values.add(holder.value());
+        });
+        assertEquals(List.of("a", "b", "c"), values);
+    }
+
+    @Test
+    public void forEachHolder_whenFrozen_providesMatchingKeys() {
+        final MappedRegistry<String> registry = createRegistry("a", "b", "c");
+        registry.freeze();
+        final RegistryHandle<String> handle = new MojangRegistryHandle<>(registry);
+
+        final List<String> ids = new ArrayList<>();
+        handle.forEachHolder((key, holder) -> {
+            assertEquals(key, holder.unwrapKey().orElseThrow());
+            ids.add(key.location().getPath());
+        });
+        assertEquals(List.of("a", "b", "c"), ids);
+    }
+
+    @Test
+    public void forEach_whenMutable_toleratesRegistration() {
+        final MappedRegistry<String> registry = createRegistry("a", "b");
+        final RegistryHandle<String> handle = new MojangRegistryHandle<>(registry);
+
+        final List<String> values = new ArrayList<>();
+        handle.forEach((key, value) -> {
+            values.add(value);
+            handle.register(key(value + "_copy"), value + "_copy");
+        });
+        assertEquals(List.of("a", "b"), values);
+        assertEquals(4, handle.size());
+    }
+
+    @Test
+    public void forEachId_whenMutable_toleratesRegistration() {
+        final MappedRegistry<String> registry = createRegistry("a", "b");
+        final RegistryHandle<String> handle = new MojangRegistryHandle<>(registry);
+
+        final List<Integer> ids = new ArrayList<>();
+        handle.forEachId((holder, id) -> {
+            ids.add(id);
+            handle.register(key(holder.value() + "_copy"), holder.value() + "_copy");
+        });
+        assertEquals(List.of(0, 1), ids);
+    }
+
+    @Test
+    public void holders_whenFrozen_isUnmodifiableView() {
+        final MappedRegistry<String> registry = createRegistry("a", "b", "c");
+        registry.freeze();
+        final RegistryHandle<String> handle = new MojangRegistryHandle<>(registry);
+
+        assertEquals(Set.of("a", "b", "c"), handle.holders().stream().map(Holder::value).collect(Collectors.toSet()));
+        assertThrows(UnsupportedOperationException.class, () -> handle.holders().clear());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void iteration_withIdGap_skipsEmptySlots() {
+        final MappedRegistry<String> registry = createRegistry("a", "b");
+        // as left by platforms which register values with an explicit id
+        ((MappedRegistryAccessor<String>) registry).getHoldersById().add(null);
+        final RegistryHandle<String> handle = new MojangRegistryHandle<>(registry);
+        handle.register(key("c"), "c");
+
+        for (final boolean frozen : new boolean[] { false, true }) {
+            if (frozen) registry.freeze();
+
+            final List<String> values = new ArrayList<>();
+            handle.forEach((key, value) -> values.add(value));
+            assertEquals(List.of("a", "b", "c"), values);
+
+            final List<String> ids = new ArrayList<>();
+            handle.forEachHolder((key, holder) -> ids.add(key.location().getPath()));
+            assertEquals(List.of("a", "b", "c"), ids);
+
+            final List<Integer> rawIds = new ArrayList<>();
+            handle.forEachId((holder, id) -> {
+                assertEquals(registry.getId(holder.value()), id);
+                rawIds.add(id);
+            });
+            assertEquals(List.of(0, 1, 3), rawIds);
+            assertEquals(3, handle.holders().size());
+        }
+    }
+
+    private static MappedRegistry<String> createRegistry(final String... values) {
+        final MappedRegistry<String> registry = new MappedRegistry<>(KEY, Lifecycle.stable());
+        final RegistryHandle<String> handle = new MojangRegistryHandle<>(registry);
+        for (final String value : values) {
+            handle.register(key(value), value);
+        }
+        return registry;
+    }
+
+    private static ResourceKey<String> key(final String id) {
+        return ResourceKey.create(KEY, new ResourceLocation("test", id));
+    }
+}
@@ -0,0 +1,73 @@
+package personthecat.catlib.registry;
+
+import net.minecraft.core.Registry;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.level.ItemLike;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.block.AirBlock;
+import net.minecraft.world.level.block.Block;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import personthecat.catlib.test.McBootstrapExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(McBootstrapExtension.class)
+public class RegistryUtilsTest {
+
+    @Test
+    public void tryGetByType_resolvesExactType() {
+        assertEquals(Registries.BLOCK, RegistryUtils.getByType(Block.class).key());
+        assertEquals(Registries.ITEM, RegistryUtils.getByType(Item.class).key());
+    }
+
+    @Test
+    public void tryGetByType_resolvesSupertypes_likeInstanceScan() {
+        for (final Class<?> c : new Class<?>[] { ItemLike.class, Object.class, AirBlock.class }) {
+            assertEquals(scan(c), RegistryUtils.tryGetByType(c).map(RegistryHandle::key).orElse(null), c.getName());
+        }
+    }
+
+    @Test
+    public void tryGetByType_resolvesDynamicRegistries() {
+        final RegistryHandle<Biome> handle = RegistryUtils.getByType(Biome.class);
+        assertEquals(Registries.BIOME, handle.key());
+        assertSame(DynamicRegistries.get(Registries.BIOME), handle);
+    }
+
+    @Test
+    public void tryGetByType_whenMissing_returnsSameEmptyResult() {
+        final Optional<RegistryHandle<RegistryUtilsTest>> first = RegistryUtils.tryGetByType(RegistryUtilsTest.class);
+        assertTrue(first.isEmpty());
+        assertSame(first, RegistryUtils.tryGetByType(RegistryUtilsTest.class));
+    }
+
+    @Test
+    public void tryGetByType_returnsCachedHandle() {
+        assertSame(RegistryUtils.tryGetByType(Block.class), RegistryUtils.tryGetByType(Block.class));
+    }
+
+    @Test
+    public void tryGetHandle_doesNotAllocateNewHandles() {
+        final RegistryHandle<Block> handle = RegistryUtils.getHandle(Registries.BLOCK);
+        assertSame(handle, RegistryUtils.getHandle(Registries.BLOCK));
+        assertSame(handle, RegistryUtils.getByType(Block.class));
+    }
+
+    // the original lookup strategy: the first registry whose first element is an instance of c
+    private static Object scan(final Class<?> c) {
+        for (final Registry<?> r : BuiltInRegistries.REGISTRY) {
+            final var itr = r.iterator();
+            if (itr.hasNext() && c.isInstance(itr.next())) {
+                return r.key();
+            }
+        }
+        return null;
+    }
+}
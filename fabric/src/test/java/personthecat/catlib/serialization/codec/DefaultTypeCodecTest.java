@@ -0,0 +1,157 @@
+package personthecat.catlib.serialization.codec;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.MapCodec;
+import org.junit.jupiter.api.Test;
+import xjs.data.Json;
+import xjs.data.JsonValue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static personthecat.catlib.serialization.codec.CodecUtils.defaultType;
+
+public class DefaultTypeCodecTest {
+
+    @Test
+    public void decode_withoutType_usesDefaultType() {
+        final var result = parse(Shape.CODEC, "radius: 2");
+        assertEquals(new Circle(2), result.getOrThrow());
+    }
+
+    @Test
+    public void decode_withType_usesDispatcher() {
+        final var result = parse(Shape.CODEC, "type: 'square', side: 3");
+        assertEquals(new Square(3), result.getOrThrow());
+    }
+
+    @Test
+    public void decode_mixedArray_decodesEveryEntry() {
+        final var result = parse(Shape.CODEC.listOf(), "[{ radius: 1 }, { type: 'square', side: 2 }, { type: 'circle', radius: 3 }]");
+        assertEquals(List.of(new Circle(1), new Square(2), new Circle(3)), result.getOrThrow());
+    }
+
+    @Test
+    public void decode_whenNeitherPathSucceeds_reportsBothErrors() {
+        final var input = Json.parse("side: 3");
+        final var m1 = Shape.DEFAULT.codec().parse(XjsOps.INSTANCE, input).error().orElseThrow().message();
+        final var m2 = Shape.DISPATCHER.parse(XjsOps.INSTANCE, input).error().orElseThrow().message();
+
+        final var result = Shape.CODEC.parse(XjsOps.INSTANCE, input);
+        assertEquals("Explicit type missing or error on default type; " + m1 + "; " + m2, result.error().orElseThrow().message());
+    }
+
+    @Test
+    public void encode_defaultType_omitsType() {
+        final var result = encode(Shape.CODEC, new Circle(1));
+        assertEquals(Json.object().add("radius", 1), result.getOrThrow());
+    }
+
+    @Test
+    public void encode_otherType_usesDispatcher() {
+        final var result = encode(Shape.CODEC, new Square(1));
+        assertEquals(encode(Shape.DISPATCHER, new Square(1)).getOrThrow(), result.getOrThrow());
+    }
+
+    @Test
+    public void encode_mixedArray_matchesEncodingEachValueOnce() {
+        final var subject = newCodec();
+        final List<Shape> shapes = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            shapes.add(i % 10 == 0 ? new Circle(i) : new Square(i));
+        }
+        final var first = encode(subject.listOf(), shapes).getOrThrow();
+        final var second = encode(subject.listOf(), shapes).getOrThrow();
+
+        assertEquals(first, second);
+        for (int i = 0; i < shapes.size(); i++) {
+            assertEquals(encode(newCodec(), shapes.get(i)).getOrThrow(), first.asArray().get(i));
+        }
+    }
+
+    @Test
+    public void encode_whenNeitherPathSucceeds_reportsBothErrors() {
+        final var subject = newCodec();
+        final var m1 = encode(Shape.DEFAULT.codec(), new Square(-1)).error().orElseThrow().message();
+        final var m2 = encode(Shape.DISPATCHER, new Square(-1)).error().orElseThrow().message();
+        final var expected = "Could not encode via dispatcher or default type; " + m1 + "; " + m2;
+
+        assertEquals(expected, encode(subject, new Square(-1)).error().orElseThrow().message());
+        assertTrue(encode(subject, new Square(1)).isSuccess());
+        assertEquals(expected, encode(subject, new Square(-1)).error().orElseThrow().message());
+    }
+
+    @Test
+    public void encode_whenFilterRejectsValue_stillPrefersDefaultForOthers() {
+        final var subject = newCodec().filterEncoder((ops, s) -> !(s instanceof Circle c) || c.radius < 5);
+
+        final var rejected = encode(subject, new Circle(10)).getOrThrow();
+        assertTrue(rejected.asObject().has("type"));
+        final var accepted = encode(subject, new Circle(1)).getOrThrow();
+        assertFalse(accepted.asObject().has("type"));
+    }
+
+    @Test
+    public void encode_afterDispatchingValueOfSameClass_stillPrefersDefault() {
+        final MapCodec<Shape> smallCircles = Codec.intRange(0, 4).fieldOf("radius")
+            .flatComapMap(Circle::new, s -> s instanceof Circle c
+                ? DataResult.success(c.radius) : DataResult.error(() -> "Not a circle: " + s));
+        final var subject = defaultType("type", Shape.DISPATCHER,
+            (ops, map) -> DataResult.success(smallCircles), (ops, s) -> DataResult.success(smallCircles));
+
+        final var dispatched = encode(subject, new Circle(10)).getOrThrow();
+        assertTrue(dispatched.asObject().has("type"));
+        final var defaulted = encode(subject, new Circle(1)).getOrThrow();
+        assertEquals(Json.object().add("radius", 1), defaulted);
+    }
+
+    private static DefaultTypeCodec<Shape> newCodec() {
+        return defaultType("type", Shape.DISPATCHER,
+            (ops, map) -> DataResult.success(Shape.DEFAULT), (ops, s) -> DataResult.success(Shape.DEFAULT));
+    }
+
+    private static <A> DataResult<A> parse(Codec<A> codec, String json) {
+        return codec.parse(XjsOps.INSTANCE, Json.parse(json));
+    }
+
+    private static <A> DataResult<JsonValue> encode(Codec<A> codec, A a) {
+        return codec.encodeStart(XjsOps.INSTANCE, a);
+    }
+
+    private sealed interface Shape permits Circle, Square {
+        MapCodec<Shape> DEFAULT = Circle.CODEC.flatComapMap(c -> c, s -> s instanceof Circle c
+            ? DataResult.success(c) : DataResult.error(() -> "Not a circle: " + s));
+        Codec<Shape> DISPATCHER = Codec.STRING.dispatch("type", Shape::type, Shape::codec);
+        Codec<Shape> CODEC = newCodec();
+
+        String type();
+
+        private static MapCodec<? extends Shape> codec(String type) {
+            return type.equals("circle") ? Circle.CODEC : Square.CODEC;
+        }
+    }
+
+    private record Circle(int radius) implements Shape {
+        static final MapCodec<Circle> CODEC =
+            Codec.INT.fieldOf("radius").xmap(Circle::new, Circle::radius);
+
+        @Override
+        public String type() {
+            return "circle";
+        }
+    }
+
+    private record Square(int side) implements Shape {
+        static final MapCodec<Square> CODEC =
+            Codec.intRange(0, Integer.MAX_VALUE).fieldOf("side").xmap(Square::new, Square::side);
+
+        @Override
+        public String type() {
+            return "square";
+        }
+    }
+}
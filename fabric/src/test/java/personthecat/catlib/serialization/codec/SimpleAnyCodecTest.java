@@ -0,0 +1,160 @@
+package personthecat.catlib.serialization.codec;
+
+import com.mojang.datafixers.util.Pair;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.Decoder;
+import com.mojang.serialization.DynamicOps;
+import org.junit.jupiter.api.Test;
+import xjs.data.Json;
+import xjs.data.JsonValue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static personthecat.catlib.serialization.codec.CodecUtils.simpleAny;
+
+public class SimpleAnyCodecTest {
+    private static final List<String> INPUTS =
+        List.of("1", "'text'", "{ a: 'x' }", "{ b: 'y' }", "{ b: 'z' }", "2", "{ a: 'w' }");
+    private static final List<String> INVALID = List.of("true", "{ c: 'x' }", "[1, 2]");
+
+    @Test
+    public void decode_returnsFirstSuccessfulDecoder() {
+        final var subject = new Alternatives().codec(UnaryOperator.identity());
+        assertEquals("int:1", parse(subject, "1").getOrThrow());
+        assertEquals("str:text", parse(subject, "'text'").getOrThrow());
+        assertEquals("a:x", parse(subject, "{ a: 'x' }").getOrThrow());
+        assertEquals("b:y", parse(subject, "{ b: 'y' }").getOrThrow());
+    }
+
+    @Test
+    public void decode_whenAllFail_joinsErrorsInOrder() {
+        final var alternatives = new Alternatives();
+        final var subject = alternatives.codec(UnaryOperator.identity());
+        final var input = Json.parse("true");
+        final String expected = alternatives.all().stream()
+            .map(d -> d.decode(XjsOps.INSTANCE, input).error().orElseThrow().message())
+            .reduce((m1, m2) -> m1 + "; " + m2).orElseThrow() + "]";
+
+        assertEquals(expected, subject.parse(XjsOps.INSTANCE, input).error().orElseThrow().message());
+    }
+
+    @Test
+    public void adaptive_producesSameResultsAndErrors() {
+        assertSameBehavior(SimpleAnyCodec::adaptive);
+    }
+
+    @Test
+    public void withShapes_producesSameResultsAndErrors() {
+        assertSameBehavior(Alternatives::shaped);
+    }
+
+    @Test
+    public void adaptiveWithShapes_producesSameResultsAndErrors() {
+        assertSameBehavior(c -> Alternatives.shaped(c).adaptive());
+    }
+
+    @Test
+    public void adaptive_triesFrequentDecoderFirst() {
+        final var alternatives = new Alternatives();
+        final var subject = alternatives.codec(SimpleAnyCodec::adaptive);
+        for (int i = 0; i < 10; i++) {
+            parse(subject, "{ b: 'y' }");
+        }
+        alternatives.reset();
+
+        assertEquals("b:z", parse(subject, "{ b: 'z' }").getOrThrow());
+        assertEquals(List.of(0, 0, 0, 1), alternatives.calls());
+    }
+
+    @Test
+    public void withShapes_skipsDecodersForOtherShapes() {
+        final var alternatives = new Alternatives();
+        final var subject = alternatives.codec(Alternatives::shaped);
+
+        assertEquals("int:5", parse(subject, "5").getOrThrow());
+        assertEquals(List.of(1, 0, 0, 0), alternatives.calls());
+    }
+
+    @Test
+    public void withShapes_whenCountDoesNotMatch_throwsException() {
+        final var subject = new Alternatives().codec(UnaryOperator.identity());
+        assertThrows(IllegalArgumentException.class, () -> subject.withShapes(List.of(Set.of(InputShape.MAP))));
+    }
+
+    @Test
+    public void inputShape_identifiesEachShape() {
+        assertEquals(InputShape.MAP, InputShape.of(XjsOps.INSTANCE, Json.parse("{ a: 1 }")));
+        assertEquals(InputShape.LIST, InputShape.of(XjsOps.INSTANCE, Json.parse("[1]")));
+        assertEquals(InputShape.STRING, InputShape.of(XjsOps.INSTANCE, Json.value("1")));
+        assertEquals(InputShape.NUMBER, InputShape.of(XjsOps.INSTANCE, Json.value(1)));
+        assertEquals(InputShape.BOOLEAN, InputShape.of(XjsOps.INSTANCE, Json.value(true)));
+    }
+
+    private static void assertSameBehavior(final UnaryOperator<SimpleAnyCodec<String>> mode) {
+        final var expected = new Alternatives().codec(UnaryOperator.identity());
+        final var subject = new Alternatives().codec(mode);
+        // repeat so that adaptive codecs have reordered their decoders
+        for (int i = 0; i < 3; i++) {
+            for (final String input : INPUTS) {
+                assertEquals(parse(expected, input).getOrThrow(), parse(subject, input).getOrThrow());
+            }
+            for (final String input : INVALID) {
+                assertEquals(
+                    parse(expected, input).error().orElseThrow().message(),
+                    parse(subject, input).error().orElseThrow().message());
+            }
+        }
+    }
+
+    private static DataResult<String> parse(final Codec<String> codec, final String json) {
+        return codec.parse(XjsOps.INSTANCE, Json.parse(json));
+    }
+
+    private static final class Alternatives {
+        final Counting ints = new Counting(Codec.INT.map(i -> "int:" + i));
+        final Counting strings = new Counting(Codec.STRING.map(s -> "str:" + s));
+        final Counting a = new Counting(Codec.STRING.fieldOf("a").codec().map(s -> "a:" + s));
+        final Counting b = new Counting(Codec.STRING.fieldOf("b").codec().map(s -> "b:" + s));
+
+        SimpleAnyCodec<String> codec(final UnaryOperator<SimpleAnyCodec<String>> mode) {
+            return mode.apply(simpleAny(this.ints, this.strings, this.a, this.b).withEncoder(Codec.STRING));
+        }
+
+        static SimpleAnyCodec<String> shaped(final SimpleAnyCodec<String> codec) {
+            return codec.withShapes(List.of(
+                Set.of(InputShape.NUMBER), Set.of(InputShape.STRING), Set.of(InputShape.MAP), Set.of(InputShape.MAP)));
+        }
+
+        List<Counting> all() {
+            return List.of(this.ints, this.strings, this.a, this.b);
+        }
+
+        List<Integer> calls() {
+            return this.all().stream().map(c -> c.calls).toList();
+        }
+
+        void reset() {
+            this.all().forEach(c -> c.calls = 0);
+        }
+    }
+
+    private static final class Counting implements Decoder<String> {
+        final Decoder<String> decoder;
+        int calls;
+
+        Counting(final Decoder<String> decoder) {
+            this.decoder = decoder;
+        }
+
+        @Override
+        public <T> DataResult<Pair<String, T>> decode(final DynamicOps<T> ops, final T input) {
+            this.calls++;
+            return this.decoder.decode(ops, input);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package personthecat.catlib.serialization.codec;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
+import org.junit.jupiter.api.Test;
+import xjs.data.Json;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static personthecat.catlib.serialization.codec.CodecUtils.simpleEither;
+
+public class SimpleEitherCodecTest {
+    private static final Codec<String> FIRST = Codec.INT.xmap(i -> "int:" + i, s -> 0);
+    private static final Codec<String> SECOND = Codec.STRING.fieldOf("a").codec().xmap(s -> "a:" + s, s -> s);
+
+    @Test
+    public void decode_whenBothFail_joinsErrorsInOrder() {
+        final var input = Json.parse("'text'");
+        final var m1 = FIRST.parse(XjsOps.INSTANCE, input).error().orElseThrow().message();
+        final var m2 = SECOND.parse(XjsOps.INSTANCE, input).error().orElseThrow().message();
+
+        final var result = simpleEither(FIRST, SECOND).parse(XjsOps.INSTANCE, input);
+        assertEquals(m1 + "; " + m2, result.error().orElseThrow().message());
+    }
+
+    @Test
+    public void adaptive_producesSameResultsAndErrors() {
+        assertSameBehavior(simpleEither(FIRST, SECOND).adaptive());
+    }
+
+    @Test
+    public void withShapes_producesSameResultsAndErrors() {
+        assertSameBehavior(simpleEither(FIRST, SECOND).withShapes(Set.of(InputShape.NUMBER), Set.of(InputShape.MAP)));
+    }
+
+    private static void assertSameBehavior(final Codec<String> subject) {
+        final var expected = simpleEither(FIRST, SECOND);
+        for (int i = 0; i < 3; i++) {
+            for (final String input : List.of("{ a: 'x' }", "1", "{ a: 'y' }")) {
+                assertEquals(parse(expected, input).getOrThrow(), parse(subject, input).getOrThrow());
+            }
+            for (final String input : List.of("'text'", "{ b: 'x' }", "[]")) {
+                assertEquals(
+                    parse(expected, input).error().orElseThrow().message(),
+                    parse(subject, input).error().orElseThrow().message());
+            }
+        }
+    }
+
+    private static DataResult<String> parse(final Codec<String> codec, final String json) {
+        return codec.parse(XjsOps.INSTANCE, Json.parse(json));
+    }
+}
@@ -0,0 +1,92 @@
+package personthecat.catlib.serialization.codec;
+
+import com.mojang.datafixers.util.Pair;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.JsonOps;
+import org.junit.jupiter.api.Test;
+import xjs.data.Json;
+import xjs.data.JsonArray;
+import xjs.data.JsonObject;
+import xjs.data.JsonValue;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class XjsOpsTest {
+
+    @Test
+    public void getStream_visitsEveryElementInOrder() {
+        final JsonValue array = Json.parse("[1, null, 'a']");
+        final List<JsonValue> values = XjsOps.INSTANCE.getStream(array).getOrThrow().toList();
+
+        assertEquals(3, values.size());
+        assertEquals(1, values.get(0).asInt());
+        assertNull(values.get(1));
+        assertEquals("a", values.get(2).asString());
+    }
+
+    @Test
+    public void getMapValues_visitsEveryEntryInOrder() {
+        final JsonValue object = Json.parse("{ b: 1, a: null, c: 'x' }");
+        final List<Pair<JsonValue, JsonValue>> entries = XjsOps.INSTANCE.getMapValues(object).getOrThrow().toList();
+
+        assertEquals(List.of("b", "a", "c"), entries.stream().map(e -> e.getFirst().asString()).toList());
+        assertEquals(1, entries.get(0).getSecond().asInt());
+        assertNull(entries.get(1).getSecond());
+        assertEquals("x", entries.get(2).getSecond().asString());
+    }
+
+    @Test
+    public void mapEntries_matchGetMapValues() {
+        final JsonValue object = Json.parse("{ b: 1, a: null, c: 'x' }");
+
+        final List<Pair<JsonValue, JsonValue>> expected = XjsOps.INSTANCE.getMapValues(object).getOrThrow().toList();
+        final List<Pair<JsonValue, JsonValue>> actual = XjsOps.INSTANCE.getMap(object).getOrThrow().entries().toList();
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getFirst().asString(), actual.get(i).getFirst().asString());
+            assertSame(expected.get(i).getSecond(), actual.get(i).getSecond());
+        }
+    }
+
+    @Test
+    public void decode_largeList_matchesJsonOps() {
+        final JsonArray array = new JsonArray();
+        for (int i = 0; i < 100_000; i++) {
+            array.add(Json.value(i));
+        }
+        assertEquivalent(Codec.INT.listOf(), array);
+    }
+
+    @Test
+    public void decode_largeMap_matchesJsonOps() {
+        final JsonObject object = new JsonObject();
+        for (int i = 0; i < 10_000; i++) {
+            object.add("key" + i, new JsonArray().add(Json.value(i)).add(Json.value(i + 1)));
+        }
+        assertEquivalent(Codec.unboundedMap(Codec.STRING, Codec.INT.listOf()), object);
+    }
+
+    @Test
+    public void decode_nestedStructure_matchesJsonOps() {
+        final JsonValue json = Json.parse("""
+            {
+              a: [{ x: [1] }, { x: [2], y: [3, 4] }]
+              b: []
+            }
+            """);
+        final Codec<Map<String, List<Map<String, List<Integer>>>>> codec =
+            Codec.unboundedMap(Codec.STRING, Codec.unboundedMap(Codec.STRING, Codec.INT.listOf()).listOf());
+        assertEquivalent(codec, json);
+    }
+
+    private static <A> void assertEquivalent(final Codec<A> codec, final JsonValue json) {
+        final A expected = codec.parse(JsonOps.INSTANCE, XjsOps.INSTANCE.convertTo(JsonOps.INSTANCE, json)).getOrThrow();
+        assertEquals(expected, codec.parse(XjsOps.INSTANCE, json).getOrThrow());
+    }
+}
@@ -2,12 +2,16 @@ package personthecat.catlib.serialization.codec.capture;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class KeyMapTest {
@@ -22,6 +26,17 @@ public class KeyMapTest {
         assertEquals(size, map.size());
     }
 
+    @Test
+    public void put_overNullValue_thenRemove_leavesNoMatch() {
+        final var map = new KeyMap<Animal>();
+        map.put(Key.of("animal", Bunny.class), null);
+        map.put(Key.of("animal", Bunny.class), new Bunny());
+        map.remove(Key.of("animal", Bunny.class));
+
+        assertFalse(map.containsKey(Key.of("animal", Animal.class)));
+        assertTrue(map.isEmpty());
+    }
+
     @Test
     public void get_byExactKey_returnsValue() {
         final var map = new KeyMap<String>();
@@ -313,6 +328,90 @@ public class KeyMapTest {
         assertNotNull(map.get(child));
     }
 
+    @Test
+    public void get_whenManyKeysMatch_returnsFirstInserted() {
+        final var map = new KeyMap<Animal>();
+        final var bunny = new Bunny();
+        map.put(Key.of("animal", Bunny.class), bunny);
+        map.put(Key.of("animal", Gerbil.class), new Gerbil());
+        assertSame(bunny, map.get(Key.of("animal", Animal.class)));
+    }
+
+    @Test
+    public void get_afterRemovingMatch_returnsNextMatch() {
+        final var map = new KeyMap<Animal>();
+        final var gerbil = new Gerbil();
+        map.put(Key.of("animal", Bunny.class), new Bunny());
+        map.put(Key.of("animal", Gerbil.class), gerbil);
+        map.get(Key.of("animal", Animal.class));
+        map.remove(Key.of("animal", Bunny.class));
+        assertSame(gerbil, map.get(Key.of("animal", Animal.class)));
+    }
+
+    @Test
+    public void get_afterReplacingValue_returnsLatestValue() {
+        final var map = new KeyMap<Animal>();
+        final var gerbil = new Gerbil();
+        map.put(Key.of("animal", Animal.class), new Bunny());
+        map.put(Key.of("animal", Animal.class), gerbil);
+        assertSame(gerbil, map.get(Key.of(Key.of("parent"), "animal", Animal.class)));
+    }
+
+    @Test
+    public void get_afterAddingMatch_doesNotReturnCachedMiss() {
+        final var map = new KeyMap<Animal>();
+        final var lookup = Key.of(Key.of("parent"), "animal", Animal.class);
+        assertNull(map.get(lookup));
+        map.put(Key.of("animal", Bunny.class), new Bunny());
+        assertNotNull(map.get(lookup));
+    }
+
+    @Test
+    public void get_withManyKeys_matchesLinearScan() {
+        for (final int size : new int[] { 10, 100, 1_000 }) {
+            final var random = new Random(size);
+            final var map = new KeyMap<Integer>();
+            final List<Key<?>> bound = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                final var key = randomKey(random, size);
+                map.put(key, i);
+                if (!bound.contains(key)) {
+                    bound.add(key);
+                }
+            }
+            for (int i = 0; i < size * 2; i++) {
+                final var lookup = randomKey(random, size);
+                assertEquals(linearScan(map, bound, lookup), map.get(lookup), "lookup: " + lookup);
+            }
+        }
+    }
+
+    private static Key<?> randomKey(final Random random, final int size) {
+        final var name = random.nextInt(10) == 0 ? Key.ANY : "k" + random.nextInt(size / 5 + 1);
+        final var qualifier = random.nextBoolean() ? null : Key.of("q" + random.nextInt(3));
+        final Class<?> type = switch (random.nextInt(3)) {
+            case 0 -> Animal.class;
+            case 1 -> Bunny.class;
+            default -> Gerbil.class;
+        };
+        return Key.of(qualifier, name, type);
+    }
+
+    // the matching rules of KeyMap, evaluated without an index
+    private static Integer linearScan(final KeyMap<Integer> map, final List<Key<?>> bound, final Key<?> lookup) {
+        if (bound.contains(lookup)) {
+            return map.get(lookup);
+        }
+        for (final var key : bound) {
+            if (key.name().equals(lookup.name())
+                    && lookup.type().isAssignableFrom(key.type())
+                    && (!key.isQualified() || Objects.equals(key.qualifier(), lookup.qualifier()))) {
+                return map.get(key);
+            }
+        }
+        return bound.contains(lookup.asAny()) ? map.get(lookup.asAny()) : null;
+    }
+
     interface Animal {}
     record Bunny() implements Animal {}
     record Gerbil() implements Animal {}
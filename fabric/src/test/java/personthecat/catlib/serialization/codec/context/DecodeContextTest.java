@@ -0,0 +1,124 @@
+package personthecat.catlib.serialization.codec.context;
+
+import com.mojang.datafixers.util.Either;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import personthecat.catlib.test.McBootstrapExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(McBootstrapExtension.class)
+public class DecodeContextTest {
+
+    @Test
+    public void currentPath_inNestedListsAndMaps_followsStack() {
+        final var ctx = new DecodeContext();
+        assertEquals(List.of(), ctx.currentPath());
+        ctx.push("a");
+        ctx.push(0);
+        ctx.push("b");
+        assertEquals(List.of(Either.left("a"), Either.right(0), Either.left("b")), ctx.currentPath());
+        ctx.pop();
+        ctx.push(3);
+        assertEquals(List.of(Either.left("a"), Either.right(0), Either.right(3)), ctx.currentPath());
+    }
+
+    @Test
+    public void pop_afterError_recordsLeafByPath() {
+        final var ctx = new DecodeContext();
+        ctx.push("a");
+        ctx.push(1);
+        ctx.push("b");
+        ctx.reportError("error");
+        ctx.pop();
+        ctx.pop();
+        ctx.pop();
+
+        final var table = ctx.getErrorTable();
+        assertEquals(1, table.size());
+        final var entry = table.entries().getFirst();
+        assertEquals(List.of(Either.left("a"), Either.right(1), Either.left("b")), entry.path());
+        assertEquals("a[1].b", entry.formattedPath());
+        assertEquals(List.of("error"), entry.messages());
+    }
+
+    @Test
+    public void pop_whenChildHasErrors_doesNotRecordParent() {
+        final var ctx = new DecodeContext();
+        ctx.push("a");
+        ctx.push("b");
+        ctx.reportError("child");
+        ctx.pop();
+        ctx.reportError("parent");
+        assertTrue(ctx.peek().hasNestedErrors());
+        ctx.pop();
+
+        final var entries = ctx.getErrorTable().entries();
+        assertEquals(1, entries.size());
+        assertEquals("a.b", entries.getFirst().formattedPath());
+        assertTrue(ctx.getErrorRoot().hasNestedErrors());
+    }
+
+    @Test
+    public void errorNode_withoutErrorsBelow_hasNoNestedErrors() {
+        final var ctx = new DecodeContext();
+        ctx.push("a");
+        ctx.push("b");
+        ctx.pop();
+        assertFalse(ctx.peek().hasNestedErrors());
+    }
+
+    @Test
+    public void errorTable_sortsIndicesNumerically() {
+        final var ctx = new DecodeContext();
+        for (final int i : new int[] { 10, 2, 1 }) {
+            ctx.push("list");
+            ctx.push(i);
+            ctx.reportError("error");
+            ctx.pop();
+            ctx.pop();
+        }
+        assertEquals(List.of("list[1]", "list[2]", "list[10]"),
+            ctx.getErrorTable().entries().stream().map(ErrorTable.Entry::formattedPath).toList());
+    }
+
+    @Test
+    public void errorTable_isCachedUntilNextLeaf() {
+        final var ctx = new DecodeContext();
+        addErrors(ctx, 3);
+        final var table = ctx.getErrorTable();
+        assertSame(table, ctx.getErrorTable());
+        addErrors(ctx, 4);
+        assertEquals(4, ctx.getErrorTable().size());
+    }
+
+    @Test
+    public void errorTable_withManyErrors_rendersInPages() {
+        final var ctx = new DecodeContext();
+        addErrors(ctx, 10_000);
+        final var table = ctx.getErrorTable();
+
+        assertEquals(10_000, table.size());
+        assertEquals(100, table.pageCount(100));
+        assertEquals(100, table.page(99, 100).size());
+        assertEquals(0, table.page(100, 100).size());
+        assertFalse(DecodeContextRenderer.renderEntries(table.page(0, 100)).getString().isEmpty());
+    }
+
+    private static void addErrors(final DecodeContext ctx, final int count) {
+        for (int i = 0; i < count; i++) {
+            ctx.push("entries");
+            ctx.push(i);
+            ctx.push("value");
+            ctx.reportError("error " + i);
+            ctx.pop();
+            ctx.pop();
+            ctx.pop();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package personthecat.catlib.util;
+
+import net.minecraft.core.Holder;
+import net.minecraft.core.HolderOwner;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.dimension.DimensionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import personthecat.catlib.test.McBootstrapExtension;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+@ExtendWith(McBootstrapExtension.class)
+public class DimInjectorTest {
+    private static final HolderOwner<DimensionType> OWNER = new HolderOwner<>() {};
+
+    @Test
+    public void setType_onEveryStatus_onlyInjectsOnce() {
+        final ChunkAccess chunk = injectableChunk();
+        final Holder<DimensionType> overworld = dimension("overworld");
+
+        for (int i = 0; i < 10; i++) {
+            DimInjector.setType(chunk, overworld);
+        }
+        assertSame(overworld, ((DimInjector) chunk).getType());
+        verify((DimInjector) chunk, times(1)).setType(overworld);
+    }
+
+    @Test
+    public void setType_withDifferentType_replacesType() {
+        final ChunkAccess chunk = injectableChunk();
+        final Holder<DimensionType> overworld = dimension("overworld");
+        final Holder<DimensionType> nether = dimension("the_nether");
+
+        DimInjector.setType(chunk, overworld);
+        DimInjector.setType(chunk, nether);
+        assertSame(nether, ((DimInjector) chunk).getType());
+    }
+
+    private static ChunkAccess injectableChunk() {
+        final ChunkAccess chunk = mock(ChunkAccess.class, withSettings().extraInterfaces(DimInjector.class));
+        final AtomicReference<Holder<DimensionType>> type = new AtomicReference<>();
+        doAnswer(inv -> {
+            type.set(inv.getArgument(0));
+            return null;
+        }).when((DimInjector) chunk).setType(any());
+        doAnswer(inv -> type.get()).when((DimInjector) chunk).getType();
+        return chunk;
+    }
+
+    private static Holder<DimensionType> dimension(final String id) {
+        return Holder.Reference.createStandAlone(OWNER,
+            ResourceKey.create(Registries.DIMENSION_TYPE, new ResourceLocation("test", id)));
+    }
+}
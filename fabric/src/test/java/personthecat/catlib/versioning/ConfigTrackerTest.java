@@ -9,12 +9,16 @@ import personthecat.catlib.data.ModDescriptor;
 import personthecat.catlib.event.lifecycle.GameReadyEvent;
 import personthecat.catlib.test.McBootstrapExtension;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @EnabledOnOs(OS.WINDOWS)
@@ -66,5 +70,50 @@ public final class ConfigTrackerTest {
         assertTrue(GameReadyEvent.COMMON.isEmpty());
     }
 
+    @Test
+    public void equivalentConfig_skipsDecoding() {
+        ConfigTracker.forMod(this.testDescriptor).track(new TestCache(true)).save();
+
+        final TestCache current = new TestCache(true);
+        final ConfigTracker<TestCache> newCache = ConfigTracker.forMod(this.testDescriptor).track(current);
+        assertSame(current, newCache.getCached());
+    }
+
+    @Test
+    public void legacyFile_isReadAndMigrated() throws IOException {
+        final Path file = ConfigTracker.forMod(this.testDescriptor).track(new TestCache(true)).getFile();
+        Files.createDirectories(file.getParent());
+        Files.write(file, serialize(new TestCache(true)));
+
+        final ConfigTracker<TestCache> legacy = ConfigTracker.forMod(this.testDescriptor).track(new TestCache(true));
+        assertFalse(legacy.isUpdated());
+        assertEquals(new TestCache(true), legacy.getCached());
+
+        legacy.save();
+        assertTrue(legacy.isSaved());
+        assertFalse(SnapshotFormat.isLegacy(Files.readAllBytes(file)));
+
+        final ConfigTracker<TestCache> migrated = ConfigTracker.forMod(this.testDescriptor).track(new TestCache(true));
+        assertFalse(migrated.isUpdated());
+    }
+
+    @Test
+    public void corruptFile_isFlagged() throws IOException {
+        final Path file = ConfigTracker.forMod(this.testDescriptor).track(new TestCache(true)).getFile();
+        Files.createDirectories(file.getParent());
+        Files.write(file, new byte[] { 'C', 'F', 'T', 1, 0, 0 });
+
+        final ConfigTracker<TestCache> newCache = ConfigTracker.forMod(this.testDescriptor).track(new TestCache(true));
+        assertTrue(newCache.isUpdated());
+    }
+
+    private static byte[] serialize(final Object o) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+            oos.writeObject(o);
+        }
+        return bytes.toByteArray();
+    }
+
     private record TestCache(boolean value) implements Serializable {}
 }
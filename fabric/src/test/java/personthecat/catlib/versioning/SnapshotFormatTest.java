@@ -0,0 +1,169 @@
+package personthecat.catlib.versioning;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class SnapshotFormatTest {
+
+    @Test
+    public void roundTrip_preservesValues() throws Exception {
+        final ComplexCache cache = new ComplexCache(
+            "name", 42, -7L, 1.5, 'x', TestEnum.SECOND, Version.create(1, 2, 3, "beta", "meta"),
+            List.of("a", "b", "a"), Set.of(1, 2, 3), Map.of("k", new TestCache(false)), null, List.of(1));
+
+        assertEquals(cache, decode(SnapshotFormat.encode(cache).bytes()));
+    }
+
+    @Test
+    public void roundTrip_preservesLargeSnapshots() throws Exception {
+        final LinkedHashMap<String, Integer> map = new LinkedHashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            map.put("entry_" + i, i * 31);
+        }
+        final SnapshotFormat.Encoded encoded = SnapshotFormat.encode(map);
+
+        assertEquals(map, decode(encoded.bytes()));
+        assertTrue(encoded.bytes().length < serialize(map).length);
+    }
+
+    @Test
+    public void roundTrip_preservesNestedCollectionTypes() throws Exception {
+        final List<Object> values = List.of(
+            new ArrayList<>(List.of(1, 2)),
+            new LinkedList<>(List.of(1, 2)),
+            new HashSet<>(Set.of("a", "b")),
+            new LinkedHashSet<>(List.of("b", "a")),
+            new TreeSet<>(Set.of("b", "a")),
+            new HashMap<>(Map.of("a", 1)),
+            new LinkedHashMap<>(Map.of("a", 1)),
+            new TreeMap<>(Map.of("b", 2, "a", 1)),
+            new ListCache(new LinkedList<>(List.of("a"))));
+
+        final List<?> decoded = (List<?>) decode(SnapshotFormat.encode(values).bytes());
+        assertEquals(values, decoded);
+        for (int i = 0; i < values.size(); i++) {
+            assertSame(values.get(i).getClass(), decoded.get(i).getClass());
+        }
+        assertEquals(List.of("a", "b"), List.copyOf((TreeSet<?>) decoded.get(4)));
+        assertEquals(List.of("b", "a"), List.copyOf((LinkedHashSet<?>) decoded.get(3)));
+    }
+
+    @Test
+    public void roundTrip_keepsImmutableCollectionsImmutable() throws Exception {
+        final List<Object> values = List.of(List.of(1, 2, 3), Set.of("a"), Map.of("a", 1));
+
+        final List<?> decoded = (List<?>) decode(SnapshotFormat.encode(values).bytes());
+        assertEquals(values, decoded);
+        assertThrows(UnsupportedOperationException.class, () -> decoded.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> ((List<?>) decoded.get(0)).remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> ((Set<?>) decoded.get(1)).remove("a"));
+        assertThrows(UnsupportedOperationException.class, () -> ((Map<?, ?>) decoded.get(2)).remove("a"));
+    }
+
+    @Test
+    public void roundTrip_withImmutableListOfNull_preservesValues() throws Exception {
+        final List<String> values = Stream.of("a", null).toList();
+
+        final Object decoded = decode(SnapshotFormat.encode(values).bytes());
+        assertEquals(values, decoded);
+        assertSame(values.getClass(), decoded.getClass());
+    }
+
+    @Test
+    public void roundTrip_withUnsupportedCollection_fallsBackToSerialization() throws Exception {
+        final List<Object> values = List.of(
+            Collections.unmodifiableList(new ArrayList<>(List.of("a"))),
+            Arrays.asList("a", "b"),
+            new TreeSet<>(Comparator.reverseOrder()));
+
+        final List<?> decoded = (List<?>) decode(SnapshotFormat.encode(values).bytes());
+        assertEquals(values, decoded);
+        for (int i = 0; i < values.size(); i++) {
+            assertSame(values.get(i).getClass(), decoded.get(i).getClass());
+        }
+    }
+
+    @Test
+    public void hash_isStableForEqualValues() throws Exception {
+        final SnapshotFormat.Encoded a = SnapshotFormat.encode(new TestCache(true));
+        final SnapshotFormat.Encoded b = SnapshotFormat.encode(new TestCache(true));
+        final SnapshotFormat.Encoded c = SnapshotFormat.encode(new TestCache(false));
+
+        assertEquals(a.hash(), b.hash());
+        assertEquals(a.hash(), SnapshotFormat.readHash(a.bytes()));
+        assertFalse(a.hash() == c.hash());
+    }
+
+    @Test
+    public void decode_whenTruncated_throws() throws Exception {
+        final byte[] bytes = SnapshotFormat.encode(new TestCache(true)).bytes();
+        final byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+
+        assertThrows(IOException.class, () -> decode(truncated));
+    }
+
+    @Test
+    public void legacySnapshot_isReadable() throws Exception {
+        final byte[] bytes = serialize(new TestCache(true));
+
+        assertTrue(SnapshotFormat.isLegacy(bytes));
+        assertEquals(new TestCache(true), SnapshotFormat.decodeLegacy(bytes));
+    }
+
+    private static Object decode(final byte[] bytes) throws Exception {
+        return SnapshotFormat.decode(bytes, SnapshotFormatTest.class.getClassLoader());
+    }
+
+    private static byte[] serialize(final Object o) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+            oos.writeObject(o);
+        }
+        return bytes.toByteArray();
+    }
+
+    private enum TestEnum { FIRST, SECOND }
+
+    private record TestCache(boolean value) implements Serializable {}
+
+    private record ListCache(LinkedList<String> values) implements Serializable {}
+
+    private record ComplexCache(
+        String name,
+        int i,
+        long l,
+        double d,
+        char c,
+        TestEnum e,
+        Version version,
+        List<String> list,
+        Set<Integer> set,
+        Map<String, TestCache> map,
+        String nothing,
+        Object any) implements Serializable {}
+}
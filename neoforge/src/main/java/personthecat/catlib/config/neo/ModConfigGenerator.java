@@ -35,8 +35,9 @@ public class ModConfigGenerator extends ConfigGenerator {
     }
 
     public void updateConfig(ModConfigSpec spec) {
-        this.updateAll(spec, List.of(), this.instance, this.config);
-        this.fireOnConfigUpdated();
+        if (this.updateAll(spec, List.of(), this.instance, this.config)) {
+            this.fireOnConfigUpdated();
+        }
     }
 
     private void apply(Builder builder, ConfigValue value) {
@@ -136,22 +137,25 @@ public class ModConfigGenerator extends ConfigGenerator {
         return true;
     }
 
-    private void updateAll(ModConfigSpec spec, List<String> prefix, Object instance, CategoryValue config) {
+    private boolean updateAll(ModConfigSpec spec, List<String> prefix, Object instance, CategoryValue config) {
+        boolean changed = false;
         for (final ConfigValue value : config.values()) {
             final List<String> path = append(prefix, value.name());
             if (value instanceof CategoryValue category) {
-                updateAll(spec, path, value.get(this.mod, instance), category);
+                changed |= updateAll(spec, path, value.get(this.mod, instance), category);
                 continue;
             }
             final ModConfigSpec.ConfigValue neoValue = spec.getValues().getRaw(path);
             try {
-                this.setValue(value, instance, neoValue.get());
+                changed |= this.setValueIfChanged(value, instance, neoValue.get());
             } catch (final ValidationException e) {
                 this.warn(e);
                 neoValue.set(neoValue.getDefault());
                 value.set(this.mod, instance, value.defaultValue());
+                changed = true;
             }
         }
+        return changed;
     }
 
     private static List<String> append(List<String> prefix, String key) {
@@ -7,6 +7,7 @@ import net.minecraft.resources.ResourceKey;
 import net.neoforged.neoforge.registries.callback.AddCallback;
 import personthecat.catlib.event.LibEvent;
 import personthecat.catlib.event.registry.RegistryAddedCallback;
+import personthecat.catlib.event.registry.RegistrySnapshot;
 import personthecat.catlib.registry.MojangRegistryHandle;
 import personthecat.catlib.registry.RegistryHandle;
 import personthecat.catlib.registry.RegistryUtils;
@@ -17,7 +18,7 @@ import java.util.concurrent.ConcurrentHashMap;
 @Log4j2
 public class RegistryAddedEventImpl {
     private static final Map<ResourceKey<?>, LibEvent<RegistryAddedCallback<?>>> EVENT_MAP = new ConcurrentHashMap<>();
-    private static final Map<ResourceKey<?>, LibEvent<RegistryAddedCallback<?>>> DYNAMIC_EVENT_MAP = new ConcurrentHashMap<>();
+    private static final Map<ResourceKey<?>, LibEvent<RegistryAddedCallback.Batch<?>>> DYNAMIC_EVENT_MAP = new ConcurrentHashMap<>();
 
     @SuppressWarnings("unchecked")
     public static <T> LibEvent<RegistryAddedCallback<T>> get(final ResourceKey<Registry<T>> key) {
@@ -27,16 +28,33 @@ public class RegistryAddedEventImpl {
 
     public static <T> void withRetroactive(final ResourceKey<Registry<T>> key, final RegistryAddedCallback<T> f) {
         get(key).register(f);
+        runRetroactively(key, RegistryAddedCallback.Batch.forEach(f));
+    }
+
+    public static <T> void withRetroactiveBatch(final ResourceKey<Registry<T>> key, final RegistryAddedCallback.Batch<T> f) {
+        get(key).register(f.perEntry());
         runRetroactively(key, f);
     }
 
     public static <T> void withDynamic(final ResourceKey<Registry<T>> key, final RegistryAddedCallback<T> f) {
         get(key).register(f);
+        runDynamically(key, RegistryAddedCallback.Batch.forEach(f));
+    }
+
+    public static <T> void withDynamicBatch(final ResourceKey<Registry<T>> key, final RegistryAddedCallback.Batch<T> f) {
+        get(key).register(f.perEntry());
         runDynamically(key, f);
     }
 
     public static <T> void exhaustive(final ResourceKey<Registry<T>> key, final RegistryAddedCallback<T> f) {
         get(key).register(f);
+        final RegistryAddedCallback.Batch<T> batch = RegistryAddedCallback.Batch.forEach(f);
+        runRetroactively(key, batch);
+        runDynamically(key, batch);
+    }
+
+    public static <T> void exhaustiveBatch(final ResourceKey<Registry<T>> key, final RegistryAddedCallback.Batch<T> f) {
+        get(key).register(f.perEntry());
         runRetroactively(key, f);
         runDynamically(key, f);
     }
@@ -45,8 +63,8 @@ public class RegistryAddedEventImpl {
     public static void onRegistryAccess(final RegistryAccess registries) {
         DYNAMIC_EVENT_MAP.forEach((key, event) -> {
             final RegistryHandle<Object> registry = (RegistryHandle<Object>) registries.registryOrThrow((ResourceKey) key);
-            registry.forEach((id, t) -> ((LibEvent<RegistryAddedCallback<Object>>) (Object) event).invoker()
-                .onRegistryAdded(registry, id, t));
+            ((LibEvent<RegistryAddedCallback.Batch<Object>>) (Object) event).invoker()
+                .onRegistryAdded(RegistrySnapshot.of(registry));
         });
     }
 
@@ -54,8 +72,10 @@ public class RegistryAddedEventImpl {
         final RegistryHandle<T> handle = RegistryUtils.getHandle(key);
         final LibEvent<RegistryAddedCallback<T>> event = newEvent();
         ((MojangRegistryHandle<T>) handle).getRegistry()
-            .addCallback((AddCallback<T>) (registry, id, k, v) ->
-                event.invoker().onRegistryAdded(handle, k, v));
+            .addCallback((AddCallback<T>) (registry, id, k, v) -> {
+                RegistrySnapshot.invalidate(key);
+                event.invoker().onRegistryAdded(handle, k, v);
+            });
         return event;
     }
 
@@ -63,13 +83,17 @@ public class RegistryAddedEventImpl {
         return LibEvent.nonRecursive(callbacks -> (h, id, t) -> callbacks.forEach(c -> c.onRegistryAdded(h, id, t)));
     }
 
-    private static <T> void runRetroactively(final ResourceKey<Registry<T>> key, final RegistryAddedCallback<T> f) {
-        final RegistryHandle<T> handle = RegistryUtils.getHandle(key);
-        handle.forEach((id, t) -> f.onRegistryAdded(handle, id, t));
+    private static <T> LibEvent<RegistryAddedCallback.Batch<T>> newBatchEvent() {
+        return LibEvent.nonRecursive(callbacks -> snapshot -> callbacks.forEach(c -> c.onRegistryAdded(snapshot)));
+    }
+
+    private static <T> void runRetroactively(final ResourceKey<Registry<T>> key, final RegistryAddedCallback.Batch<T> f) {
+        // callbacks registered back-to-back share a single copy of the registry
+        f.onRegistryAdded(RegistrySnapshot.shared(RegistryUtils.getHandle(key)));
     }
 
     @SuppressWarnings("unchecked")
-    private static <T> void runDynamically(final ResourceKey<Registry<T>> key, final RegistryAddedCallback<T> f) {
-        DYNAMIC_EVENT_MAP.computeIfAbsent(key, k -> (LibEvent<RegistryAddedCallback<?>>) (Object) newEvent()).register(f);
+    private static <T> void runDynamically(final ResourceKey<Registry<T>> key, final RegistryAddedCallback.Batch<T> f) {
+        DYNAMIC_EVENT_MAP.computeIfAbsent(key, k -> (LibEvent<RegistryAddedCallback.Batch<?>>) (Object) newBatchEvent()).register(f);
     }
 }
@@ -14,6 +14,7 @@ import net.neoforged.neoforge.registries.NeoForgeRegistries.Keys;
 import net.neoforged.neoforge.registries.holdersets.HolderSetType;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import personthecat.catlib.mixin.MappedRegistryAccessor;
 import personthecat.catlib.registry.DynamicRegistries;
 import personthecat.catlib.registry.MojangRegistryHandle;
 import personthecat.catlib.registry.RegistryHandle;
@@ -21,13 +22,16 @@ import personthecat.catlib.registry.RegistryHandle;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 public final class RegistryUtilsImpl {
-    private static final Map<Class<?>, RegistryHandle<?>> REGISTRY_BY_TYPE = new ConcurrentHashMap<>();
+    private static final Map<Registry<?>, Optional<RegistryHandle<?>>> HANDLES = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Optional<RegistryHandle<?>>> REGISTRY_BY_TYPE = new ConcurrentHashMap<>();
     private static final Map<ResourceKey<? extends Registry<?>>, RegistryHandle<?>> NEO_REGISTRIES = new ConcurrentHashMap<>();
+    private static volatile @Nullable Map<Class<?>, Registry<?>> builtinIndex;
 
     static {
         // statically map the neo registries by hand since there's no parent registry for them
@@ -52,21 +56,26 @@ public final class RegistryUtilsImpl {
         if (neoHandle != null) {
             return Optional.of((RegistryHandle) neoHandle);
         }
-        final Registry<T> builtinRegistry = (Registry<T>) BuiltInRegistries.REGISTRY.get(key.location());
+        final Registry<?> builtinRegistry = BuiltInRegistries.REGISTRY.get(key.location());
         if (builtinRegistry != null) {
-            return Optional.of(new MojangRegistryHandle<>(builtinRegistry));
+            return (Optional) HANDLES.computeIfAbsent(builtinRegistry, r -> Optional.of(new MojangRegistryHandle<>(r)));
         }
         return Optional.empty();
     }
 
     @NotNull
-    @SuppressWarnings("unchecked")
+    @SuppressWarnings({"rawtypes", "unchecked"})
     public static <T> Optional<RegistryHandle<T>> tryGetByType(final Class<T> clazz) {
-        return Optional.ofNullable((RegistryHandle<T>) REGISTRY_BY_TYPE.computeIfAbsent(clazz, c -> {
-            // neo types mapped statically
-            final RegistryHandle<?> mojang = findMojang(clazz);
-            return mojang != null ? mojang : findCreateDynamic(clazz);
-        }));
+        // neo types mapped statically
+        final Optional<RegistryHandle<?>> cached = REGISTRY_BY_TYPE.get(clazz);
+        if (cached != null) {
+            return (Optional) cached;
+        }
+        if (!isFrozen()) {
+            // registries may still be added or populated, so nothing can be cached yet
+            return (Optional) findRegistry(clazz, scanBuiltins(clazz));
+        }
+        return (Optional) REGISTRY_BY_TYPE.computeIfAbsent(clazz, c -> findRegistry(c, getBuiltinIndex().get(c)));
     }
 
     private static void mapNeo(
@@ -75,34 +84,72 @@ public final class RegistryUtilsImpl {
             final Registry<?> registry) {
         final RegistryHandle<?> handle = new MojangRegistryHandle<>(registry);
         if (type != null) {
-            REGISTRY_BY_TYPE.put(type, handle);
+            REGISTRY_BY_TYPE.put(type, Optional.of(handle));
         }
         NEO_REGISTRIES.put(key, handle);
     }
 
+    private static boolean isFrozen() {
+        return !(BuiltInRegistries.REGISTRY instanceof MappedRegistryAccessor<?> a) || a.isFrozen();
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Optional<RegistryHandle<?>> findRegistry(final Class<?> clazz, final @Nullable Registry<?> builtin) {
+        if (builtin != null) {
+            return (Optional) tryGetHandle((ResourceKey) builtin.key());
+        }
+        final ResourceKey key = DynamicKeys.BY_TYPE.get(clazz);
+        if (key != null) {
+            return Optional.of(DynamicRegistries.getOrCreate(key));
+        }
+        return Optional.empty();
+    }
+
     @Nullable
-    private static RegistryHandle<?> findMojang(final Class<?> clazz) {
+    private static Registry<?> scanBuiltins(final Class<?> clazz) {
         for (final Registry<?> r : BuiltInRegistries.REGISTRY) {
             final var itr = r.iterator();
             if (itr.hasNext() && clazz.isInstance(itr.next())) {
-                return new MojangRegistryHandle<>(r);
+                return r;
             }
         }
         return null;
     }
 
-    @Nullable
-    @SuppressWarnings({"rawtypes", "unchecked"})
-    private static RegistryHandle<?> findCreateDynamic(final Class<?> clazz) {
-        for (final Field f : Registries.class.getFields()) {
-            if (Modifier.isStatic(f.getModifiers()) && clazz.equals(resolveRegistryType(f))) {
-                try {
-                    final var key = (ResourceKey) f.get(null);
-                    return DynamicRegistries.getOrCreate(key);
-                } catch (final ReflectiveOperationException ignored) {}
+    private static Map<Class<?>, Registry<?>> getBuiltinIndex() {
+        Map<Class<?>, Registry<?>> index = builtinIndex;
+        if (index == null) {
+            index = indexBuiltins();
+            builtinIndex = index;
+        }
+        return index;
+    }
+
+    // maps every supertype of each registry's first element, so that any type which
+    // would pass an isInstance check on that element resolves in a single lookup
+    private static Map<Class<?>, Registry<?>> indexBuiltins() {
+        final Map<Class<?>, Registry<?>> index = new HashMap<>();
+        for (final Registry<?> r : BuiltInRegistries.REGISTRY) {
+            final var itr = r.iterator();
+            if (itr.hasNext()) {
+                final Object first = itr.next();
+                if (first != null) {
+                    addSupertypes(index, first.getClass(), r);
+                }
             }
         }
-        return null;
+        return Map.copyOf(index);
+    }
+
+    private static void addSupertypes(final Map<Class<?>, Registry<?>> index, final @Nullable Class<?> c, final Registry<?> r) {
+        // earlier registries win; their supertypes have already been added
+        if (c == null || index.putIfAbsent(c, r) != null) {
+            return;
+        }
+        addSupertypes(index, c.getSuperclass(), r);
+        for (final Class<?> i : c.getInterfaces()) {
+            addSupertypes(index, i, r);
+        }
     }
 
     @Nullable
@@ -121,4 +168,22 @@ public final class RegistryUtilsImpl {
         }
         return null;
     }
+
+    // the fields of Registries never change, so they only need to be scanned once
+    private static final class DynamicKeys {
+        static final Map<Class<?>, ResourceKey<?>> BY_TYPE = indexKeys();
+
+        private static Map<Class<?>, ResourceKey<?>> indexKeys() {
+            final Map<Class<?>, ResourceKey<?>> keys = new HashMap<>();
+            for (final Field f : Registries.class.getFields()) {
+                if (!Modifier.isStatic(f.getModifiers())) continue;
+                final Class<?> type = resolveRegistryType(f);
+                if (type == null) continue;
+                try {
+                    keys.putIfAbsent(type, (ResourceKey<?>) f.get(null));
+                } catch (final ReflectiveOperationException ignored) {}
+            }
+            return Map.copyOf(keys);
+        }
+    }
 }